@@ -0,0 +1,101 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.openai.ChatCompletionChunk;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 응답 디코딩 벤치마크
+ * 기존 String → Map → content String 왕복 방식(mapRoundTrip)과 스트리밍 디코딩을 비교
+ * recommendationCount 2 ≈ p50, 6 ≈ p99 응답 크기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenAiResponseDecoderBenchmark {
+
+    @Param({"2", "6"})
+    private int recommendationCount;
+
+    private ObjectMapper objectMapper;
+    private OpenAiResponseDecoder decoder;
+    private OpenAiResponseDecoder.ContentReader<LearningPathResponse> contentReader;
+    private byte[] completionBody;
+    private String streamChunk;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        decoder = new OpenAiResponseDecoder(objectMapper);
+        contentReader = decoder.readerFor(LearningPathResponse.class);
+        completionBody = completionBody(recommendationCount);
+        streamChunk = "{\"id\":\"chatcmpl-bench\",\"object\":\"chat.completion.chunk\",\"model\":\"gpt-4o-mini\","
+                + "\"choices\":[{\"index\":0,\"delta\":{\"content\":\"실무 경험을 바탕으로\"},\"finish_reason\":null}]}";
+    }
+
+    @Benchmark
+    public LearningPathResponse decodeCompletion() throws Exception {
+        return decoder.decodeCompletion(new ByteArrayInputStream(completionBody), contentReader, usage -> { });
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public LearningPathResponse mapRoundTrip() throws Exception {
+        String result = new String(completionBody, StandardCharsets.UTF_8);
+        Map<String, Object> responseMap = objectMapper.readValue(result, Map.class);
+        String content = (String) ((Map<String, Object>) ((Map<String, Object>)
+                ((List<?>) responseMap.get("choices")).get(0)).get("message")).get("content");
+        return objectMapper.readValue(content, LearningPathResponse.class);
+    }
+
+    @Benchmark
+    public ChatCompletionChunk decodeChunk() throws Exception {
+        return decoder.decodeChunk(streamChunk);
+    }
+
+    private byte[] completionBody(int count) throws Exception {
+        List<LearningRecommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            recommendations.add(LearningRecommendation.builder()
+                    .category("기술스킬")
+                    .title("학습 주제 " + i)
+                    .description("분산 시스템 설계와 대용량 트래픽 처리 경험을 쌓기 위한 심화 학습 과정입니다. ".repeat(7))
+                    .priority("HIGH")
+                    .estimatedDuration("2-3개월")
+                    .learningMethod("프로젝트")
+                    .reason("목표 직무에서 요구하는 핵심 역량이며 현재 경력에서 보완이 필요한 영역입니다. ".repeat(4))
+                    .build());
+        }
+        String content = objectMapper.writeValueAsString(Map.of(
+                "recommendations", recommendations,
+                "targetJobRole", "백엔드 개발자",
+                "currentTechSkills", List.of("Java", "Spring Boot", "MySQL", "Redis", "Kafka"),
+                "overallAssessment", "전반적으로 탄탄한 기본기를 갖추고 있으며 아키텍처 경험을 보완하면 좋습니다. ".repeat(8)));
+
+        return objectMapper.writeValueAsBytes(Map.of(
+                "id", "chatcmpl-bench",
+                "object", "chat.completion",
+                "model", "gpt-4o-mini",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")),
+                "usage", Map.of("prompt_tokens", 812, "completion_tokens", 2100)));
+    }
+}
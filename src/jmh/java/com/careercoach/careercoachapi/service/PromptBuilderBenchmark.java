@@ -0,0 +1,56 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프롬프트 생성 벤치마크 (큰 텍스트 블록에 대한 String.format)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PromptBuilderBenchmark {
+
+    private PromptBuilder promptBuilder;
+    private ResumeInfoRequest request;
+
+    @Setup
+    public void setUp() {
+        promptBuilder = new PromptBuilder(new ObjectMapper());
+        request = new ResumeInfoRequest();
+        request.setJobRole("백엔드 개발자");
+        request.setCareerSummary("5년차 Java/Spring 백엔드 개발자로 대규모 트래픽 커머스 서비스의 주문/결제 도메인을 담당했습니다. "
+                + "MSA 전환과 Kafka 기반 이벤트 아키텍처 도입을 주도했습니다.");
+        request.setTechSkills(List.of("Java", "Spring Boot", "JPA", "MySQL", "Redis", "Kafka", "Kubernetes", "AWS"));
+    }
+
+    @Benchmark
+    public String interviewQuestionsPrompt() {
+        return promptBuilder.interviewQuestions(request);
+    }
+
+    @Benchmark
+    public String learningPathPrompt() {
+        return promptBuilder.learningPath(request);
+    }
+
+    @Benchmark
+    public String comprehensivePrompt() {
+        return promptBuilder.comprehensive(request);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return promptBuilder.toJsonString(request.getTechSkills());
+    }
+}
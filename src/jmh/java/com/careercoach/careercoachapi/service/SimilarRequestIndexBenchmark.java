@@ -0,0 +1,63 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 요청 조회 벤치마크 (SampleTime 모드로 p99 지연 확인, 목표: 100만 항목에서 p99 1ms 미만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimilarRequestIndexBenchmark {
+
+    private static final List<String> ROLES = List.of("백엔드 개발자", "프론트엔드 개발자", "데이터 엔지니어", "DevOps 엔지니어", "안드로이드 개발자");
+    private static final List<List<String>> SKILLS = List.of(
+            List.of("Java", "Spring Boot"), List.of("React", "TypeScript"), List.of("Spark", "Python"),
+            List.of("Kubernetes", "AWS"), List.of("Kotlin"));
+
+    @Param({"1000000"})
+    private int entries;
+
+    private SimilarRequestIndex index;
+    private CanonicalRequestKey[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(1);
+        index = new SimilarRequestIndex(true, 0.7, entries);
+        for (int i = 0; i < entries; i++) {
+            index.add(randomKey(random));
+        }
+        queries = new CanonicalRequestKey[4096];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomKey(random);
+        }
+    }
+
+    @Benchmark
+    public List<SimilarRequestIndex.Match> findSimilar() {
+        cursor = (cursor + 1) & (queries.length - 1);
+        return index.findSimilar(queries[cursor]);
+    }
+
+    private static CanonicalRequestKey randomKey(SplittableRandom random) {
+        int group = random.nextInt(ROLES.size());
+        String summary = (random.nextInt(10) + 1) + "년차 개발자로 " + random.nextInt(1_000_000)
+                + "개 주문을 처리하는 서비스의 " + random.nextInt(1000) + "번 프로젝트를 담당했습니다.";
+        return CanonicalRequestKey.from(new ResumeInfoRequest(summary, ROLES.get(group), SKILLS.get(group)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 이벤트 직렬화 벤치마크
+ * SseSessionManager.send 경로와 같이 SseEmitter 이벤트로 변환한 뒤,
+ * 문자열 부분은 UTF-8로, 데이터(Map.of 페이로드)는 Jackson 메시지 컨버터처럼 JSON 바이트로 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SseEventSerializationBenchmark {
+
+    private SseEventSender eventSender;
+    private ObjectMapper objectMapper;
+    private LearningRecommendation recommendation;
+
+    @Setup
+    public void setUp() {
+        eventSender = new SseEventSender(new SseSessionManager());
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        recommendation = LearningRecommendation.builder()
+                .category("기술스킬")
+                .title("Kafka 기반 이벤트 아키텍처 심화")
+                .description("분산 시스템 설계와 대용량 트래픽 처리 경험을 쌓기 위한 심화 학습 과정입니다. ".repeat(4))
+                .priority("HIGH")
+                .estimatedDuration("2-3개월")
+                .learningMethod("프로젝트")
+                .reason("목표 직무에서 요구하는 핵심 역량입니다.")
+                .build();
+    }
+
+    @Benchmark
+    public int interviewDelta() throws Exception {
+        return serialize(eventSender.interviewDeltaEvent("실무 경험을"));
+    }
+
+    @Benchmark
+    public int questionReady() throws Exception {
+        return serialize(eventSender.questionReadyEvent(0,
+                "대규모 트래픽 환경에서 주문 시스템의 데이터 정합성을 어떻게 보장했는지 설명해주세요."));
+    }
+
+    @Benchmark
+    public int recommendationReady() throws Exception {
+        return serialize(eventSender.recommendationReadyEvent(0, recommendation));
+    }
+
+    private int serialize(ServerSentEvent<Object> event) throws Exception {
+        int bytes = 0;
+        for (ResponseBodyEmitter.DataWithMediaType part : SseEventSender.toEmitterEvent(event).build()) {
+            bytes += part.getData() instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8).length
+                    : objectMapper.writeValueAsBytes(part.getData()).length;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,48 @@
+package com.careercoach.careercoachapi.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 생성 처리량 벤치마크 (8개 스레드 동시 생성, 목표: 초당 1만 개 이상)
+ * 세션 ID 생성과 등록을 측정하고, 세션 수가 계속 늘지 않도록 만든 세션은 바로 제거
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class SseSessionCreationBenchmark {
+
+    private SseSessionManager sessionManager;
+    private SessionIdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionManager = new SseSessionManager();
+        idGenerator = new SessionIdGenerator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionManager.shutdown();
+    }
+
+    @Benchmark
+    public String createSession() {
+        String sessionId = "stream-" + idGenerator.nextId();
+        sessionManager.createSession(sessionId, new SseEmitter());
+        sessionManager.removeSession(sessionId);
+        return sessionId;
+    }
+}
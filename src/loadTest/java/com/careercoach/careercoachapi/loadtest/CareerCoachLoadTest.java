@@ -0,0 +1,79 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SSE 스트리밍 엔드투엔드 부하 테스트
+ * 실행: ./gradlew loadTest -Ploadtest.clients=200 -Ploadtest.latency.median-ms=1500 -Pcareer-coach.http.max-connections=50
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("SSE 스트리밍 부하 테스트")
+class CareerCoachLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final FakeOpenAiServer FAKE_OPENAI = new FakeOpenAiServer(SETTINGS);
+    private static final String ADMISSION_REJECTED = "http_429";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        FAKE_OPENAI.start();
+        registry.add("openai.api.base-url", FAKE_OPENAI::baseUrl);
+        registry.add("openai.api.key", () -> "load-test-key");
+        registry.add("openai.api.stream", LoadTestSettings::streamEnabled);
+        registry.add("server.tomcat.mbeanregistry.enabled", () -> true);  // tomcat.threads.busy 게이지
+    }
+
+    @AfterAll
+    static void stopFakeOpenAi() {
+        FAKE_OPENAI.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 SSE 클라이언트 부하에서 처리량/지연/자원 사용량 측정")
+    void streamCareerCoaching_UnderLoad() throws Exception {
+        // Given
+        URI streamUri = URI.create("http://localhost:" + port + "/api/v1/career-coach/career-coaching/stream");
+        SseLoadClient client = new SseLoadClient(streamUri, SETTINGS);
+
+        // When
+        LoadTestReport report;
+        try (ResourceSampler sampler = new ResourceSampler(meterRegistry)) {
+            sampler.start();
+            long start = System.nanoTime();
+            List<SseLoadClient.RequestResult> results = client.run();
+            report = new LoadTestReport(results, System.nanoTime() - start,
+                    sampler.getPeaks(), FAKE_OPENAI.getStats());
+        }
+        System.out.println(report.format(SETTINGS));
+
+        // Then - 오류를 주입하지 않았다면 모든 요청이 완료되거나 입장 제어로 거절(429)되어야 함
+        // (REJECT 모드의 실제 동시 세션 상한은 제한기 limit / 세션당 호출 수이므로 기본 설정에서도 일부는 429)
+        assertThat(report.results()).hasSize(SETTINGS.totalRequests());
+        if (!SETTINGS.injectsFailures()) {
+            long rejected = report.outcomes().getOrDefault(ADMISSION_REJECTED, 0L);
+            assertThat(report.completedCount()).isPositive();
+            assertThat(report.completedCount() + rejected).isEqualTo(SETTINGS.totalRequests());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 OpenAI 대역 서버 (MockWebServer 기반)
+ * /chat/completions 요청에 대해 로그정규분포로 샘플링한 지연 후 응답하며,
+ * 요청 본문의 stream 값에 따라 SSE 청크 또는 단일 JSON으로 응답
+ * 설정한 비율만큼 500 오류와 429(Retry-After) 응답을 주입
+ */
+public class FakeOpenAiServer {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeOpenAiServer.class);
+
+    private static final double Z_99 = 2.326;  // 표준정규분포 99 백분위 z값
+    private static final String STREAM_DONE = "data: [DONE]\n\n";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockWebServer server = new MockWebServer();
+    private final String content;  // choices[0].message.content (면접 질문 + 학습 경로 필드를 모두 포함)
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+
+    public FakeOpenAiServer(LoadTestSettings settings) {
+        this.settings = settings;
+        this.content = toJson(sampleContent());
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+    }
+
+    public void start() {
+        try {
+            server.start();
+            log.info("OpenAI 대역 서버 시작 - {}", baseUrl());
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI 대역 서버를 시작할 수 없습니다.", e);
+        }
+    }
+
+    public void shutdown() {
+        try {
+            server.shutdown();
+        } catch (IOException e) {
+            log.warn("OpenAI 대역 서버 종료 실패", e);
+        }
+    }
+
+    /**
+     * openai.api.base-url 로 사용할 주소
+     */
+    public String baseUrl() {
+        String url = server.url("/v1").toString();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "requests", requestCount.get(),
+                "errors", errorCount.get(),
+                "rateLimited", rateLimitedCount.get());
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        requestCount.incrementAndGet();
+        if (!request.getPath().endsWith("/chat/completions")) {
+            return new MockResponse().setResponseCode(404);
+        }
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < settings.rateLimitRate()) {
+            rateLimitedCount.incrementAndGet();
+            return errorResponse(429, "rate_limit_exceeded", "Rate limit reached")
+                    .setHeader("Retry-After", "1");
+        }
+        if (roll < settings.rateLimitRate() + settings.errorRate()) {
+            errorCount.incrementAndGet();
+            return errorResponse(500, "server_error", "The server had an error while processing your request")
+                    .setHeadersDelay(sampleLatencyMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return isStreamRequest(request) ? streamResponse() : jsonResponse();
+    }
+
+    /**
+     * 비스트리밍 응답: 생성 시간 전체를 헤더 지연으로 표현
+     */
+    private MockResponse jsonResponse() {
+        Map<String, Object> body = Map.of(
+                "id", "chatcmpl-fake",
+                "object", "chat.completion",
+                "model", "gpt-4o-mini",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")),
+                "usage", usage());
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeadersDelay(sampleLatencyMillis(), TimeUnit.MILLISECONDS)
+                .setBody(toJson(body));
+    }
+
+    /**
+     * 스트리밍 응답: 첫 토큰까지의 지연은 본문 지연으로, 이후 토큰 속도는 본문 전송 속도 제한으로 표현
+     */
+    private MockResponse streamResponse() {
+        StringBuilder body = new StringBuilder();
+        int chunkCount = 0;
+        for (int start = 0; start < content.length(); start += settings.chunkChars()) {
+            String delta = content.substring(start, Math.min(content.length(), start + settings.chunkChars()));
+            body.append("data: ").append(toJson(Map.of(
+                    "id", "chatcmpl-fake",
+                    "object", "chat.completion.chunk",
+                    "choices", List.of(Map.of("index", 0, "delta", Map.of("content", delta)))))).append("\n\n");
+            chunkCount++;
+        }
+        body.append("data: ").append(toJson(Map.of("choices", List.of(), "usage", usage()))).append("\n\n");
+        body.append(STREAM_DONE);
+
+        long bytesPerChunk = Math.max(1, body.toString().getBytes(StandardCharsets.UTF_8).length / (chunkCount + 2));
+        return new MockResponse()
+                .setHeader("Content-Type", "text/event-stream")
+                .setBodyDelay(sampleLatencyMillis(), TimeUnit.MILLISECONDS)
+                .throttleBody(bytesPerChunk, settings.chunkIntervalMs(), TimeUnit.MILLISECONDS)
+                .setBody(body.toString());
+    }
+
+    private MockResponse errorResponse(int status, String code, String message) {
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader("Content-Type", "application/json")
+                .setBody(toJson(Map.of("error", Map.of("message", message, "type", code, "code", code))));
+    }
+
+    /**
+     * 중앙값과 p99로 정한 로그정규분포에서 지연 샘플링
+     */
+    private long sampleLatencyMillis() {
+        double median = Math.max(1, settings.latencyMedianMs());
+        double sigma = Math.log(Math.max(median, settings.latencyP99Ms()) / median) / Z_99;
+        return Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private boolean isStreamRequest(RecordedRequest request) {
+        try {
+            return objectMapper.readTree(request.getBody().readUtf8()).path("stream").asBoolean(false);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Map<String, Object> usage() {
+        return Map.of(
+                "prompt_tokens", 800,
+                "completion_tokens", content.length() / 2,
+                "total_tokens", 800 + content.length() / 2);
+    }
+
+    /**
+     * 면접 질문/학습 경로/통합 응답을 모두 만족하는 content (questions를 먼저 두어 조기 종료 경로도 사용)
+     */
+    private Map<String, Object> sampleContent() {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("questions", IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "부하 테스트 면접 질문 " + i + ": 대규모 트래픽 환경에서 겪은 장애와 해결 과정을 STAR 방식으로 설명해주세요.")
+                .toList());
+        content.put("recommendations", IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> Map.of(
+                        "category", "기술스킬",
+                        "title", "학습 주제 " + i,
+                        "description", "분산 시스템 설계와 대용량 트래픽 처리 경험을 쌓기 위한 심화 학습 과정입니다.",
+                        "priority", "HIGH",
+                        "estimatedDuration", "2-3개월",
+                        "learningMethod", "프로젝트",
+                        "reason", "목표 직무에서 요구하는 핵심 역량입니다."))
+                .toList());
+        content.put("targetJobRole", "백엔드 개발자");
+        content.put("techSkills", List.of("Java", "Spring Boot"));
+        content.put("currentTechSkills", List.of("Java", "Spring Boot"));
+        content.put("overallAssessment", "전반적으로 탄탄한 기본기를 갖추고 있으며 아키텍처 경험을 보완하면 좋습니다.");
+        return content;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import com.careercoach.careercoachapi.loadtest.SseLoadClient.RequestResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과 요약 (처리량, 첫 이벤트 시간, 완료 시간 백분위, 자원 사용량 최대값)
+ */
+public record LoadTestReport(
+        List<RequestResult> results,
+        long wallClockNanos,
+        Map<String, Double> resourcePeaks,
+        Map<String, Long> upstreamStats) {
+
+    public long completedCount() {
+        return results.stream().filter(RequestResult::isCompleted).count();
+    }
+
+    public Map<String, Long> outcomes() {
+        return results.stream().collect(Collectors.groupingBy(RequestResult::outcome, TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * 초당 완료 요청 수
+     */
+    public double throughput() {
+        return completedCount() / (wallClockNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 완료된 요청의 첫 생성 결과 이벤트 시간 백분위 (ms)
+     */
+    public long firstEventPercentile(double percentile) {
+        return percentile(RequestResult::firstEventNanos, percentile);
+    }
+
+    /**
+     * 완료된 요청의 전체 완료 시간 백분위 (ms)
+     */
+    public long completionPercentile(double percentile) {
+        return percentile(RequestResult::totalNanos, percentile);
+    }
+
+    public String format(LoadTestSettings settings) {
+        StringBuilder report = new StringBuilder("\n===== 부하 테스트 결과 =====\n");
+        report.append(String.format("설정: 클라이언트 %d x %d회, 지연 중앙값 %dms / p99 %dms, 오류 %.1f%%, 429 %.1f%%%n",
+                settings.clients(), settings.requestsPerClient(), settings.latencyMedianMs(), settings.latencyP99Ms(),
+                settings.errorRate() * 100, settings.rateLimitRate() * 100));
+        report.append(String.format("요청: %d, 완료: %d, 결과별: %s%n", results.size(), completedCount(), outcomes()));
+        report.append(String.format("소요 시간: %.1fs, 처리량: %.2f 완료/s%n",
+                wallClockNanos / 1_000_000_000.0, throughput()));
+        report.append(String.format("첫 이벤트(ms)  p50 %d / p90 %d / p99 %d / max %d%n",
+                firstEventPercentile(50), firstEventPercentile(90), firstEventPercentile(99), firstEventPercentile(100)));
+        report.append(String.format("완료 시간(ms)  p50 %d / p90 %d / p99 %d / max %d%n",
+                completionPercentile(50), completionPercentile(90), completionPercentile(99), completionPercentile(100)));
+        report.append("자원 최대값: ").append(resourcePeaks).append('\n');
+        report.append("업스트림(대역 서버): ").append(upstreamStats).append('\n');
+        return report.toString();
+    }
+
+    /**
+     * nearest-rank 방식 백분위
+     */
+    private long percentile(ToLongFunction<RequestResult> metric, double percentile) {
+        long[] values = results.stream()
+                .filter(RequestResult::isCompleted)
+                .mapToLong(metric)
+                .filter(value -> value >= 0)
+                .sorted()
+                .toArray();
+        if (values.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * values.length);
+        return TimeUnit.NANOSECONDS.toMillis(values[Math.clamp(rank - 1, 0, values.length - 1)]);
+    }
+}
@@ -0,0 +1,59 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 지정)
+ *
+ * @param clients            동시 SSE 클라이언트 수
+ * @param requestsPerClient  클라이언트당 순차 요청 수
+ * @param uniqueRequests     요청마다 다른 경력 요약을 보내 캐시/합류 효과를 배제할지 여부
+ * @param latencyMedianMs    대역 서버 첫 토큰(비스트리밍은 전체 응답) 지연 중앙값
+ * @param latencyP99Ms       대역 서버 지연 p99 (로그정규분포로 샘플링)
+ * @param chunkChars         스트리밍 청크당 content 문자 수
+ * @param chunkIntervalMs    스트리밍 청크 간격
+ * @param errorRate          500 응답 비율 (0.0 ~ 1.0)
+ * @param rateLimitRate      429 응답 비율 (0.0 ~ 1.0)
+ * @param requestTimeout     요청 하나의 최대 대기 시간
+ */
+public record LoadTestSettings(
+        int clients,
+        int requestsPerClient,
+        boolean uniqueRequests,
+        long latencyMedianMs,
+        long latencyP99Ms,
+        int chunkChars,
+        long chunkIntervalMs,
+        double errorRate,
+        double rateLimitRate,
+        Duration requestTimeout) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.clients", 50),
+                Integer.getInteger("loadtest.requests-per-client", 1),
+                Boolean.parseBoolean(System.getProperty("loadtest.unique-requests", "true")),
+                Long.getLong("loadtest.latency.median-ms", 800),
+                Long.getLong("loadtest.latency.p99-ms", 3000),
+                Integer.getInteger("loadtest.stream.chunk-chars", 16),
+                Long.getLong("loadtest.stream.chunk-interval-ms", 20),
+                Double.parseDouble(System.getProperty("loadtest.error-rate", "0.0")),
+                Double.parseDouble(System.getProperty("loadtest.rate-limit-rate", "0.0")),
+                Duration.ofSeconds(Long.getLong("loadtest.timeout-seconds", 120)));
+    }
+
+    /**
+     * 스트리밍 응답 여부 (앱의 openai.api.stream 설정으로 전달)
+     */
+    public static boolean streamEnabled() {
+        return Boolean.parseBoolean(System.getProperty("loadtest.stream", "true"));
+    }
+
+    public int totalRequests() {
+        return clients * requestsPerClient;
+    }
+
+    public boolean injectsFailures() {
+        return errorRate > 0 || rateLimitRate > 0;
+    }
+}
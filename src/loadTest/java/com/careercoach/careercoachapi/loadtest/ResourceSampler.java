@@ -0,0 +1,70 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 중 자원 사용량 샘플링
+ * 주기적으로 JVM 스레드 수와 연결 풀/실행기/톰캣 게이지를 읽어 구간 최대값을 기록
+ */
+public class ResourceSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MS = 100;
+
+    // 보고서 항목 이름 → 게이지 이름 (같은 이름의 게이지는 태그와 무관하게 합산)
+    private static final Map<String, String> GAUGES = Map.of(
+            "pool.active.connections", "reactor.netty.connection.provider.active.connections",
+            "pool.pending.acquire", "reactor.netty.connection.provider.pending.connections",
+            "executor.running", "coaching.executor.running",
+            "executor.queue.depth", "coaching.executor.queue.depth",
+            "tomcat.threads.busy", "tomcat.threads.busy");
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final Map<String, Double> peaks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public ResourceSampler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void start() {
+        threadBean.resetPeakThreadCount();
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 항목별 최대값 (게이지가 없는 항목은 제외)
+     */
+    public Map<String, Double> getPeaks() {
+        Map<String, Double> result = new TreeMap<>(peaks);
+        result.put("jvm.threads.peak", (double) threadBean.getPeakThreadCount());
+        return result;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        sample();
+    }
+
+    private void sample() {
+        GAUGES.forEach((name, gaugeName) -> {
+            List<Gauge> gauges = List.copyOf(meterRegistry.find(gaugeName).gauges());
+            if (!gauges.isEmpty()) {
+                double total = gauges.stream().mapToDouble(Gauge::value).filter(v -> !Double.isNaN(v)).sum();
+                peaks.merge(name, total, Math::max);
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.careercoach.careercoachapi.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * 동시 SSE 클라이언트
+ * 클라이언트마다 가상 스레드 하나로 /career-coaching/stream 을 호출하고 이벤트를 끝까지 읽으며
+ * 첫 생성 결과 이벤트까지의 시간과 완료까지의 시간을 기록
+ */
+public class SseLoadClient {
+
+    // 생성 결과가 아닌 안내성 이벤트 (첫 이벤트 시간 측정에서 제외)
+    private static final Set<String> PRELUDE_EVENTS =
+            Set.of("connected", "processing_start", "interview_start", "learning_start");
+    private static final Set<String> TERMINAL_EVENTS = Set.of("completed", "error");
+
+    private final URI streamUri;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    public SseLoadClient(URI streamUri, LoadTestSettings settings) {
+        this.streamUri = streamUri;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 설정한 클라이언트 수만큼 동시에 요청하고 모든 결과를 모아 반환
+     */
+    public List<RequestResult> run() throws Exception {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<RequestResult>>> futures = new ArrayList<>();
+            for (int client = 0; client < settings.clients(); client++) {
+                int clientId = client;
+                futures.add(clients.submit(() -> {
+                    List<RequestResult> results = new ArrayList<>();
+                    for (int i = 0; i < settings.requestsPerClient(); i++) {
+                        results.add(execute(clientId * settings.requestsPerClient() + i));
+                    }
+                    return results;
+                }));
+            }
+
+            List<RequestResult> results = new ArrayList<>();
+            for (Future<List<RequestResult>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        }
+    }
+
+    private RequestResult execute(int requestId) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(streamUri)
+                    .timeout(settings.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .POST(HttpRequest.BodyPublishers.ofString(requestBody(requestId)))
+                    .build();
+            HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                return RequestResult.rejected(response.statusCode(), System.nanoTime() - start);
+            }
+
+            long firstEventNanos = -1;
+            try (Stream<String> lines = response.body()) {
+                Iterator<String> iterator = lines.iterator();
+                while (iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (!line.startsWith("event:")) {
+                        continue;
+                    }
+                    String event = line.substring("event:".length()).trim();
+                    if (firstEventNanos < 0 && !PRELUDE_EVENTS.contains(event)) {
+                        firstEventNanos = System.nanoTime() - start;
+                    }
+                    if (TERMINAL_EVENTS.contains(event)) {
+                        return RequestResult.finished(event, firstEventNanos, System.nanoTime() - start);
+                    }
+                }
+            }
+            return RequestResult.finished("closed", firstEventNanos, System.nanoTime() - start);
+        } catch (Exception e) {
+            return RequestResult.failed(e.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+    }
+
+    private String requestBody(int requestId) throws JsonProcessingException {
+        String careerSummary = settings.uniqueRequests()
+                ? "부하 테스트 요청 " + requestId + " - 3년차 Spring Boot 기반 커머스 백엔드 개발"
+                : "부하 테스트 요청 - 3년차 Spring Boot 기반 커머스 백엔드 개발";
+        return objectMapper.writeValueAsString(Map.of(
+                "careerSummary", careerSummary,
+                "jobRole", "백엔드 개발자",
+                "techSkills", List.of("Java", "Spring Boot", "MySQL", "AWS")));
+    }
+
+    /**
+     * 요청 하나의 결과
+     *
+     * @param outcome          completed, error(에러 이벤트), closed(종료 이벤트 없이 끊김), http_xxx, 예외 이름
+     * @param firstEventNanos  첫 생성 결과 이벤트까지의 시간 (없으면 -1)
+     * @param totalNanos       요청부터 스트림 종료까지의 시간
+     */
+    public record RequestResult(String outcome, long firstEventNanos, long totalNanos) {
+
+        static RequestResult finished(String terminalEvent, long firstEventNanos, long totalNanos) {
+            return new RequestResult(terminalEvent, firstEventNanos, totalNanos);
+        }
+
+        static RequestResult rejected(int status, long totalNanos) {
+            return new RequestResult("http_" + status, -1, totalNanos);
+        }
+
+        static RequestResult failed(String exception, long totalNanos) {
+            return new RequestResult(exception, -1, totalNanos);
+        }
+
+        public boolean isCompleted() {
+            return "completed".equals(outcome);
+        }
+    }
+}
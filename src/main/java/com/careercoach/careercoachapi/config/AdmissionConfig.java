@@ -0,0 +1,32 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.AdaptiveConcurrencyLimiter;
+import com.careercoach.careercoachapi.service.AdmissionController;
+import com.careercoach.careercoachapi.service.GenerationTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class AdmissionConfig {
+
+    @Bean(destroyMethod = "close")  // 애플리케이션 종료 시 대기 시간 초과 타이머 종료
+    public AdmissionController admissionController(
+            @Value("${career-coach.admission.mode:REJECT}") AdmissionController.Mode mode,
+            @Value("${career-coach.admission.max-concurrent-sessions:40}") int maxConcurrentSessions,
+            @Value("${career-coach.admission.queue-capacity:50}") int queueCapacity,
+            @Value("${career-coach.admission.max-queue-wait:15s}") Duration maxQueueWait,
+            AdaptiveConcurrencyLimiter openAiConcurrencyLimiter,
+            GenerationTracker generationTracker) {
+
+        log.info("스트리밍 입장 제어 - 모드: {}, 최대 세션: {}, 대기열: {}, 최대 대기: {}",
+                mode, maxConcurrentSessions, queueCapacity, maxQueueWait);
+        // 업스트림 여유는 적응형 제한기의 현재 limit을 기준으로 판단
+        return new AdmissionController(mode, maxConcurrentSessions, openAiConcurrencyLimiter::getLimit,
+                queueCapacity, maxQueueWait, generationTracker);
+    }
+}
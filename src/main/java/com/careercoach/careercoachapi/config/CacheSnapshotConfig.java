@@ -0,0 +1,29 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CoachingCacheSnapshot;
+import com.careercoach.careercoachapi.service.SimilarRequestIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class CacheSnapshotConfig {
+
+    // 시작 시 백그라운드 적재 + 주기적 기록, 종료 시 마지막 스냅샷 기록
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CoachingCacheSnapshot coachingCacheSnapshot(
+            @Value("${career-coach.cache-snapshot.file:./data/cache/coaching-cache.snapshot}") Path file,
+            @Value("${career-coach.cache-snapshot.interval:5m}") Duration interval,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            SimilarRequestIndex similarRequestIndex) {
+        CoachingCacheSnapshot snapshot = new CoachingCacheSnapshot(cacheManager, objectMapper, file, interval);
+        snapshot.setLoadListener(similarRequestIndex::add);  // 적재한 결과도 유사 요청 재사용 대상
+        return snapshot;
+    }
+}
@@ -0,0 +1,41 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CacheWarmer;
+import com.careercoach.careercoachapi.service.CareerCoachService;
+import com.careercoach.careercoachapi.service.CoachingResultCache;
+import com.careercoach.careercoachapi.service.HeavyHitterTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+@Configuration
+public class CacheWarmingConfig {
+
+    @Bean
+    public HeavyHitterTracker heavyHitterTracker(
+            @Value("${career-coach.cache-warming.tracker-capacity:1000}") int trackerCapacity) {
+        return new HeavyHitterTracker(trackerCapacity);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CacheWarmer cacheWarmer(
+            HeavyHitterTracker heavyHitterTracker,
+            CareerCoachService careerCoachService,
+            CoachingResultCache resultCache,
+            @Value("${career-coach.cache-warming.top-k:30}") int topK,
+            @Value("${career-coach.cache-warming.token-budget:300000}") long tokenBudget,
+            @Value("${career-coach.cache-warming.off-peak-start:02:00}") String offPeakStart,
+            @Value("${career-coach.cache-warming.off-peak-end:06:00}") String offPeakEnd,
+            @Value("${career-coach.cache-warming.zone:Asia/Seoul}") String zone,
+            @Value("${career-coach.cache-warming.refresh-after:3h}") Duration refreshAfter,
+            @Value("${career-coach.cache-warming.interval:10m}") Duration interval) {
+        return new CacheWarmer(heavyHitterTracker, careerCoachService, resultCache, topK, tokenBudget,
+                LocalTime.parse(offPeakStart), LocalTime.parse(offPeakEnd), refreshAfter, interval,
+                Clock.system(ZoneId.of(zone)));
+    }
+}
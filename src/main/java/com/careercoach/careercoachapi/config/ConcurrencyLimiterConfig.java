@@ -0,0 +1,34 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.AdaptiveConcurrencyLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class ConcurrencyLimiterConfig {
+
+    /**
+     * OpenAI 호출 동시성 적응형 제한기
+     * 최대값은 연결 풀 크기로 제한하여 허가를 받은 호출이 연결 대기로 밀리지 않도록 함
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter openAiConcurrencyLimiter(
+            @Value("${career-coach.limiter.initial-limit:10}") int initialLimit,
+            @Value("${career-coach.limiter.min-limit:2}") int minLimit,
+            @Value("${career-coach.limiter.backoff-ratio:0.5}") double backoffRatio,
+            @Value("${career-coach.limiter.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${career-coach.limiter.decrease-cooldown:1s}") Duration decreaseCooldown,
+            @Value("${career-coach.http.max-connections:20}") int maxConnections,
+            @Value("${career-coach.http.pending-acquire-timeout:5s}") Duration acquireTimeout) {
+
+        log.info("OpenAI 동시 호출 제한 - 초기: {}, 범위: {}~{}, 감소 비율: {}, 지연 허용 배수: {}",
+                initialLimit, minLimit, maxConnections, backoffRatio, latencyTolerance);
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxConnections, backoffRatio,
+                latencyTolerance, decreaseCooldown, acquireTimeout);
+    }
+}
@@ -0,0 +1,30 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.GenerationExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class GenerationExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")  // 애플리케이션 종료 시 진행 중인 생성 작업 완료 대기
+    public GenerationExecutor generationExecutor(
+            @Value("${career-coach.executor.mode:BOUNDED}") GenerationExecutor.Mode mode,
+            @Value("${career-coach.executor.pool-size:64}") int poolSize,
+            @Value("${career-coach.executor.queue-capacity:200}") int queueCapacity,
+            @Value("${career-coach.executor.keep-alive:60s}") Duration keepAlive) {
+
+        if (mode == GenerationExecutor.Mode.VIRTUAL) {
+            log.info("생성 작업 실행기 - 가상 스레드 모드");
+            return GenerationExecutor.virtual();
+        }
+
+        log.info("생성 작업 실행기 - 스레드 풀 모드 (pool: {}, queue: {})", poolSize, queueCapacity);
+        return GenerationExecutor.bounded(poolSize, queueCapacity, keepAlive);
+    }
+}
@@ -4,6 +4,7 @@ package com.careercoach.careercoachapi.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -18,14 +19,17 @@ import java.util.concurrent.TimeUnit;
 public class HttpConfig {
 
     @Bean   // 스프링 컨테이너에 빈으로 등록
-    public WebClient webClient() {
+    public WebClient webClient(
+            @Value("${career-coach.http.max-connections:20}") int maxConnections,
+            @Value("${career-coach.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout) {
         // ConnectionProvider 설정: HTTP 연결 풀 관리를 위한 설정
         ConnectionProvider connectionProvider = ConnectionProvider.builder("career-coach-pool")
-                .maxConnections(20)                              // 동시에 유지할 수 있는 최대 연결 수
+                .maxConnections(maxConnections)                  // 동시에 유지할 수 있는 최대 연결 수
                 .maxIdleTime(Duration.ofSeconds(20))            // 유휴 상태의 연결을 유지할 최대 시간
                 .maxLifeTime(Duration.ofSeconds(60))            // 연결의 최대 수명 시간
-                .pendingAcquireTimeout(Duration.ofSeconds(5))   // 연결 획득 대기 제한 시간
+                .pendingAcquireTimeout(pendingAcquireTimeout)   // 연결 획득 대기 제한 시간
                 .evictInBackground(Duration.ofSeconds(30))      // 백그라운드에서 만료된 연결 제거 주기
+                .metrics(true)                                   // 풀 지표 발행 (reactor.netty.connection.provider.*)
                 .build();
 
         // HttpClient 설정: 기본적인 HTTP 클라이언트 동작 설정
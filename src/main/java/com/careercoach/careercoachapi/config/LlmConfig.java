@@ -0,0 +1,83 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CoachingMetrics;
+import com.careercoach.careercoachapi.service.LlmProvider;
+import com.careercoach.careercoachapi.service.LlmRouter;
+import com.careercoach.careercoachapi.service.OpenAiCompatibleProvider;
+import com.careercoach.careercoachapi.service.OpenAiResponseDecoder;
+import com.careercoach.careercoachapi.service.StubLlmProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class LlmConfig {
+
+    /**
+     * 기본 OpenAI 제공자 (openai.api.*)
+     */
+    @Bean
+    public LlmProvider openAiProvider(WebClient webClient, OpenAiResponseDecoder responseDecoder,
+                                      CoachingMetrics coachingMetrics,
+                                      @Value("${openai.api.base-url:https://api.openai.com/v1}") String baseUrl,
+                                      @Value("${openai.api.key}") String apiKey) {
+        return new OpenAiCompatibleProvider("openai", baseUrl, apiKey, webClient, responseDecoder, coachingMetrics);
+    }
+
+    /**
+     * 보조 OpenAI 호환 엔드포인트 (openai.fallback.base-url이 설정된 경우에만 등록)
+     */
+    @Bean
+    @ConditionalOnExpression("!'${openai.fallback.base-url:}'.isEmpty()")
+    public LlmProvider openAiFallbackProvider(WebClient webClient, OpenAiResponseDecoder responseDecoder,
+                                              CoachingMetrics coachingMetrics,
+                                              @Value("${openai.fallback.base-url}") String baseUrl,
+                                              @Value("${openai.fallback.key:${openai.api.key}}") String apiKey) {
+        return new OpenAiCompatibleProvider("openai-fallback", baseUrl, apiKey, webClient, responseDecoder,
+                coachingMetrics);
+    }
+
+    /**
+     * 로컬 스텁 제공자 (경로를 stub:<모델>로 지정하면 네트워크 없이 동작)
+     */
+    @Bean
+    public LlmProvider stubLlmProvider(ObjectMapper objectMapper, OpenAiResponseDecoder responseDecoder,
+                                       @Value("${career-coach.llm.stub.chunk-interval:20ms}") Duration chunkInterval) {
+        return new StubLlmProvider(objectMapper, responseDecoder, chunkInterval);
+    }
+
+    /**
+     * 작업별 호출 경로 - 생성 옵션을 작업별로 지정하지 않으면 openai.api.* 값을 사용
+     */
+    @Bean
+    public LlmRouter llmRouter(
+            List<LlmProvider> providers,
+            @Value("${career-coach.llm.routes.interview.models:openai:${openai.api.model:gpt-4o-mini}}") String interviewModels,
+            @Value("${career-coach.llm.routes.interview.max-tokens:${openai.api.max-tokens:3000}}") int interviewMaxTokens,
+            @Value("${career-coach.llm.routes.interview.temperature:${openai.api.temperature:0.3}}") double interviewTemperature,
+            @Value("${career-coach.llm.routes.interview.timeout:${openai.api.timeout:30s}}") Duration interviewTimeout,
+            @Value("${career-coach.llm.routes.learning.models:openai:${openai.api.model:gpt-4o-mini}}") String learningModels,
+            @Value("${career-coach.llm.routes.learning.max-tokens:${openai.api.max-tokens:3000}}") int learningMaxTokens,
+            @Value("${career-coach.llm.routes.learning.temperature:${openai.api.temperature:0.3}}") double learningTemperature,
+            @Value("${career-coach.llm.routes.learning.timeout:${openai.api.timeout:30s}}") Duration learningTimeout,
+            @Value("${career-coach.llm.routes.combined.models:openai:${openai.api.model:gpt-4o-mini}}") String combinedModels,
+            @Value("${career-coach.llm.routes.combined.max-tokens:${openai.api.max-tokens:3000}}") int combinedMaxTokens,
+            @Value("${career-coach.llm.routes.combined.temperature:${openai.api.temperature:0.3}}") double combinedTemperature,
+            @Value("${career-coach.llm.routes.combined.timeout:${openai.api.timeout:30s}}") Duration combinedTimeout) {
+
+        return new LlmRouter(providers, Map.of(
+                "interview", LlmRouter.parseRoutes("interview", interviewModels, interviewMaxTokens,
+                        interviewTemperature, interviewTimeout),
+                "learning", LlmRouter.parseRoutes("learning", learningModels, learningMaxTokens,
+                        learningTemperature, learningTimeout),
+                "combined", LlmRouter.parseRoutes("combined", combinedModels, combinedMaxTokens,
+                        combinedTemperature, combinedTimeout)));
+    }
+}
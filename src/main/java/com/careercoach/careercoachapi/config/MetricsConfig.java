@@ -0,0 +1,264 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.AdaptiveConcurrencyLimiter;
+import com.careercoach.careercoachapi.service.AdmissionController;
+import com.careercoach.careercoachapi.service.CacheWarmer;
+import com.careercoach.careercoachapi.service.CircuitBreaker;
+import com.careercoach.careercoachapi.service.CoachingCacheSnapshot;
+import com.careercoach.careercoachapi.service.CoachingResultCache;
+import com.careercoach.careercoachapi.service.CoachingResultStore;
+import com.careercoach.careercoachapi.service.GenerationExecutor;
+import com.careercoach.careercoachapi.service.GenerationTracker;
+import com.careercoach.careercoachapi.service.HeavyHitterTracker;
+import com.careercoach.careercoachapi.service.InFlightRequestCoalescer;
+import com.careercoach.careercoachapi.service.LlmRouter;
+import com.careercoach.careercoachapi.service.OpenAiResilience;
+import com.careercoach.careercoachapi.service.SimilarRequestIndex;
+import com.careercoach.careercoachapi.service.SseSessionManager;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 포화 지점 파악용 게이지/카운터 등록
+ * HTTP 연결 풀 지표는 ConnectionProvider.metrics(true)로 reactor.netty.connection.provider.* 에 발행됨
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> SESSION_STATUSES =
+            List.of("CONNECTED", "QUEUED", "PROCESSING", "COMPLETED", "TIMEOUT", "ERROR");
+
+    @Bean
+    public MeterBinder generationExecutorMetrics(GenerationExecutor generationExecutor) {
+        return registry -> {
+            Gauge.builder("coaching.executor.queue.depth", generationExecutor, GenerationExecutor::getQueueDepth)
+                    .description("생성 작업 대기 큐 길이")
+                    .tag("mode", generationExecutor.getMode().name())
+                    .register(registry);
+            Gauge.builder("coaching.executor.running", generationExecutor, GenerationExecutor::getRunningCount)
+                    .description("실행 중인 생성 작업 수")
+                    .tag("mode", generationExecutor.getMode().name())
+                    .register(registry);
+            FunctionCounter.builder("coaching.executor.rejected", generationExecutor, GenerationExecutor::getRejectedCount)
+                    .description("용량 초과로 거절된 생성 작업 수")
+                    .tag("mode", generationExecutor.getMode().name())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder sessionMetrics(SseSessionManager sessionManager) {
+        return registry -> {
+            SESSION_STATUSES.forEach(status ->
+                    Gauge.builder("coaching.sessions", sessionManager, manager -> manager.getSessionCount(status))
+                            .description("상태별 SSE 세션 수")
+                            .tag("status", status)
+                            .register(registry));
+            Gauge.builder("coaching.sessions.detached", sessionManager, SseSessionManager::getDetachedSessionCount)
+                    .description("연결이 끊겨 재연결을 기다리는 세션 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.sessions.resumed", sessionManager, SseSessionManager::getResumedCount)
+                    .description("Last-Event-ID로 재연결한 세션 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.sessions.duplicate.ids", sessionManager, SseSessionManager::getDuplicateCount)
+                    .description("중복된 세션 ID로 생성이 거절된 횟수")
+                    .register(registry);
+            Gauge.builder("coaching.sessions.expiry.pending", sessionManager, SseSessionManager::getExpiryPendingCount)
+                    .description("만료 타이머에 등록된 세션 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.sessions.expired", sessionManager, SseSessionManager::getExpiredCount)
+                    .description("타이머 휠이 만료 처리한 세션 수")
+                    .register(registry);
+            DistributionSummary expiredPerTick = DistributionSummary.builder("coaching.sessions.expired.per.tick")
+                    .description("타이머 휠 tick마다 만료 처리된 세션 수")
+                    .register(registry);
+            sessionManager.setExpiryTickListener(expiredPerTick::record);
+            FunctionCounter.builder("coaching.sessions.replayed.events", sessionManager, SseSessionManager::getReplayedEventCount)
+                    .description("재연결 시 재전송한 이벤트 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder resultStoreMetrics(CoachingResultStore resultStore) {
+        return registry -> {
+            Gauge.builder("coaching.result.store.queue.depth", resultStore, CoachingResultStore::getQueueDepth)
+                    .description("기록 대기 중인 생성 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.written", resultStore, CoachingResultStore::getWrittenCount)
+                    .description("파일에 기록한 생성 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.batches", resultStore, CoachingResultStore::getBatchCount)
+                    .description("묶음 기록(쓰기 + fsync) 횟수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.dropped", resultStore, CoachingResultStore::getDroppedCount)
+                    .description("대기열이 가득 차 저장하지 못한 생성 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.failed", resultStore, CoachingResultStore::getFailedCount)
+                    .description("기록 중 오류로 저장하지 못한 생성 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.evicted", resultStore, CoachingResultStore::getEvictedCount)
+                    .description("보관 기간/최대 보관 수를 넘어 제거된 생성 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.result.store.compactions", resultStore, CoachingResultStore::getCompactionCount)
+                    .description("결과 로그 파일 정리(compaction) 횟수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheSnapshotMetrics(CoachingCacheSnapshot cacheSnapshot) {
+        return registry -> {
+            Gauge.builder("coaching.cache.snapshot.size", cacheSnapshot, CoachingCacheSnapshot::getSnapshotSizeBytes)
+                    .description("마지막 캐시 스냅샷 파일 크기")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("coaching.cache.snapshot.age", cacheSnapshot, CoachingCacheSnapshot::getSnapshotAgeSeconds)
+                    .description("마지막으로 기록/적재한 캐시 스냅샷의 경과 시간")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("coaching.cache.snapshot.load.duration", cacheSnapshot, CoachingCacheSnapshot::getLastLoadSeconds)
+                    .description("시작 시 캐시 스냅샷 적재 소요 시간")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("coaching.cache.snapshot.loaded", cacheSnapshot, snapshot -> snapshot.isLoaded() ? 1 : 0)
+                    .description("캐시 스냅샷 적재 완료 여부 (1: 완료)")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.snapshot.loaded.entries", cacheSnapshot, CoachingCacheSnapshot::getLoadedEntries)
+                    .description("스냅샷에서 캐시로 적재한 항목 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.snapshot.written", cacheSnapshot, CoachingCacheSnapshot::getSnapshotCount)
+                    .description("캐시 스냅샷 기록 횟수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.snapshot.failed", cacheSnapshot, CoachingCacheSnapshot::getFailedCount)
+                    .description("캐시 스냅샷 기록/적재 실패 횟수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheWarmingMetrics(CacheWarmer cacheWarmer, HeavyHitterTracker heavyHitterTracker) {
+        return registry -> {
+            Gauge.builder("coaching.cache.warming.tracked", heavyHitterTracker, HeavyHitterTracker::getTrackedCount)
+                    .description("빈도를 추적 중인 요청 종류 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.warming.warmed", cacheWarmer, CacheWarmer::getWarmedCount)
+                    .description("캐시 워밍으로 미리 생성한 결과 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.warming.fresh", cacheWarmer, CacheWarmer::getFreshCount)
+                    .description("캐시가 최신이라 워밍을 건너뛴 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.warming.failed", cacheWarmer, CacheWarmer::getFailedCount)
+                    .description("캐시 워밍 생성 실패 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.warming.tokens", cacheWarmer, CacheWarmer::getTokensSpent)
+                    .description("캐시 워밍에 사용한 토큰 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder similarRequestMetrics(SimilarRequestIndex similarRequestIndex, CoachingResultCache resultCache) {
+        return registry -> {
+            Gauge.builder("coaching.cache.similar.entries", similarRequestIndex, SimilarRequestIndex::size)
+                    .description("유사 요청 색인에 등록된 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.similar.lookups", similarRequestIndex, SimilarRequestIndex::getLookupCount)
+                    .description("같은 키가 없어 유사 요청을 조회한 횟수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.cache.similar.hits", resultCache, CoachingResultCache::getSimilarHitCount)
+                    .description("비슷한 요청의 결과를 재사용한 횟수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder generationMetrics(GenerationTracker generationTracker,
+                                         InFlightRequestCoalescer requestCoalescer) {
+        return registry -> {
+            FunctionCounter.builder("coaching.generation.cancelled", generationTracker, GenerationTracker::getCancelledCount)
+                    .description("클라이언트 이탈로 취소된 업스트림 호출 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.generation.saved", generationTracker, GenerationTracker::getSavedMillis)
+                    .description("취소로 절약된 업스트림 호출 시간 추정치")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("coaching.generation.coalesced", requestCoalescer, InFlightRequestCoalescer::getCoalescedCount)
+                    .description("진행 중인 호출에 합류한 요청 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder admissionMetrics(AdmissionController admissionController) {
+        return registry -> {
+            Gauge.builder("coaching.admission.active", admissionController, AdmissionController::getActiveSessions)
+                    .description("입장하여 처리 중인 스트리밍 세션 수")
+                    .register(registry);
+            Gauge.builder("coaching.admission.queue.depth", admissionController, AdmissionController::getQueueDepth)
+                    .description("입장 대기 중인 스트리밍 세션 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.admission.rejected", admissionController, AdmissionController::getRejectedCount)
+                    .description("처리 용량 초과로 429 거절된 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.admission.queue.timeout", admissionController, AdmissionController::getQueueTimeoutCount)
+                    .description("대기 시간 초과로 종료된 세션 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimiterMetrics(AdaptiveConcurrencyLimiter openAiConcurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("coaching.openai.concurrency.limit", openAiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("적응형 제한기가 허용하는 OpenAI 동시 호출 수")
+                    .register(registry);
+            Gauge.builder("coaching.openai.concurrency.in.flight", openAiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("허가를 받아 진행 중인 OpenAI 호출 수")
+                    .register(registry);
+            Gauge.builder("coaching.openai.concurrency.pending", openAiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getPending)
+                    .description("허가를 기다리는 OpenAI 호출 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.openai.rate.limited", openAiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getRateLimitedCount)
+                    .description("OpenAI 429 응답 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.openai.concurrency.decreased", openAiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getDecreaseCount)
+                    .description("429/타임아웃/지연 증가로 동시 호출 제한을 줄인 횟수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder resilienceMetrics(OpenAiResilience openAiResilience, LlmRouter llmRouter) {
+        return registry -> {
+            for (String upstream : llmRouter.getProviderNames()) {
+                for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                    Gauge.builder("coaching.openai.circuit.state", openAiResilience,
+                                    resilience -> resilience.getCircuitState(upstream) == state ? 1 : 0)
+                            .description("LLM 제공자별 서킷 브레이커 상태 (현재 상태만 1)")
+                            .tag("upstream", upstream)
+                            .tag("state", state.name())
+                            .register(registry);
+                }
+            }
+            FunctionCounter.builder("coaching.openai.retries", openAiResilience, OpenAiResilience::getRetryCount)
+                    .description("429/5xx/타임아웃으로 재시도한 OpenAI 호출 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.openai.hedges", openAiResilience, OpenAiResilience::getHedgeCount)
+                    .description("지연이 p95를 넘어 보낸 헤징 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.openai.hedge.wins", openAiResilience, OpenAiResilience::getHedgeWinCount)
+                    .description("헤징 요청이 먼저 도착해 사용된 횟수")
+                    .register(registry);
+            FunctionCounter.builder("coaching.openai.short.circuited", openAiResilience, OpenAiResilience::getShortCircuitedCount)
+                    .description("서킷 브레이커가 열려 즉시 실패한 OpenAI 호출 수")
+                    .register(registry);
+        };
+    }
+}
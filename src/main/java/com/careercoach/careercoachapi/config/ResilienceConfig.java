@@ -0,0 +1,41 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CircuitBreaker;
+import com.careercoach.careercoachapi.service.OpenAiResilience;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * OpenAI 호출 재시도/헤징/서킷 브레이커 (서킷 브레이커는 LLM 제공자마다 생성)
+     */
+    @Bean
+    public OpenAiResilience openAiResilience(
+            @Value("${career-coach.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${career-coach.resilience.retry.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${career-coach.resilience.retry.max-backoff:8s}") Duration maxBackoff,
+            @Value("${career-coach.resilience.retry.jitter:0.5}") double jitter,
+            @Value("${career-coach.resilience.retry.max-retry-after:20s}") Duration maxRetryAfter,
+            @Value("${career-coach.resilience.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${career-coach.resilience.hedging.percentile:0.95}") double hedgingPercentile,
+            @Value("${career-coach.resilience.hedging.min-samples:20}") int hedgingMinSamples,
+            @Value("${career-coach.resilience.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${career-coach.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${career-coach.resilience.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${career-coach.resilience.circuit-breaker.open-duration:30s}") Duration openDuration) {
+
+        log.info("OpenAI 호출 복원력 설정 - 최대 시도: {}, 백오프: {}ms~{}ms, 헤징: {}, 서킷 브레이커 실패율: {} (최근 {}회)",
+                maxAttempts, initialBackoff.toMillis(), maxBackoff.toMillis(), hedgingEnabled,
+                failureRateThreshold, windowSize);
+        return new OpenAiResilience(maxAttempts, initialBackoff, maxBackoff, jitter, maxRetryAfter,
+                hedgingEnabled, hedgingPercentile, hedgingMinSamples,
+                () -> new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration));
+    }
+}
@@ -0,0 +1,33 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CoachingResultStore;
+import com.careercoach.careercoachapi.service.SseSessionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class ResultStoreConfig {
+
+    @Bean(destroyMethod = "close")  // 애플리케이션 종료 시 대기 중인 결과를 모두 기록
+    public CoachingResultStore coachingResultStore(
+            @Value("${career-coach.result-store.directory:./data/results}") Path directory,
+            @Value("${career-coach.result-store.queue-capacity:10000}") int queueCapacity,
+            @Value("${career-coach.result-store.batch-size:256}") int batchSize,
+            @Value("${career-coach.result-store.flush-interval:200ms}") Duration flushInterval,
+            @Value("${career-coach.result-store.fsync:true}") boolean fsync,
+            @Value("${career-coach.result-store.retention:7d}") Duration retention,
+            @Value("${career-coach.result-store.max-results:100000}") int maxResults,
+            ObjectMapper objectMapper,
+            SseSessionManager sessionManager) {
+        CoachingResultStore store = new CoachingResultStore(directory, objectMapper, queueCapacity, batchSize,
+                flushInterval, fsync, retention, maxResults);
+        // 결과 로그는 노드마다 따로 있으므로 세션 저장소에 소유 노드를 기록하여 다른 노드가 조회를 중계
+        store.setSubmitListener(result -> sessionManager.publishResultOwner(result.getSessionId(), result.getRequestHash()));
+        return store;
+    }
+}
@@ -0,0 +1,62 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.InMemorySessionStore;
+import com.careercoach.careercoachapi.service.RedisSessionStore;
+import com.careercoach.careercoachapi.service.SessionStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+
+@Slf4j
+@Configuration
+public class SessionStoreConfig {
+
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]", "::1");
+
+    @Bean
+    public SessionStore sessionStore(
+            @Value("${career-coach.session-store.type:MEMORY}") SessionStore.Type type,
+            @Value("${career-coach.session-store.ttl:30m}") Duration ttl,
+            @Value("${career-coach.session-store.result-owner-ttl:7d}") Duration resultOwnerTtl,
+            @Value("${career-coach.node.id:local}") String nodeId,
+            @Value("${career-coach.node.url:http://localhost:8080}") String nodeUrl,
+            @Value("${career-coach.node.relay-secret:}") String relaySecret,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper) {
+
+        if (type == SessionStore.Type.REDIS) {
+            validateNodeIdentity(nodeId, nodeUrl, relaySecret);
+            log.info("세션 저장소 - Redis (TTL: {}, 노드: {} {})", ttl, nodeId, nodeUrl);
+            return new RedisSessionStore(redisTemplate.getObject(), objectMapper, ttl, resultOwnerTtl);
+        }
+
+        log.info("세션 저장소 - 노드 메모리");
+        return new InMemorySessionStore();
+    }
+
+    /**
+     * 여러 노드 배포에서 노드 설정이 기본값이면 시작 실패
+     * (노드 ID가 겹치면 다른 노드의 세션을 자기 것으로 보고, 주소가 localhost면 중계가 자기 자신으로 돌아옴)
+     */
+    private static void validateNodeIdentity(String nodeId, String nodeUrl, String relaySecret) {
+        if (nodeId.isBlank() || "local".equals(nodeId)) {
+            throw new IllegalStateException("REDIS 세션 저장소는 노드마다 다른 career-coach.node.id 설정이 필요합니다.");
+        }
+        String host = URI.create(nodeUrl).getHost();
+        if (host == null || LOOPBACK_HOSTS.contains(host)) {
+            throw new IllegalStateException(
+                    "REDIS 세션 저장소는 다른 노드에서 접근 가능한 career-coach.node.url 설정이 필요합니다: " + nodeUrl);
+        }
+        if (relaySecret.isBlank()) {
+            throw new IllegalStateException("REDIS 세션 저장소는 노드 간 중계용 career-coach.node.relay-secret 설정이 필요합니다.");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.careercoach.careercoachapi.config;
+
+import com.careercoach.careercoachapi.service.CanonicalRequestKey;
+import com.careercoach.careercoachapi.service.CoachingResultCache;
+import com.careercoach.careercoachapi.service.SimilarRequestIndex;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.stream.Stream;
+
+@Configuration
+public class SimilarityConfig {
+
+    @Bean
+    public SimilarRequestIndex similarRequestIndex(
+            @Value("${career-coach.similarity.enabled:true}") boolean enabled,
+            @Value("${career-coach.similarity.threshold:0.7}") double threshold,
+            @Value("${career-coach.similarity.max-entries:100000}") int maxEntries) {
+        return new SimilarRequestIndex(enabled, threshold, maxEntries);
+    }
+
+    /**
+     * 결과 캐시에서 제거(만료/크기 초과/명시적 제거)된 키를 유사 요청 색인에서도 제거
+     * 두 캐시가 같은 키를 쓰므로 어느 캐시에도 남아 있지 않을 때만 제거 (교체는 제외)
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> similarRequestIndexPruning(
+            @Value("${spring.cache.caffeine.spec:}") String spec,
+            SimilarRequestIndex similarRequestIndex) {
+        return cacheManager -> cacheManager.setCaffeine(Caffeine.from(spec)
+                .removalListener((key, value, cause) -> {
+                    if (cause != RemovalCause.REPLACED && key instanceof CanonicalRequestKey requestKey
+                            && !isCached(cacheManager, requestKey)) {
+                        similarRequestIndex.remove(requestKey);
+                    }
+                }));
+    }
+
+    private static boolean isCached(CaffeineCacheManager cacheManager, CanonicalRequestKey key) {
+        return Stream.of(CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS)
+                .map(cacheManager::getCache)
+                .anyMatch(cache -> cache instanceof CaffeineCache caffeineCache
+                        && caffeineCache.getNativeCache().policy().getIfPresentQuietly(key) != null);
+    }
+}
@@ -0,0 +1,167 @@
+package com.careercoach.careercoachapi.controller;
+
+import com.careercoach.careercoachapi.dto.response.ApiResponse;
+import com.careercoach.careercoachapi.dto.response.CacheStatsResponse;
+import com.careercoach.careercoachapi.dto.response.UsageStatsResponse;
+import com.careercoach.careercoachapi.service.AdmissionController;
+import com.careercoach.careercoachapi.service.CacheWarmer;
+import com.careercoach.careercoachapi.service.CoachingResultCache;
+import com.careercoach.careercoachapi.service.GenerationTracker;
+import com.careercoach.careercoachapi.service.HeavyHitterTracker;
+import com.careercoach.careercoachapi.service.InFlightRequestCoalescer;
+import com.careercoach.careercoachapi.service.LlmRouter;
+import com.careercoach.careercoachapi.service.OpenAiResilience;
+import com.careercoach.careercoachapi.service.TokenUsageTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영/모니터링용 관리 API 엔드포인트를 제공하는 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/career-coach/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final CoachingResultCache resultCache;  // 코칭 결과 캐시
+    private final InFlightRequestCoalescer requestCoalescer;  // 동일 요청 병합기
+    private final GenerationTracker generationTracker;  // 업스트림 생성 호출 추적기
+    private final TokenUsageTracker tokenUsageTracker;  // 토큰 사용량/비용 집계기
+    private final AdmissionController admissionController;  // 스트리밍 입장 제어
+    private final OpenAiResilience openAiResilience;  // OpenAI 재시도/헤징/서킷 브레이커
+    private final LlmRouter llmRouter;  // 작업별 LLM 호출 경로
+    private final HeavyHitterTracker heavyHitterTracker;  // 요청 빈도 추적기
+    private final CacheWarmer cacheWarmer;  // 인기 요청 캐시 워밍
+
+    /**
+     * 코칭 결과 캐시 통계 조회 (적중/미적중/제거 수)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(resultCache.getStatistics(), "캐시 통계 조회 성공"));
+    }
+
+    /**
+     * 인기 요청 캐시 워밍 현황 조회 (빈도 상위 요청과 워밍 누적 통계)
+     */
+    @GetMapping("/cache/warming")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheWarming(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<Map<String, Object>> hotRequests = heavyHitterTracker.topK(limit).stream()
+                .map(hot -> Map.<String, Object>of(
+                        "jobRole", hot.key().getJobRole(),        // 정규화된 직무
+                        "techSkills", hot.key().getTechSkills(),  // 정규화된 기술 스킬
+                        "count", hot.count(),                     // 추정 빈도
+                        "error", hot.error()))                    // 추정 빈도의 최대 오차
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "hotRequests", hotRequests,
+                        "tracked", heavyHitterTracker.getTrackedCount(),  // 추적 중인 요청 종류 수
+                        "runs", cacheWarmer.getRunCount(),                // 한가한 시간대 워밍 실행 수
+                        "warmed", cacheWarmer.getWarmedCount(),           // 미리 생성한 결과 수
+                        "fresh", cacheWarmer.getFreshCount(),             // 캐시가 최신이라 건너뛴 수
+                        "failed", cacheWarmer.getFailedCount(),           // 생성 실패 수
+                        "tokensSpent", cacheWarmer.getTokensSpent()       // 워밍에 사용한 토큰 수
+                ),
+                "캐시 워밍 현황 조회 성공"
+        ));
+    }
+
+    /**
+     * 동일 요청 병합 통계 조회
+     */
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCoalescingStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "inFlight", requestCoalescer.getInFlightCount(),       // 진행 중인 업스트림 호출 수
+                        "upstreamCalls", requestCoalescer.getLeaderCount(),    // 실제 업스트림 호출 수
+                        "coalesced", requestCoalescer.getCoalescedCount()      // 진행 중인 호출에 합류한 요청 수
+                ),
+                "요청 병합 통계 조회 성공"
+        ));
+    }
+
+    /**
+     * 업스트림 생성 호출 취소 통계 조회 (클라이언트 이탈로 취소된 호출 수, 절약된 시간 추정치)
+     */
+    @GetMapping("/generation/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getGenerationStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "completed", generationTracker.getCompletedCount(),      // 완료된 업스트림 호출 수
+                        "cancelled", generationTracker.getCancelledCount(),      // 완료 전에 취소된 업스트림 호출 수
+                        "savedMillis", generationTracker.getSavedMillis()        // 취소로 절약된 호출 시간 추정치 (ms)
+                ),
+                "생성 호출 통계 조회 성공"
+        ));
+    }
+
+    /**
+     * 스트리밍 입장 제어 통계 조회 (처리 중/대기 중 세션 수, 거절/대기 시간 초과 수)
+     */
+    @GetMapping("/admission/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAdmissionStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "mode", admissionController.getMode(),                   // REJECT / QUEUE
+                        "active", admissionController.getActiveSessions(),       // 입장하여 처리 중인 세션 수
+                        "queued", admissionController.getQueueDepth(),           // 대기 중인 세션 수
+                        "admitted", admissionController.getAdmittedCount(),      // 누적 입장 수
+                        "rejected", admissionController.getRejectedCount(),      // 429로 거절된 요청 수
+                        "queueTimeouts", admissionController.getQueueTimeoutCount() // 대기 시간 초과 수
+                ),
+                "입장 제어 통계 조회 성공"
+        ));
+    }
+
+    /**
+     * OpenAI 호출 복원력 통계 조회 (서킷 브레이커 상태, 재시도/헤징/즉시 실패 수)
+     */
+    @GetMapping("/resilience/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getResilienceStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "circuitStates", openAiResilience.getCircuitStates(),       // 제공자별 CLOSED / OPEN / HALF_OPEN
+                        "retries", openAiResilience.getRetryCount(),                // 재시도한 호출 수
+                        "hedges", openAiResilience.getHedgeCount(),                 // 헤징 요청 수
+                        "hedgeWins", openAiResilience.getHedgeWinCount(),           // 헤징 요청이 먼저 도착한 수
+                        "shortCircuited", openAiResilience.getShortCircuitedCount() // 서킷 브레이커로 즉시 실패한 수
+                ),
+                "호출 복원력 통계 조회 성공"
+        ));
+    }
+
+    /**
+     * 작업별 LLM 호출 경로 조회 (첫 번째가 기본 경로, 나머지는 폴백 순서)
+     */
+    @GetMapping("/llm/routes")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLlmRoutes() {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of(
+                        "providers", llmRouter.getProviderNames(),  // 등록된 제공자
+                        "routes", llmRouter.getRoutes()             // 작업별 경로 (제공자, 모델, 생성 옵션)
+                ),
+                "LLM 호출 경로 조회 성공"
+        ));
+    }
+
+    /**
+     * 최근 N분 동안의 OpenAI 토큰 사용량과 추정 비용 조회 (작업/모델별 집계 포함, 최대 24시간)
+     */
+    @GetMapping("/usage")
+    public ResponseEntity<ApiResponse<UsageStatsResponse>> getUsageStats(
+            @RequestParam(defaultValue = "60") int windowMinutes) {
+        return ResponseEntity.ok(ApiResponse.success(tokenUsageTracker.summarize(windowMinutes), "토큰 사용량 조회 성공"));
+    }
+}
@@ -1,8 +1,17 @@
 package com.careercoach.careercoachapi.controller;
 
 // 필요한 의존성 import
+import com.careercoach.careercoachapi.dto.SessionInfo;
 import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
 import com.careercoach.careercoachapi.dto.response.ApiResponse;
+import com.careercoach.careercoachapi.dto.response.StoredCoachingResult;
+import com.careercoach.careercoachapi.service.AdmissionController;
+import com.careercoach.careercoachapi.service.CoachingResultStore;
+import com.careercoach.careercoachapi.service.HeavyHitterTracker;
+import com.careercoach.careercoachapi.service.ReactiveStreamingOrchestrator;
+import com.careercoach.careercoachapi.service.SessionIdGenerator;
+import com.careercoach.careercoachapi.service.SessionRecord;
+import com.careercoach.careercoachapi.service.SessionRelay;
 import com.careercoach.careercoachapi.service.SseEventSender;
 import com.careercoach.careercoachapi.service.SseSessionManager;
 import com.careercoach.careercoachapi.service.StreamingOrchestrator;
@@ -11,10 +20,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 경력 코칭 관련 API 엔드포인트를 제공하는 컨트롤러
@@ -22,7 +34,7 @@ import java.util.Map;
  */
 @Slf4j  // Lombok을 사용한 로깅 기능 활성화
 @RestController  // REST API 컨트롤러 선언
-@RequestMapping("/api/v1/career-coach")  // 기본 URL 경로 설정
+@RequestMapping(CareerCoachController.API_PREFIX)  // 기본 URL 경로 설정
 @CrossOrigin(origins = "*")  // CORS 설정 - 모든 도메인에서의 접근 허용
 @RequiredArgsConstructor  // 필수 필드에 대한 생성자 자동 생성 (Lombok)
 public class CareerCoachController {
@@ -30,43 +42,155 @@ public class CareerCoachController {
     // 상수 정의
     private static final long SSE_TIMEOUT_MS = 120_000L;  // SSE 연결 타임아웃 시간: 2분
     private static final String SESSION_ID_PREFIX = "stream-";  // 세션 ID 접두사
+    static final String API_PREFIX = "/api/v1/career-coach";
+    private static final String RESULT_PATH = "/career-coaching/results/{sessionId}";
+    private static final String RESULT_BY_REQUEST_PATH = "/career-coaching/results/by-request/{requestHash}";
 
     // 의존성 주입될 서비스 컴포넌트들
     private final SseSessionManager sessionManager;        // SSE 세션 관리자
     private final StreamingOrchestrator streamingOrchestrator;  // 스트리밍 처리 조정자
     private final SseEventSender eventSender;             // SSE 이벤트 발신자
+    private final ReactiveStreamingOrchestrator reactiveStreamingOrchestrator;  // 논블로킹 스트리밍 조정자
+    private final AdmissionController admissionController;  // 처리 용량 기반 입장 제어
+    private final SessionIdGenerator sessionIdGenerator;    // 시간순 정렬되는 고유 세션 ID 생성
+    private final SessionRelay sessionRelay;                // 다른 노드가 가진 세션의 재연결 중계
+    private final CoachingResultStore resultStore;          // 저장된 생성 결과 조회
+    private final HeavyHitterTracker heavyHitterTracker;    // 요청 빈도 추적 (인기 요청 캐시 워밍용)
 
     /**
      * 스트리밍 커리어 코칭 API 엔드포인트
      * Server-Sent Events를 사용하여 실시간으로 진행상황과 결과를 전송
+     * 처리 용량을 넘으면 SSE 연결을 열기 전에 429(Retry-After)로 거절하거나,
+     * QUEUE 모드에서는 연결을 연 뒤 queued 이벤트로 순번을 알리며 차례를 기다림
      */
     @PostMapping(value = "/career-coaching/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamCareerCoaching(@Valid @RequestBody ResumeInfoRequest request) {
         log.info("스트리밍 API 요청 - 직무: {}", request.getJobRole());  // 로그 기록
+        heavyHitterTracker.record(request);
+
+        // 입장 요청 - 용량과 대기열이 모두 가득 차면 AdmissionRejectedException (429)
+        AdmissionController.Admission admission = admissionController.admit();
 
         // SSE 이미터 생성 (2분 타임아웃)
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
         String sessionId = generateSessionId();  // 고유 세션 ID 생성
 
+        // 새로운 SSE 세션 생성 - 실패 시 같은 ID의 기존 세션은 건드리지 않고 입장권만 반환
         try {
-            // 새로운 SSE 세션 생성
             sessionManager.createSession(sessionId, emitter);
+        } catch (RuntimeException e) {
+            admission.dispose();
+            throw e;
+        }
+
+        try {
+            // 세션이 어떤 이유로든 종료되면 입장권 반환 (대기 중이면 대기열에서 제거)
+            sessionManager.registerGeneration(sessionId, admission);
 
             // 클라이언트에 연결 성공 알림
-            eventSender.sendConnected(emitter, sessionId);
+            eventSender.sendConnected(sessionId);
 
-            // 비동기로 코칭 처리 시작
-            streamingOrchestrator.processCareerCoaching(emitter, sessionId, request);
+            // 입장하면 비동기로 코칭 처리 시작, 대기 중에는 순번 알림
+            admission.onReady(
+                    () -> streamingOrchestrator.processCareerCoaching(sessionId, request),
+                    position -> sendQueued(sessionId, position),
+                    () -> handleQueueTimeout(sessionId));
 
         } catch (Exception e) {
             // 오류 발생 시 로그 기록 및 오류 처리
             log.error("스트리밍 초기화 실패 - sessionId: {}", sessionId, e);
+            admission.dispose();
             handleInitializationError(emitter, sessionId, e);
         }
 
         return emitter;  // SSE 이미터 반환
     }
 
+    /**
+     * 끊긴 스트리밍 세션 재연결 엔드포인트
+     * Last-Event-ID 이후에 놓친 이벤트를 재전송 버퍼에서 다시 보낸 뒤 진행 중인 생성 결과를 이어서 전송
+     * 세션이 다른 노드에 있으면 그 노드의 스트림을 중계하며, 세션이 없거나 만료되면 404, 놓친 이벤트가 버퍼에서 밀려났으면 410
+     */
+    @GetMapping(value = "/career-coaching/stream/{sessionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter resumeCareerCoaching(@PathVariable String sessionId,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                           @RequestHeader(value = SessionRelay.RELAY_HEADER, required = false) String relayHeader) {
+        log.info("스트리밍 재연결 요청 - sessionId: {}, Last-Event-ID: {}", sessionId, lastEventId);
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        boolean relayed = sessionRelay.isTrustedRelay(relayHeader);  // 클라이언트가 보낸 헤더는 무시
+        Optional<SessionRecord> remoteOwner = relayed ? Optional.empty() : sessionManager.findRemoteOwner(sessionId);
+        if (remoteOwner.isPresent()) {
+            sessionRelay.relay(remoteOwner.get(), sessionId, lastEventId, emitter);
+        } else {
+            sessionManager.resume(sessionId, lastEventId, emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * 세션 상태 조회 엔드포인트
+     * 세션 저장소를 통해 어느 노드에서든 조회 가능 (세션 ID의 난수 부분이 조회 권한 역할)
+     */
+    @GetMapping("/career-coaching/sessions/{sessionId}")
+    public ResponseEntity<ApiResponse<SessionInfo>> getSession(@PathVariable String sessionId) {
+        SessionInfo sessionInfo = sessionManager.getSessionInfo(sessionId);
+        if (sessionInfo == null) {
+            return ResponseEntity.status(404).body(ApiResponse.error("세션을 찾을 수 없습니다: " + sessionId, 404));
+        }
+        return ResponseEntity.ok(ApiResponse.success(sessionInfo, "세션 정보 조회 성공"));
+    }
+
+    /**
+     * 세션 ID로 저장된 생성 결과 조회 엔드포인트
+     * 완료된 스트리밍 세션의 면접 질문과 학습 경로를 다시 생성하지 않고 반환
+     * 이 노드에 없으면 세션 저장소에 기록된 결과 소유 노드로 중계
+     */
+    @GetMapping(RESULT_PATH)
+    public ResponseEntity<ApiResponse<StoredCoachingResult>> getResult(
+            @PathVariable String sessionId,
+            @RequestHeader(value = SessionRelay.RELAY_HEADER, required = false) String relayHeader) {
+        Optional<StoredCoachingResult> result = resultStore.findBySessionId(sessionId);
+        if (result.isEmpty() && !sessionRelay.isTrustedRelay(relayHeader)) {
+            result = sessionManager.findRemoteResultOwnerBySession(sessionId)
+                    .flatMap(owner -> sessionRelay.fetchResult(owner, API_PREFIX + RESULT_PATH, sessionId));
+        }
+        return toResultResponse(result, "세션 " + sessionId);
+    }
+
+    /**
+     * 정규화된 요청 해시로 가장 최근에 저장된 생성 결과 조회 엔드포인트
+     * 가장 최근 결과를 다른 노드가 저장했으면 그 노드로 중계
+     */
+    @GetMapping(RESULT_BY_REQUEST_PATH)
+    public ResponseEntity<ApiResponse<StoredCoachingResult>> getResultByRequest(
+            @PathVariable String requestHash,
+            @RequestHeader(value = SessionRelay.RELAY_HEADER, required = false) String relayHeader) {
+        if (!sessionRelay.isTrustedRelay(relayHeader)) {
+            Optional<StoredCoachingResult> remote = sessionManager.findRemoteResultOwnerByRequest(requestHash)
+                    .flatMap(owner -> sessionRelay.fetchResult(owner, API_PREFIX + RESULT_BY_REQUEST_PATH, requestHash));
+            if (remote.isPresent()) {
+                return toResultResponse(remote, "요청 " + requestHash);
+            }
+        }
+        return toResultResponse(resultStore.findByRequestHash(requestHash), "요청 " + requestHash);
+    }
+
+    /**
+     * 논블로킹 스트리밍 커리어 코칭 API 엔드포인트
+     * 생성 작업이 스레드를 점유하지 않으며, 클라이언트 연결 종료 시 업스트림 호출도 함께 취소됨
+     * 처리 용량을 넘으면 대기 없이 429(Retry-After)로 거절
+     */
+    @PostMapping(value = "/career-coaching/reactive-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamCareerCoachingReactive(@Valid @RequestBody ResumeInfoRequest request) {
+        log.info("리액티브 스트리밍 API 요청 - 직무: {}", request.getJobRole());  // 로그 기록
+        heavyHitterTracker.record(request);
+
+        AdmissionController.Admission admission = admissionController.admitNow();
+        return reactiveStreamingOrchestrator.streamCareerCoaching(generateSessionId(), request)
+                .doFinally(signal -> admission.dispose());  // 완료/오류/취소 시 입장권 반환
+    }
+
     /**
      * 서비스 상태 확인을 위한 헬스체크 엔드포인트
      */
@@ -87,10 +211,36 @@ public class CareerCoachController {
     // === 내부 헬퍼 메소드들 ===
 
     /**
-     * 타임스탬프 기반의 고유 세션 ID 생성
+     * 고유 세션 ID 생성 (시간순 정렬 + 추측할 수 없는 난수, 같은 밀리초의 요청끼리도 충돌하지 않음)
      */
     private String generateSessionId() {
-        return SESSION_ID_PREFIX + System.currentTimeMillis();
+        return SESSION_ID_PREFIX + sessionIdGenerator.nextId();
+    }
+
+    /**
+     * 대기 순번 알림
+     */
+    private void sendQueued(String sessionId, int position) {
+        try {
+            sessionManager.updateSessionStatus(sessionId, "QUEUED");
+            eventSender.sendQueued(sessionId, position);
+        } catch (Exception e) {
+            log.warn("대기 순번 전송 실패 - sessionId: {}", sessionId, e);
+            sessionManager.removeSession(sessionId);  // 연결이 끊긴 대기 세션 정리
+        }
+    }
+
+    /**
+     * 최대 대기 시간 안에 차례가 오지 않은 세션 종료
+     */
+    private void handleQueueTimeout(String sessionId) {
+        try {
+            sessionManager.updateSessionStatus(sessionId, "TIMEOUT");
+            eventSender.sendError(sessionId, "요청이 많아 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", "QUEUE_TIMEOUT");
+        } catch (Exception e) {
+            log.warn("대기 시간 초과 알림 실패 - sessionId: {}", sessionId, e);
+        }
+        sessionManager.removeSession(sessionId);
     }
 
     /**
@@ -101,6 +251,17 @@ public class CareerCoachController {
         emitter.completeWithError(e);  // 클라이언트에 오류 전송
     }
 
+    /**
+     * 저장된 결과 응답 생성 (없으면 404)
+     */
+    private ResponseEntity<ApiResponse<StoredCoachingResult>> toResultResponse(Optional<StoredCoachingResult> result,
+                                                                               String target) {
+        return result
+                .map(stored -> ResponseEntity.ok(ApiResponse.success(stored, "저장된 결과 조회 성공")))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(ApiResponse.error(target + "의 저장된 결과가 없습니다.", 404)));
+    }
+
     /**
      * JVM 메모리 사용 정보 수집
      */
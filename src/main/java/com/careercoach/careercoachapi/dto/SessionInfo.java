@@ -1,5 +1,6 @@
 package com.careercoach.careercoachapi.dto;
 
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,4 +16,5 @@ public class SessionInfo {
     private long createdAt;
     private Long updatedAt;
     private String status; // CONNECTED, PROCESSING, COMPLETED, TIMEOUT, ERROR
+    private TokenUsage tokenUsage; // 세션에서 발생한 OpenAI 토큰 사용량
 }
\ No newline at end of file
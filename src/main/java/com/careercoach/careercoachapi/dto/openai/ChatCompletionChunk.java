@@ -0,0 +1,46 @@
+// ChatCompletionChunk.java - OpenAI 스트리밍 응답 청크 (stream: true)
+package com.careercoach.careercoachapi.dto.openai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionChunk {
+
+    private List<Choice> choices;      // 마지막 usage 청크에서는 빈 배열
+    private ChatCompletionUsage usage; // stream_options.include_usage 요청 시 마지막 청크에만 포함
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Delta delta;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delta {
+        private String content;
+    }
+
+    /**
+     * choices[0].delta.content (없으면 빈 문자열)
+     */
+    public String deltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return "";
+        }
+        String content = choices.get(0).getDelta().getContent();
+        return content != null ? content : "";
+    }
+}
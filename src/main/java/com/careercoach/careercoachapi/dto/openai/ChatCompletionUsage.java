@@ -0,0 +1,42 @@
+// ChatCompletionUsage.java - OpenAI 응답의 usage 블록
+package com.careercoach.careercoachapi.dto.openai;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionUsage {
+
+    @JsonProperty("prompt_tokens")
+    private long promptTokens;          // 입력 토큰 수
+
+    @JsonProperty("completion_tokens")
+    private long completionTokens;      // 출력 토큰 수
+
+    @JsonProperty("prompt_tokens_details")
+    private PromptTokensDetails promptTokensDetails;  // 입력 토큰 상세 (캐시 적중 등)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PromptTokensDetails {
+        @JsonProperty("cached_tokens")
+        private long cachedTokens;      // 프롬프트 캐시에서 처리된 입력 토큰 수
+    }
+
+    public TokenUsage toTokenUsage() {
+        return TokenUsage.builder()
+                .promptTokens(promptTokens)
+                .completionTokens(completionTokens)
+                .cachedTokens(promptTokensDetails != null ? promptTokensDetails.getCachedTokens() : 0)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+// CacheStatsResponse.java
+package com.careercoach.careercoachapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String cacheName;     // 캐시 이름
+    private long size;            // 현재 저장된 항목 수 (추정치)
+    private long hitCount;        // 적중 횟수
+    private long missCount;       // 미적중 횟수
+    private double hitRate;       // 적중률 (0.0 ~ 1.0)
+    private long evictionCount;   // 크기/TTL 초과로 제거된 항목 수
+}
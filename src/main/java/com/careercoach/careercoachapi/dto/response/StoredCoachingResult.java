@@ -0,0 +1,20 @@
+// StoredCoachingResult.java
+package com.careercoach.careercoachapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredCoachingResult {
+    private String sessionId;                           // 결과를 생성한 스트리밍 세션 ID
+    private String requestHash;                         // 정규화된 요청 키의 SHA-256 해시
+    private String jobRole;                             // 요청 직무
+    private long createdAt;                             // 저장 요청 시각 (epoch 밀리초)
+    private InterviewQuestionsResponse interviewQuestions;  // 면접 질문 생성 결과
+    private LearningPathResponse learningPath;              // 학습 경로 생성 결과
+}
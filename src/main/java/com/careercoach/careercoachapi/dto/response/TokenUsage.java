@@ -0,0 +1,44 @@
+// TokenUsage.java
+package com.careercoach.careercoachapi.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenUsage {
+    private long promptTokens;      // 입력 토큰 수 (캐시된 토큰 포함)
+    private long completionTokens;  // 출력 토큰 수
+    private long cachedTokens;      // 프롬프트 캐시에서 처리된 입력 토큰 수
+    private boolean estimated;      // 응답에 usage가 없어 길이로 추정한 값인지 여부
+
+    public static TokenUsage empty() {
+        return new TokenUsage();
+    }
+
+    public long getTotalTokens() {
+        return promptTokens + completionTokens;
+    }
+
+    /**
+     * 두 사용량의 합계
+     */
+    public TokenUsage plus(TokenUsage other) {
+        return TokenUsage.builder()
+                .promptTokens(promptTokens + other.promptTokens)
+                .completionTokens(completionTokens + other.completionTokens)
+                .cachedTokens(cachedTokens + other.cachedTokens)
+                .estimated(estimated || other.estimated)
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return getTotalTokens() == 0;
+    }
+}
@@ -0,0 +1,27 @@
+// UsageStatsResponse.java
+package com.careercoach.careercoachapi.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UsageStatsResponse {
+    private String endpoint;              // 작업 종류 (interview, learning, combined) - 항목별 집계에만 사용
+    private String model;                 // 모델 이름 - 항목별 집계에만 사용
+    private Integer windowMinutes;        // 집계 구간 (분) - 전체 집계에만 사용
+    private long requestCount;            // OpenAI 호출 수
+    private long promptTokens;            // 입력 토큰 수
+    private long completionTokens;        // 출력 토큰 수
+    private long cachedTokens;            // 캐시된 입력 토큰 수
+    private double estimatedCostUsd;      // 추정 비용 (USD)
+    private List<UsageStatsResponse> breakdown;  // 작업/모델별 집계
+}
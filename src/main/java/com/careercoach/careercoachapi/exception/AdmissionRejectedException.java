@@ -0,0 +1,17 @@
+package com.careercoach.careercoachapi.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량 초과로 스트리밍 요청을 받지 않을 때 발생 (429 + Retry-After)
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;  // 재시도까지 권장 대기 시간 (초)
+
+    public AdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package com.careercoach.careercoachapi.exception;
+
+/**
+ * 동시성 제한기의 허가를 대기 시간 안에 받지 못해 OpenAI 호출을 시도하지 않았을 때 발생
+ * (로컬 대기열 포화이므로 업스트림 장애로 보지 않음 - 서킷 브레이커/재시도/폴백 대상 아님)
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
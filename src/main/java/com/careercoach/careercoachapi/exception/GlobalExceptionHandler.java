@@ -2,6 +2,8 @@ package com.careercoach.careercoachapi.exception;
 
 import com.careercoach.careercoachapi.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -74,6 +76,50 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("지원하지 않는 HTTP 메서드입니다.", 405));
     }
 
+    /**
+     * 429 - 처리 용량 초과 (스트리밍 요청이므로 Content-Type을 JSON으로 고정하여 응답 본문 협상 실패 방지)
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ApiResponse<String>> handleAdmissionRejected(AdmissionRejectedException e) {
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(e.getMessage(), 429));
+    }
+
+    /**
+     * 404 / 410 - 스트리밍 세션 재연결 불가 (재연결 요청이므로 Content-Type을 JSON으로 고정)
+     */
+    @ExceptionHandler(SessionResumeException.class)
+    public ResponseEntity<ApiResponse<String>> handleSessionResume(SessionResumeException e) {
+        log.warn("스트리밍 세션 재연결 실패: {}", e.getMessage());
+        return ResponseEntity.status(e.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(e.getMessage(), e.getStatus()));
+    }
+
+    /**
+     * 503 - 업스트림(OpenAI) 장애로 서킷 브레이커가 열린 상태
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleUpstreamUnavailable(UpstreamUnavailableException e) {
+        log.warn("업스트림 장애로 요청 실패: {}", e.getMessage());
+        return ResponseEntity.status(503)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(e.getMessage(), 503));
+    }
+
+    /**
+     * 503 - OpenAI 호출 대기열 포화 (동시성 제한기 허가 대기 시간 초과)
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiResponse<String>> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException e) {
+        log.warn("OpenAI 호출 대기열 포화로 요청 실패: {}", e.getMessage());
+        return ResponseEntity.status(503)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(e.getMessage(), 503));
+    }
+
     /**
      * 500 - 일반적인 런타임 예외
      */
@@ -0,0 +1,18 @@
+package com.careercoach.careercoachapi.exception;
+
+import lombok.Getter;
+
+/**
+ * 스트리밍 세션에 재연결할 수 없을 때 발생
+ * (404: 세션이 없거나 만료됨, 410: 놓친 이벤트가 재전송 버퍼에서 이미 밀려남)
+ */
+@Getter
+public class SessionResumeException extends RuntimeException {
+
+    private final int status;  // 응답 HTTP 상태 코드
+
+    public SessionResumeException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+}
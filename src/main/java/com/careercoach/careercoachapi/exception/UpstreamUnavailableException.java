@@ -0,0 +1,11 @@
+package com.careercoach.careercoachapi.exception;
+
+/**
+ * 업스트림(OpenAI) 장애로 서킷 브레이커가 열려 호출을 시도하지 않고 즉시 실패할 때 발생
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
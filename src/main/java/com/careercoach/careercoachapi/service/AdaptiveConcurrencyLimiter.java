@@ -0,0 +1,283 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI 호출 동시성 적응형 제한기 (AIMD)
+ * 허용 동시 호출 수(limit)를 관측한 지연과 429 응답에 따라 자동으로 조절
+ * - 증가: 제한에 가깝게 사용 중일 때 성공한 호출마다 1/limit 씩 (limit 개 성공당 +1)
+ * - 감소: 429 응답이나 업스트림 장애(타임아웃/5xx/연결 실패, 서킷 브레이커와 같은 기준)면 backoffRatio 배로, 최근 지연이 평소 지연의 latencyTolerance 배를 넘으면 완만하게 감소
+ *   (감소는 cooldown 간격마다 한 번만 적용하여 한 번의 과부하 구간에 연속으로 줄어들지 않도록 함)
+ *
+ * limit을 넘는 호출은 대기열에서 허가를 기다리며, acquireTimeout 안에 허가를 받지 못하면 ConcurrencyLimitExceededException으로 실패
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;     // 지연 증가 시 감소 비율
+    private static final double BASELINE_WEIGHT = 0.05;          // 평소 지연(장기 평균) 갱신 가중치
+    private static final double RECENT_WEIGHT = 0.3;             // 최근 지연(단기 평균) 갱신 가중치
+    private static final int LATENCY_WARMUP_SAMPLES = 10;        // 지연 비교를 시작하기 전 최소 표본 수
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final Duration decreaseCooldown;
+    private final Duration acquireTimeout;
+
+    private final Object lock = new Object();
+    private final Deque<Waiter> pending = new ArrayDeque<>();             // lock으로 보호
+    private final Map<String, LatencyEstimate> latencies = new HashMap<>(); // 작업별 지연 (lock으로 보호)
+    private double limit;                                                  // lock으로 보호
+    private int inFlight;                                                  // lock으로 보호
+    private long lastDecreaseNanos;                                        // lock으로 보호
+
+    // 계측 정보
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong acquireTimeoutCount = new AtomicLong();
+    private final AtomicLong decreaseCount = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      double latencyTolerance, Duration decreaseCooldown, Duration acquireTimeout) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.decreaseCooldown = decreaseCooldown;
+        this.acquireTimeout = acquireTimeout;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastDecreaseNanos = System.nanoTime() - decreaseCooldown.toNanos();
+    }
+
+    /**
+     * 허가를 받은 뒤 호출을 실행하고, 결과(성공 지연/429/타임아웃)를 limit 조절에 반영
+     * 완료/오류/취소 어느 경우든 허가를 반환
+     *
+     * @param task 작업 종류 (interview, learning, combined) - 작업마다 응답 길이가 달라 지연을 따로 비교
+     */
+    public <T> Mono<T> limit(String task, Mono<T> call) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> Mono.defer(() -> {
+                    long startNanos = System.nanoTime();
+                    return call
+                            .doOnSuccess(result -> onSuccess(task, System.nanoTime() - startNanos))
+                            .doOnError(this::onError);
+                }),
+                permit -> Mono.fromRunnable(permit::release),
+                (permit, error) -> Mono.fromRunnable(permit::release),
+                permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * 허가를 받은 뒤 스트리밍 호출을 실행하고, 스트림이 끝나거나 취소되면 허가를 반환
+     * 필요한 만큼 받은 뒤 [DONE] 전에 구독을 끊는 경우가 많으므로 조각을 하나라도 받은 뒤의 취소는 성공으로 반영
+     * 재시도/폴백은 바깥에서 구독할 때마다 새 허가를 받으므로, 재시도 대기 중에는 허가를 점유하지 않음
+     */
+    public <T> Flux<T> limitStreaming(String task, Flux<T> call) {
+        return Flux.usingWhen(
+                acquire(),
+                permit -> Flux.defer(() -> {
+                    long startNanos = System.nanoTime();
+                    AtomicBoolean received = new AtomicBoolean();
+                    return call
+                            .doOnNext(element -> received.set(true))
+                            .doOnComplete(() -> onSuccess(task, System.nanoTime() - startNanos))
+                            .doOnError(this::onError)
+                            .doOnCancel(() -> {
+                                if (received.get()) {
+                                    onSuccess(task, System.nanoTime() - startNanos);
+                                }
+                            });
+                }),
+                permit -> Mono.fromRunnable(permit::release),
+                (permit, error) -> Mono.fromRunnable(permit::release),
+                permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * 현재 허용 동시 호출 수
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int getPending() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount.get();
+    }
+
+    public long getDecreaseCount() {
+        return decreaseCount.get();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Permit permit = new Permit();
+                    Waiter waiter = new Waiter(sink, permit);
+                    boolean granted;
+                    synchronized (lock) {
+                        granted = pending.isEmpty() && inFlight < (int) limit;
+                        if (granted) {
+                            inFlight++;
+                        } else {
+                            pending.addLast(waiter);
+                        }
+                    }
+                    // 대기 중 취소되면 대기열에서 제거, 허가 직후 전달 전에 취소되면 허가 반환
+                    sink.onCancel(() -> {
+                        boolean removed;
+                        synchronized (lock) {
+                            removed = pending.remove(waiter);
+                        }
+                        if (!removed) {
+                            permit.release();
+                        }
+                    });
+                    if (granted) {
+                        sink.success(permit);
+                    }
+                })
+                .timeout(acquireTimeout)
+                .onErrorMap(TimeoutException.class, e -> {
+                    acquireTimeoutCount.incrementAndGet();
+                    log.warn("OpenAI 호출 허가 대기 시간 초과 - limit: {}, 대기: {}", getLimit(), getPending());
+                    // 타임아웃을 원인으로 두지 않음 (업스트림 타임아웃으로 분류되지 않도록)
+                    return new ConcurrencyLimitExceededException("AI 서비스 요청이 많아 처리하지 못했습니다.");
+                });
+    }
+
+    private void onSuccess(String task, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        synchronized (lock) {
+            LatencyEstimate estimate = latencies.computeIfAbsent(task, key -> new LatencyEstimate());
+            estimate.update(elapsedMillis);
+            if (estimate.isDegraded(latencyTolerance)) {
+                decrease(LATENCY_BACKOFF_RATIO, "지연 증가 (" + task + " 최근 " + Math.round(estimate.recent)
+                        + "ms / 평소 " + Math.round(estimate.baseline) + "ms)");
+            } else if (inFlight >= limit / 2) {
+                // 제한 가까이 사용 중일 때만 증가 (사용량이 적을 때 limit이 근거 없이 커지지 않도록)
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+        drain();
+    }
+
+    private void onError(Throwable error) {
+        if (UpstreamErrors.isRateLimited(error)) {
+            rateLimitedCount.incrementAndGet();
+            synchronized (lock) {
+                decrease(backoffRatio, "429 응답");
+            }
+        } else if (UpstreamErrors.isUpstreamFailure(error)) {
+            synchronized (lock) {
+                decrease(backoffRatio, UpstreamErrors.isTimeout(error) ? "타임아웃" : "업스트림 장애");
+            }
+        }
+    }
+
+    /**
+     * limit 감소 (lock 안에서 호출, cooldown 안에서는 한 번만 적용)
+     */
+    private void decrease(double ratio, String reason) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < decreaseCooldown.toNanos()) {
+            return;
+        }
+        double previous = limit;
+        limit = Math.max(minLimit, limit * ratio);
+        lastDecreaseNanos = now;
+        decreaseCount.incrementAndGet();
+        log.warn("OpenAI 동시 호출 제한 감소 - {}: {} → {} (진행 중: {})", reason, (int) previous, (int) limit, inFlight);
+    }
+
+    /**
+     * 허가 반환 또는 limit 증가 후 대기 중인 호출에 허가 전달
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            while (!pending.isEmpty() && inFlight < (int) limit) {
+                granted.add(pending.pollFirst());
+                inFlight++;
+            }
+        }
+        granted.forEach(waiter -> waiter.sink().success(waiter.permit()));
+    }
+
+    private record Waiter(MonoSink<Permit> sink, Permit permit) {
+    }
+
+    /**
+     * 호출 허가 (한 번만 반환됨)
+     */
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                synchronized (lock) {
+                    inFlight--;
+                }
+                drain();
+            }
+        }
+    }
+
+    /**
+     * 작업별 지연 추정 (장기 평균 = 평소 지연, 단기 평균 = 최근 지연)
+     */
+    private static final class LatencyEstimate {
+        private double baseline;
+        private double recent;
+        private long samples;
+
+        private void update(long latencyMillis) {
+            if (samples++ == 0) {
+                baseline = latencyMillis;
+                recent = latencyMillis;
+                return;
+            }
+            baseline += BASELINE_WEIGHT * (latencyMillis - baseline);
+            recent += RECENT_WEIGHT * (latencyMillis - recent);
+        }
+
+        private boolean isDegraded(double tolerance) {
+            return samples >= LATENCY_WARMUP_SAMPLES && recent > baseline * tolerance;
+        }
+    }
+}
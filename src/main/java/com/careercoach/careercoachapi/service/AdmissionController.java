@@ -0,0 +1,334 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.AdmissionRejectedException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * 스트리밍 세션 입장 제어 (Admission Control)
+ * 동시에 처리 중인 세션 수와 진행 중인 업스트림 호출 수(허용 동시 호출 수 대비)를 보고 새 세션을 받을지 결정
+ * 용량을 넘으면 REJECT 모드는 즉시 429로 거절하고, QUEUE 모드는 제한된 대기열에서 순서대로 입장시킴
+ *
+ * 입장권(Admission)은 세션 종료 시 dispose 되어 용량을 반환하며, 반환될 때마다 대기열의 다음 세션이 입장
+ * 업스트림 여유는 캐시 워밍/리액티브 엔드포인트 호출에도 좌우되므로, 추적 중인 업스트림 호출이 끝날 때도 대기열을 확인
+ * 대기 시간 초과는 전용 스레드의 타이머 휠로 처리 (공용 ForkJoinPool을 쓰지 않음)
+ *
+ * 실제 동시 세션 상한은 min(maxConcurrentSessions, 제한기 limit / 세션당 업스트림 호출 수)
+ * (예: limit 10, PARALLEL 모드는 세션당 2회 호출이므로 약 5세션)
+ */
+@Slf4j
+public class AdmissionController {
+
+    public enum Mode {
+        REJECT,  // 용량 초과 시 즉시 거절
+        QUEUE    // 용량 초과 시 대기열에서 최대 대기 시간까지 대기, 대기열이 가득 차면 거절
+    }
+
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 5;  // 소요 시간 기록이 없을 때의 재시도 권장 시간
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+    private static final Duration QUEUE_EXPIRY_TICK = Duration.ofMillis(100);
+    private static final int QUEUE_EXPIRY_WHEEL_SIZE = 512;
+
+    @Getter
+    private final Mode mode;
+    private final int maxConcurrentSessions;
+    private final IntSupplier upstreamCapacity;  // 허용 업스트림 동시 호출 수 (적응형 제한기의 현재 limit)
+    private final int queueCapacity;
+    private final Duration maxQueueWait;
+    private final GenerationTracker generationTracker;
+    private final SessionExpiryWheel<Admission> queueExpiry =
+            new SessionExpiryWheel<>("admission-queue-expiry", QUEUE_EXPIRY_TICK, QUEUE_EXPIRY_WHEEL_SIZE,
+                    Admission::expire);
+
+    private final Object lock = new Object();
+    private final Deque<Admission> waiting = new ArrayDeque<>();  // lock으로 보호
+    private int activeSessions;                                   // lock으로 보호
+
+    // 계측 정보
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong queueTimeoutCount = new AtomicLong();
+
+    public AdmissionController(Mode mode, int maxConcurrentSessions, IntSupplier upstreamCapacity,
+                               int queueCapacity, Duration maxQueueWait, GenerationTracker generationTracker) {
+        this.mode = mode;
+        this.maxConcurrentSessions = maxConcurrentSessions;
+        this.upstreamCapacity = upstreamCapacity;
+        this.queueCapacity = queueCapacity;
+        this.maxQueueWait = maxQueueWait;
+        this.generationTracker = generationTracker;
+        generationTracker.addFinishListener(this::onGenerationFinished);
+    }
+
+    /**
+     * 설정된 모드로 입장 요청
+     * 여유가 있으면 바로 입장한 입장권을, QUEUE 모드에서 여유가 없으면 대기 중인 입장권을 반환
+     *
+     * @throws AdmissionRejectedException 용량과 대기열이 모두 가득 찬 경우
+     */
+    public Admission admit() {
+        return admit(mode == Mode.QUEUE);
+    }
+
+    /**
+     * 대기열 없이 즉시 입장 요청 (연결 수명 동안 대기 이벤트를 보낼 수 없는 엔드포인트용)
+     *
+     * @throws AdmissionRejectedException 용량이 가득 찬 경우
+     */
+    public Admission admitNow() {
+        return admit(false);
+    }
+
+    private Admission admit(boolean allowQueue) {
+        Admission admission = new Admission();
+        int position;
+        synchronized (lock) {
+            if (waiting.isEmpty() && hasCapacity()) {
+                activeSessions++;
+                admission.state = State.ADMITTED;
+                admittedCount.incrementAndGet();
+                return admission;
+            }
+            if (!allowQueue || waiting.size() >= queueCapacity) {
+                rejectedCount.incrementAndGet();
+                long retryAfter = estimateRetryAfterSeconds();
+                log.warn("처리 용량 초과로 요청 거절 - 처리 중: {}, 업스트림 호출: {}, 대기: {}, Retry-After: {}s",
+                        activeSessions, generationTracker.getInFlightCount(), waiting.size(), retryAfter);
+                throw new AdmissionRejectedException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfter);
+            }
+            waiting.addLast(admission);
+            position = waiting.size();
+            admission.position = position;
+            queuedCount.incrementAndGet();
+        }
+
+        log.info("처리 용량 초과로 대기열 등록 - 순번: {}", position);
+        admission.expiry = queueExpiry.schedule(admission, maxQueueWait);
+        return admission;
+    }
+
+    /**
+     * 대기 시간 초과 타이머 종료 (애플리케이션 종료 시)
+     */
+    public void close() {
+        queueExpiry.close();
+    }
+
+    /**
+     * 업스트림 호출이 끝나 여유가 생겼을 수 있으므로 대기열 확인 (대기 세션이 없으면 바로 반환)
+     */
+    private void onGenerationFinished() {
+        if (mode == Mode.QUEUE && getQueueDepth() > 0) {
+            dispatch();
+        }
+    }
+
+    /**
+     * 새 세션을 받을 여유가 있는지 (lock 안에서 호출)
+     * 세션 수 상한과 함께, 업스트림 호출이 허용 동시 호출 수를 모두 채웠으면 새 세션의 호출은 대기로 밀리므로 받지 않음
+     */
+    private boolean hasCapacity() {
+        return activeSessions < maxConcurrentSessions
+                && generationTracker.getInFlightCount() < upstreamCapacity.getAsInt();
+    }
+
+    /**
+     * 평균 세션 소요 시간 기반 재시도 권장 시간 (초)
+     */
+    private long estimateRetryAfterSeconds() {
+        long averageMillis = generationTracker.getLongestAverageDurationMillis();
+        if (averageMillis <= 0) {
+            return DEFAULT_RETRY_AFTER_SECONDS;
+        }
+        return Math.clamp((averageMillis + 999) / 1000, 1, MAX_RETRY_AFTER_SECONDS);
+    }
+
+    /**
+     * 용량이 반환되었을 때 대기열 앞에서부터 입장시키고, 남은 대기 세션에 새 순번을 알림
+     */
+    private void dispatch() {
+        List<Admission> admitted = new ArrayList<>();
+        synchronized (lock) {
+            while (!waiting.isEmpty() && hasCapacity()) {
+                Admission next = waiting.pollFirst();
+                next.state = State.ADMITTED;
+                next.cancelExpiry();
+                activeSessions++;
+                admittedCount.incrementAndGet();
+                admitted.add(next);
+            }
+        }
+        admitted.forEach(Admission::runStateCallback);
+        notifyPositions();
+    }
+
+    private void notifyPositions() {
+        List<Admission> changed = new ArrayList<>();
+        synchronized (lock) {
+            int position = 0;
+            for (Admission admission : waiting) {
+                position++;
+                if (admission.position != position) {
+                    admission.position = position;
+                    changed.add(admission);
+                }
+            }
+        }
+        changed.forEach(Admission::runPositionChanged);
+    }
+
+    public int getActiveSessions() {
+        synchronized (lock) {
+            return activeSessions;
+        }
+    }
+
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return waiting.size();
+        }
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public long getQueueTimeoutCount() {
+        return queueTimeoutCount.get();
+    }
+
+    private enum State {
+        QUEUED, ADMITTED, RELEASED, EXPIRED
+    }
+
+    /**
+     * 입장권
+     * 세션에 생성 작업으로 등록해 두면 세션 종료(완료/오류/연결 종료) 시 dispose 되어 용량 반환 또는 대기열 이탈
+     */
+    public final class Admission implements Disposable {
+
+        private State state = State.QUEUED;  // lock으로 보호
+        private int position;                // lock으로 보호
+        private Runnable onAdmitted;
+        private IntConsumer onPositionChanged;
+        private Runnable onExpired;
+        private boolean notified;            // 입장/만료 작업 실행 여부
+        private volatile SessionExpiryWheel.Timeout<Admission> expiry;  // 대기 시간 초과 타이머
+
+        /**
+         * 입장/순번 변경/대기 시간 초과 시 실행할 작업 등록
+         * 등록 시점에 이미 입장했거나 만료되었다면 해당 작업을 바로 실행하고, 대기 중이면 현재 순번을 알림
+         */
+        public void onReady(Runnable onAdmitted, IntConsumer onPositionChanged, Runnable onExpired) {
+            synchronized (lock) {
+                this.onAdmitted = onAdmitted;
+                this.onPositionChanged = onPositionChanged;
+                this.onExpired = onExpired;
+            }
+            runPositionChanged();
+            runStateCallback();
+        }
+
+        /**
+         * 입장하여 처리 중인지 여부
+         */
+        public boolean isAdmitted() {
+            synchronized (lock) {
+                return state == State.ADMITTED;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            State previous;
+            synchronized (lock) {
+                previous = state;
+                if (previous == State.ADMITTED) {
+                    activeSessions--;
+                } else if (previous == State.QUEUED) {
+                    waiting.remove(this);
+                    cancelExpiry();
+                }
+                state = State.RELEASED;
+            }
+            if (previous == State.ADMITTED || previous == State.QUEUED) {
+                dispatch();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            synchronized (lock) {
+                return state == State.RELEASED || state == State.EXPIRED;
+            }
+        }
+
+        private void cancelExpiry() {
+            SessionExpiryWheel.Timeout<Admission> timeout = expiry;
+            if (timeout != null) {
+                queueExpiry.cancel(timeout);
+            }
+        }
+
+        private void expire() {
+            synchronized (lock) {
+                if (state != State.QUEUED) {
+                    return;
+                }
+                waiting.remove(this);
+                state = State.EXPIRED;
+            }
+            queueTimeoutCount.incrementAndGet();
+            log.warn("대기 시간 초과 - 최대 대기: {}ms", maxQueueWait.toMillis());
+            runStateCallback();
+            notifyPositions();
+        }
+
+        /**
+         * 입장 또는 만료 작업을 한 번만 실행 (상태 변경과 작업 등록 중 늦은 쪽에서 실행됨)
+         */
+        private void runStateCallback() {
+            Runnable callback = null;
+            synchronized (lock) {
+                if (!notified) {
+                    callback = state == State.ADMITTED ? onAdmitted : state == State.EXPIRED ? onExpired : null;
+                    notified = callback != null;
+                }
+            }
+            if (callback != null) {
+                callback.run();
+            }
+        }
+
+        private void runPositionChanged() {
+            IntConsumer callback;
+            int currentPosition;
+            synchronized (lock) {
+                callback = state == State.QUEUED ? onPositionChanged : null;
+                currentPosition = position;
+            }
+            if (callback != null) {
+                callback.accept(currentPosition);
+            }
+        }
+    }
+}
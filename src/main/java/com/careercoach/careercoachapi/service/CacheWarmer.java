@@ -0,0 +1,213 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 요청 캐시 워밍
+ * 한가한 시간대(off-peak)에 가장 자주 들어온 요청 top-K의 결과를 미리 생성/갱신하여 캐시에 넣어둠
+ * - 빈도는 HeavyHitterTracker(Space-Saving)로 추적하고, 한가한 시간대가 끝나면 빈도를 절반으로 줄여 최근 추세를 반영
+ * - 캐시에 있고 refresh-after가 지나지 않은 결과는 건너뛰고, 나머지는 통합 생성 1회 호출로 두 캐시를 함께 갱신
+ * - 시간대마다 토큰 예산을 두고, 직전 호출 사용량만큼 남지 않으면 중단
+ * - 한 번에 하나씩 순서대로 생성하므로 실제 요청과 OpenAI 연결을 다투지 않음
+ */
+@Slf4j
+public class CacheWarmer {
+
+    private final HeavyHitterTracker heavyHitterTracker;
+    private final CareerCoachService careerCoachService;
+    private final CoachingResultCache resultCache;
+    private final int topK;
+    private final long tokenBudget;
+    private final LocalTime offPeakStart;
+    private final LocalTime offPeakEnd;
+    private final Duration refreshAfter;
+    private final Duration interval;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    // 한가한 시간대별 상태 (워밍 스레드만 변경)
+    private LocalDate windowDate;                 // 현재 시간대가 시작된 날짜
+    private long windowTokens;                    // 현재 시간대에 사용한 토큰 수
+    private long lastCallTokens;                  // 직전 생성 호출의 토큰 수 (다음 호출 사용량 추정치)
+    private LocalDate decayedDate;                // 빈도를 마지막으로 줄인 시간대
+
+    // 계측 정보
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong warmedCount = new AtomicLong();
+    private final AtomicLong freshCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong tokensSpent = new AtomicLong();
+
+    public CacheWarmer(HeavyHitterTracker heavyHitterTracker, CareerCoachService careerCoachService,
+                       CoachingResultCache resultCache, int topK, long tokenBudget,
+                       LocalTime offPeakStart, LocalTime offPeakEnd, Duration refreshAfter,
+                       Duration interval, Clock clock) {
+        this.heavyHitterTracker = heavyHitterTracker;
+        this.careerCoachService = careerCoachService;
+        this.resultCache = resultCache;
+        this.topK = topK;
+        this.tokenBudget = tokenBudget;
+        this.offPeakStart = offPeakStart;
+        this.offPeakEnd = offPeakEnd;
+        this.refreshAfter = refreshAfter;
+        this.interval = interval;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cache-warmer").daemon(true).factory());
+    }
+
+    /**
+     * interval마다 워밍 실행 (한가한 시간대가 아니면 빈도 감쇠만 확인)
+     */
+    public void start() {
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("캐시 워밍 시작 - top-K: {}, 시간대: {}~{}, 토큰 예산: {}", topK, offPeakStart, offPeakEnd, tokenBudget);
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 워밍 1회 실행
+     *
+     * @return 새로 생성한 결과 수
+     */
+    public int warm() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!isOffPeak(now.toLocalTime())) {
+            decayAfterWindow();
+            return 0;
+        }
+
+        LocalDate window = windowDateOf(now);
+        if (!window.equals(windowDate)) {
+            windowDate = window;
+            windowTokens = 0;
+        }
+        runCount.incrementAndGet();
+
+        int warmed = 0;
+        List<HeavyHitterTracker.HotRequest> candidates = heavyHitterTracker.topK(topK);
+        for (HeavyHitterTracker.HotRequest candidate : candidates) {
+            if (resultCache.isFresh(candidate.key(), refreshAfter)) {
+                freshCount.incrementAndGet();
+                continue;
+            }
+            if (windowTokens + lastCallTokens > tokenBudget) {
+                log.info("캐시 워밍 토큰 예산 소진 - 사용: {}/{}", windowTokens, tokenBudget);
+                break;
+            }
+            if (!isOffPeak(LocalTime.now(clock))) {
+                log.info("한가한 시간대가 끝나 캐시 워밍 중단");
+                break;
+            }
+
+            if (generate(candidate)) {
+                warmed++;
+            }
+        }
+
+        if (warmed > 0) {
+            log.info("캐시 워밍 완료 - 후보: {}개, 생성: {}개, 시간대 토큰 사용: {}/{}",
+                    candidates.size(), warmed, windowTokens, tokenBudget);
+        }
+        return warmed;
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    public long getWarmedCount() {
+        return warmedCount.get();
+    }
+
+    public long getFreshCount() {
+        return freshCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getTokensSpent() {
+        return tokensSpent.get();
+    }
+
+    /**
+     * 결과를 새로 생성하여 캐시 갱신 (실패해도 사용한 토큰은 예산에 반영)
+     */
+    private boolean generate(HeavyHitterTracker.HotRequest candidate) {
+        AtomicLong usedTokens = new AtomicLong();
+        GenerationListener<String> usageListener = new GenerationListener<>() {
+            @Override
+            public void onUsage(TokenUsage usage) {
+                usedTokens.addAndGet(usage.getTotalTokens());
+            }
+        };
+
+        try {
+            careerCoachService.refreshComprehensiveReactive(candidate.request(),
+                            new ComprehensiveGenerationListener(usageListener, GenerationListener.none()))
+                    .block();
+            warmedCount.incrementAndGet();
+            log.debug("캐시 워밍 - 직무: {}, 빈도: {}, 토큰: {}",
+                    candidate.request().getJobRole(), candidate.count(), usedTokens.get());
+            return true;
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.warn("캐시 워밍 실패 - 직무: {}, 원인: {}", candidate.request().getJobRole(), e.getMessage());
+            return false;
+        } finally {
+            lastCallTokens = usedTokens.get();
+            windowTokens += lastCallTokens;
+            tokensSpent.addAndGet(lastCallTokens);
+        }
+    }
+
+    /**
+     * 한가한 시간대가 끝난 뒤 한 번 빈도를 절반으로 줄임
+     */
+    private void decayAfterWindow() {
+        if (windowDate != null && !windowDate.equals(decayedDate)) {
+            heavyHitterTracker.decay();
+            decayedDate = windowDate;
+        }
+    }
+
+    /**
+     * 한가한 시간대인지 (자정을 넘는 시간대 지원, 예: 23:00~05:00)
+     */
+    private boolean isOffPeak(LocalTime time) {
+        if (offPeakStart.isBefore(offPeakEnd)) {
+            return !time.isBefore(offPeakStart) && time.isBefore(offPeakEnd);
+        }
+        return !time.isBefore(offPeakStart) || time.isBefore(offPeakEnd);
+    }
+
+    private LocalDate windowDateOf(LocalDateTime now) {
+        return now.toLocalTime().isBefore(offPeakStart) ? now.toLocalDate().minusDays(1) : now.toLocalDate();
+    }
+
+    private void runQuietly() {
+        try {
+            warm();
+        } catch (Exception e) {
+            log.error("캐시 워밍 실행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 정규화된 코칭 요청 키
+ * 공백 정리, 소문자 변환, 기술 스킬 표기 통일(SkillSynonyms)과 중복 제거 및 정렬을 거쳐 사실상 같은 요청이 같은 키를 갖도록 함
+ */
+@Getter
+@EqualsAndHashCode
+public final class CanonicalRequestKey {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String jobRole;
+    private final String careerSummary;
+    private final List<String> techSkills;  // 정규화 후 정렬된 기술 스킬
+
+    public CanonicalRequestKey(String jobRole, String careerSummary, List<String> techSkills) {
+        this.jobRole = jobRole;
+        this.careerSummary = careerSummary;
+        this.techSkills = List.copyOf(techSkills);
+    }
+
+    /**
+     * 요청에서 정규화된 키 생성
+     */
+    public static CanonicalRequestKey from(ResumeInfoRequest request) {
+        List<String> skills = request.getTechSkills() == null ? List.of() : request.getTechSkills().stream()
+                .map(CanonicalRequestKey::normalize)
+                .map(SkillSynonyms::canonicalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+
+        return new CanonicalRequestKey(
+                normalize(request.getJobRole()),
+                normalize(request.getCareerSummary()),
+                skills);
+    }
+
+    /**
+     * 키의 정규화 문자열 표현
+     */
+    public String asString() {
+        return jobRole + '\n' + careerSummary + '\n' + String.join(",", techSkills);
+    }
+
+    /**
+     * 정규화 문자열의 SHA-256 해시 (16진수)
+     */
+    public String hash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(asString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalRequestKey{" +
+                "jobRole='" + jobRole + '\'' +
+                ", techSkills=" + techSkills +
+                '}';
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
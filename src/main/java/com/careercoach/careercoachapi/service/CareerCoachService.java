@@ -2,231 +2,458 @@
 package com.careercoach.careercoachapi.service;
 
 import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
 import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
 import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CareerCoachService {
 
-    private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private static final int REQUIRED_QUESTION_COUNT = 5;                 // 프롬프트에서 요구하는 면접 질문 수
+    private static final double CHARS_PER_TOKEN_ESTIMATE = 2.0;           // usage가 없을 때 토큰 추정 기준 (한국어 위주)
 
-    @Value("${openai.api.key}")
-    private String apiKey;
+    private final ObjectMapper objectMapper;
+    private final OpenAiResponseDecoder responseDecoder;
+    private final PromptBuilder promptBuilder;
+    private final CoachingResultCache resultCache;
+    private final InFlightRequestCoalescer requestCoalescer;
+    private final GenerationTracker generationTracker;
+    private final CoachingMetrics coachingMetrics;
+    private final TokenUsageTracker tokenUsageTracker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final OpenAiResilience openAiResilience;
+    private final LlmRouter llmRouter;
 
-    @Value("${openai.api.model:gpt-4o-mini}")
-    private String model;
+    @Value("${openai.api.stream:false}")
+    private boolean streamEnabled;
 
     /**
      * 면접 질문 생성 - 보편적인 JSON 방식
      */
     public InterviewQuestionsResponse generateInterviewQuestions(ResumeInfoRequest request) {
-        log.info("면접 질문 생성 시작 - 직무: {}", request.getJobRole());
-
-        try {
-            String prompt = createInterviewQuestionsPrompt(request);
-            String jsonResponse = callOpenAiWithJson(prompt);
+        return generateInterviewQuestions(request, GenerationListener.none());
+    }
 
-            InterviewQuestionsResponse response = objectMapper.readValue(jsonResponse, InterviewQuestionsResponse.class);
+    /**
+     * 면접 질문 생성 - 스트리밍 모드에서는 토큰 조각과 완성된 질문을 listener로 즉시 전달
+     */
+    public InterviewQuestionsResponse generateInterviewQuestions(ResumeInfoRequest request,
+                                                                 GenerationListener<String> listener) {
+        return generateInterviewQuestionsReactive(request, listener).block();
+    }
 
-            // generatedAt 설정
-            if (response.getGeneratedAt() == null) {
-                response.setGeneratedAt(LocalDateTime.now());
+    /**
+     * 면접 질문 생성 - 논블로킹 방식
+     * 정규화된 요청 키로 캐시를 먼저 조회하고, 적중하면 OpenAI를 호출하지 않음
+     * 캐시에 없고 같은 요청이 진행 중이면 해당 호출에 합류
+     */
+    public Mono<InterviewQuestionsResponse> generateInterviewQuestionsReactive(ResumeInfoRequest request,
+                                                                               GenerationListener<String> listener) {
+        return Mono.defer(() -> {
+            CanonicalRequestKey key = CanonicalRequestKey.from(request);
+            InterviewQuestionsResponse cached = resultCache.getInterviewQuestions(key);
+            if (cached != null) {
+                log.info("면접 질문 캐시 적중 - 직무: {}", request.getJobRole());
+                return Mono.just(cached);
             }
 
-            log.info("면접 질문 생성 완료 - 질문 수: {}", response.getQuestions().size());
-            return response;
+            // 같은 요청이 이미 진행 중이면 그 호출의 결과를 공유
+            return requestCoalescer.execute("interview:" + key.asString(), listener,
+                    sharedListener -> generationTracker.track("interview", requestInterviewQuestions(request, sharedListener))
+                            .doOnNext(response -> resultCache.putInterviewQuestions(key, response)));
+        });
+    }
 
-        } catch (Exception e) {
-            log.error("면접 질문 생성 실패", e);
-            throw new RuntimeException("면접 질문 생성에 실패했습니다.", e);
-        }
+    /**
+     * 면접 질문 생성 - OpenAI 호출
+     */
+    private Mono<InterviewQuestionsResponse> requestInterviewQuestions(ResumeInfoRequest request,
+                                                                       GenerationListener<String> listener) {
+        return Mono.defer(() -> {
+                    log.info("면접 질문 생성 시작 - 직무: {}", request.getJobRole());
+
+                    String prompt = coachingMetrics.recordPromptBuild("interview", () -> promptBuilder.interviewQuestions(request));
+                    IncrementalJsonArrayParser<String> parser =
+                            new IncrementalJsonArrayParser<>("questions", String.class, objectMapper);
+
+                    // 필요한 질문 수가 모두 파싱되면 나머지 응답은 읽지 않고 스트림 종료
+                    // 이 경우 나머지 필드는 요청 값을 그대로 되돌려주는 항목이므로 요청에서 채움
+                    OpenAiResponseDecoder.ContentReader<InterviewQuestionsResponse> contentReader =
+                            content -> parser.getElementCount() >= REQUIRED_QUESTION_COUNT
+                                    ? InterviewQuestionsResponse.builder()
+                                            .questions(List.copyOf(parser.getElements()))
+                                            .targetJobRole(request.getJobRole())
+                                            .techSkills(request.getTechSkills())
+                                            .build()
+                                    : objectMapper.readValue(content, InterviewQuestionsResponse.class);
+
+                    return callOpenAi("interview", prompt, contentReader, delta -> {
+                                listener.onDelta(delta);
+                                feedParser(parser, listener, delta);
+                            }, listener::onUsage, () -> parser.getElementCount() >= REQUIRED_QUESTION_COUNT);
+                })
+                .doOnNext(response -> {
+                    // generatedAt 설정
+                    if (response.getGeneratedAt() == null) {
+                        response.setGeneratedAt(LocalDateTime.now());
+                    }
+                    log.info("면접 질문 생성 완료 - 질문 수: {}", response.getQuestions().size());
+                })
+                .onErrorMap(e -> {
+                    log.error("면접 질문 생성 실패", e);
+                    return new RuntimeException("면접 질문 생성에 실패했습니다.", e);
+                });
     }
 
     /**
      * 학습 경로 생성 - 보편적인 JSON 방식
      */
     public LearningPathResponse generateLearningPath(ResumeInfoRequest request) {
-        log.info("학습 경로 생성 시작 - 직무: {}", request.getJobRole());
+        return generateLearningPath(request, GenerationListener.none());
+    }
 
-        try {
-            String prompt = createLearningPathPrompt(request);
-            String jsonResponse = callOpenAiWithJson(prompt);
+    /**
+     * 학습 경로 생성 - 스트리밍 모드에서는 토큰 조각과 완성된 추천 항목을 listener로 즉시 전달
+     */
+    public LearningPathResponse generateLearningPath(ResumeInfoRequest request,
+                                                     GenerationListener<LearningRecommendation> listener) {
+        return generateLearningPathReactive(request, listener).block();
+    }
 
-            LearningPathResponse response = objectMapper.readValue(jsonResponse, LearningPathResponse.class);
+    /**
+     * 학습 경로 생성 - 논블로킹 방식
+     * 정규화된 요청 키로 캐시를 먼저 조회하고, 적중하면 OpenAI를 호출하지 않음
+     * 캐시에 없고 같은 요청이 진행 중이면 해당 호출에 합류
+     */
+    public Mono<LearningPathResponse> generateLearningPathReactive(ResumeInfoRequest request,
+                                                                   GenerationListener<LearningRecommendation> listener) {
+        return Mono.defer(() -> {
+            CanonicalRequestKey key = CanonicalRequestKey.from(request);
+            LearningPathResponse cached = resultCache.getLearningPath(key);
+            if (cached != null) {
+                log.info("학습 경로 캐시 적중 - 직무: {}", request.getJobRole());
+                return Mono.just(cached);
+            }
+
+            // 같은 요청이 이미 진행 중이면 그 호출의 결과를 공유
+            return requestCoalescer.execute("learning:" + key.asString(), listener,
+                    sharedListener -> generationTracker.track("learning", requestLearningPath(request, sharedListener))
+                            .doOnNext(response -> resultCache.putLearningPath(key, response)));
+        });
+    }
+
+    /**
+     * 학습 경로 생성 - OpenAI 호출
+     */
+    private Mono<LearningPathResponse> requestLearningPath(ResumeInfoRequest request,
+                                                           GenerationListener<LearningRecommendation> listener) {
+        return Mono.defer(() -> {
+                    log.info("학습 경로 생성 시작 - 직무: {}", request.getJobRole());
+
+                    String prompt = coachingMetrics.recordPromptBuild("learning", () -> promptBuilder.learningPath(request));
+                    IncrementalJsonArrayParser<LearningRecommendation> parser =
+                            new IncrementalJsonArrayParser<>("recommendations", LearningRecommendation.class, objectMapper);
 
-            // generatedAt 설정
-            if (response.getGeneratedAt() == null) {
-                response.setGeneratedAt(LocalDateTime.now());
+                    // overallAssessment가 배열 뒤에 오므로 문서 끝까지 수신
+                    return callOpenAi("learning", prompt, responseDecoder.readerFor(LearningPathResponse.class), delta -> {
+                                listener.onDelta(delta);
+                                feedParser(parser, listener, delta);
+                            }, listener::onUsage, () -> false);
+                })
+                .doOnNext(response -> {
+                    // generatedAt 설정
+                    if (response.getGeneratedAt() == null) {
+                        response.setGeneratedAt(LocalDateTime.now());
+                    }
+                    log.info("학습 경로 생성 완료 - 추천 항목: {}", response.getRecommendations().size());
+                })
+                .onErrorMap(e -> {
+                    log.error("학습 경로 생성 실패", e);
+                    return new RuntimeException("학습 경로 생성에 실패했습니다.", e);
+                });
+    }
+
+    /**
+     * 면접 질문 + 학습 경로 통합 생성 - 한 번의 OpenAI 호출로 두 결과를 함께 생성
+     */
+    public ComprehensiveCareerResponse generateComprehensive(ResumeInfoRequest request,
+                                                             ComprehensiveGenerationListener listener) {
+        return generateComprehensiveReactive(request, listener).block();
+    }
+
+    /**
+     * 면접 질문 + 학습 경로 통합 생성 - 논블로킹 방식
+     * 두 결과가 모두 캐시에 있으면 OpenAI를 호출하지 않고, 생성 결과는 각각의 캐시에 저장
+     */
+    public Mono<ComprehensiveCareerResponse> generateComprehensiveReactive(ResumeInfoRequest request,
+                                                                           ComprehensiveGenerationListener listener) {
+        return Mono.defer(() -> {
+            CanonicalRequestKey key = CanonicalRequestKey.from(request);
+            InterviewQuestionsResponse cachedInterview = resultCache.getInterviewQuestions(key);
+            LearningPathResponse cachedLearning = resultCache.getLearningPath(key);
+            if (cachedInterview != null && cachedLearning != null) {
+                log.info("통합 생성 캐시 적중 - 직무: {}", request.getJobRole());
+                return Mono.just(ComprehensiveCareerResponse.builder()
+                        .interviewQuestions(cachedInterview)
+                        .learningPath(cachedLearning)
+                        .build());
             }
 
-            log.info("학습 경로 생성 완료 - 추천 항목: {}", response.getRecommendations().size());
-            return response;
+            return generateAndCacheComprehensive(key, request, listener);
+        });
+    }
 
-        } catch (Exception e) {
-            log.error("학습 경로 생성 실패", e);
-            throw new RuntimeException("학습 경로 생성에 실패했습니다.", e);
-        }
+    /**
+     * 면접 질문 + 학습 경로 통합 생성 - 캐시를 조회하지 않고 새로 생성하여 캐시 갱신 (캐시 워밍용)
+     */
+    public Mono<ComprehensiveCareerResponse> refreshComprehensiveReactive(ResumeInfoRequest request,
+                                                                          ComprehensiveGenerationListener listener) {
+        return Mono.defer(() -> generateAndCacheComprehensive(CanonicalRequestKey.from(request), request, listener));
     }
 
     /**
-     * OpenAI API 호출 - JSON 모드 (보편적인 방식)
+     * 같은 요청이 이미 진행 중이면 그 호출의 결과를 공유하고, 생성 결과는 각각의 캐시에 저장
      */
-    private String callOpenAiWithJson(String prompt) {
-        try {
-            Map<String, Object> requestBody = Map.of(
-                    "model", model,
-                    "messages", Arrays.asList(
-                            Map.of("role", "user", "content", prompt)
-                    ),
-                    "max_tokens", 3000,
-                    "temperature", 0.3,
-                    "response_format", Map.of("type", "json_object") // JSON 모드 활성화
-            );
-
-            String result = webClient
-                    .post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .headers(headers -> {
-                        headers.set("Authorization", "Bearer " + apiKey);
-                        headers.setContentType(MediaType.APPLICATION_JSON);
-                    })
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(30));
-
-            // 응답에서 content 추출
-            Map<String, Object> responseMap = objectMapper.readValue(result, Map.class);
-            return (String) ((Map<String, Object>) ((Map<String, Object>)
-                    ((java.util.List<?>) responseMap.get("choices")).get(0)).get("message")).get("content");
+    private Mono<ComprehensiveCareerResponse> generateAndCacheComprehensive(CanonicalRequestKey key,
+                                                                            ResumeInfoRequest request,
+                                                                            ComprehensiveGenerationListener listener) {
+        return requestCoalescer.execute("combined:" + key.asString(), listener,
+                ComprehensiveGenerationListener::broadcast,
+                sharedListener -> generationTracker.track("combined", requestComprehensive(request, sharedListener))
+                        .doOnNext(response -> {
+                            resultCache.putInterviewQuestions(key, response.getInterviewQuestions());
+                            resultCache.putLearningPath(key, response.getLearningPath());
+                        }));
+    }
 
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 실패", e);
-            throw new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
-        }
+    /**
+     * 면접 질문 + 학습 경로 통합 생성 - OpenAI 호출
+     * 질문 배열이 닫히기 전까지의 delta는 면접 질문 listener로, 이후는 학습 경로 listener로 전달
+     */
+    private Mono<ComprehensiveCareerResponse> requestComprehensive(ResumeInfoRequest request,
+                                                                   ComprehensiveGenerationListener listener) {
+        return Mono.defer(() -> {
+                    log.info("통합 생성 시작 - 직무: {}", request.getJobRole());
+
+                    String prompt = coachingMetrics.recordPromptBuild("combined", () -> promptBuilder.comprehensive(request));
+                    GenerationListener<String> interviewListener = listener.getInterviewListener();
+                    GenerationListener<LearningRecommendation> learningListener = listener.getLearningListener();
+                    IncrementalJsonArrayParser<String> questionParser =
+                            new IncrementalJsonArrayParser<>("questions", String.class, objectMapper);
+                    IncrementalJsonArrayParser<LearningRecommendation> recommendationParser =
+                            new IncrementalJsonArrayParser<>("recommendations", LearningRecommendation.class, objectMapper);
+
+                    return callOpenAi("combined", prompt, responseDecoder.readerFor(CombinedContent.class), delta -> {
+                                if (questionParser.isArrayClosed()) {
+                                    learningListener.onDelta(delta);
+                                } else {
+                                    interviewListener.onDelta(delta);
+                                }
+                                feedParser(questionParser, interviewListener, delta);
+                                feedParser(recommendationParser, learningListener, delta);
+                            }, interviewListener::onUsage, () -> false)  // 사용량은 한 번만 전달
+                            .map(content -> toComprehensiveResponse(request, content));
+                })
+                .doOnNext(response -> {
+                    // generatedAt 설정
+                    LocalDateTime now = LocalDateTime.now();
+                    if (response.getInterviewQuestions().getGeneratedAt() == null) {
+                        response.getInterviewQuestions().setGeneratedAt(now);
+                    }
+                    if (response.getLearningPath().getGeneratedAt() == null) {
+                        response.getLearningPath().setGeneratedAt(now);
+                    }
+                    log.info("통합 생성 완료 - 질문 수: {}, 추천 항목: {}",
+                            response.getInterviewQuestions().getQuestions().size(),
+                            response.getLearningPath().getRecommendations().size());
+                })
+                .onErrorMap(e -> {
+                    log.error("통합 생성 실패", e);
+                    return new RuntimeException("면접 질문 및 학습 경로 생성에 실패했습니다.", e);
+                });
+    }
+
+    /**
+     * 통합 프롬프트의 응답 형식 (두 배열이 최상위에 있는 평평한 구조)
+     */
+    @Data
+    @NoArgsConstructor
+    private static class CombinedContent {
+        private List<String> questions;
+        private List<LearningRecommendation> recommendations;
+        private String overallAssessment;
     }
 
     /**
-     * 면접 질문 프롬프트 생성
-     */
-    private String createInterviewQuestionsPrompt(ResumeInfoRequest request) {
-        return String.format("""
-        당신은 전문 면접관입니다. 아래 정보를 바탕으로 실제 면접에서 나올 법한 심층적인 면접 질문을 JSON 형식으로 생성해주세요.
-        
-        ## 지원자 정보
-        직무: %s
-        경력: %s
-        기술 스킬: %s
-        
-        ## 질문 생성 요구사항
-        1. 각 질문은 지원자의 경력과 기술 스킬을 구체적으로 검증할 수 있어야 함
-        2. 단순한 지식 확인이 아닌 실무 경험과 문제해결 능력을 평가하는 질문
-        3. 상황 기반 답변을 유도하는 행동 중심 질문 포함
-        4. 해당 직무의 핵심 역량을 평가할 수 있는 기술적 질문
-        5. 협업, 커뮤니케이션, 문제해결 능력을 종합적으로 평가하는 질문
-        
-        다음 JSON 형식으로 정확히 응답해주세요:
-        {
-          "questions": [
-            "실무 경험을 바탕으로 한 구체적인 면접 질문 1 (100자 이내)",
-            "기술적 문제해결 능력을 평가하는 면접 질문 2 (100자 이내)",
-            "협업 및 커뮤니케이션 역량을 확인하는 면접 질문 3 (100자 이내)",
-            "상황 기반 행동 평가 질문 4 (100자 이내)",
-            "성장 가능성과 학습 의지를 확인하는 질문 5 (100자 이내)"
-          ],
-          "targetJobRole": "%s",
-          "techSkills": %s
+     * 통합 응답을 면접 질문/학습 경로 응답으로 분리
+     * 직무와 기술 스킬은 요청 값을 그대로 되돌려주는 항목이므로 요청에서 채움
+     */
+    private ComprehensiveCareerResponse toComprehensiveResponse(ResumeInfoRequest request, CombinedContent content) {
+        InterviewQuestionsResponse interviewQuestions = InterviewQuestionsResponse.builder()
+                .questions(content.getQuestions())
+                .targetJobRole(request.getJobRole())
+                .techSkills(request.getTechSkills())
+                .build();
+
+        LearningPathResponse learningPath = LearningPathResponse.builder()
+                .recommendations(content.getRecommendations())
+                .overallAssessment(content.getOverallAssessment())
+                .targetJobRole(request.getJobRole())
+                .currentTechSkills(request.getTechSkills())
+                .build();
+
+        return ComprehensiveCareerResponse.builder()
+                .interviewQuestions(interviewQuestions)
+                .learningPath(learningPath)
+                .build();
+    }
+
+    /**
+     * LLM 호출 - 스트리밍이 활성화되어 있으면 수신한 delta를 onDelta로 전달
+     * 작업별 경로(제공자/모델/생성 옵션)를 순서대로 시도하고, 타임아웃 등으로 실패하면 다음 경로로 폴백
+     * stopCondition이 충족되면 남은 응답은 읽지 않고 업스트림 구독을 취소
+     * 토큰 사용량은 작업/모델별로 집계하고 onUsage로 전달
+     * 응답 content는 contentReader로 결과 객체로 변환
+     */
+    private <T> Mono<T> callOpenAi(String task, String prompt, OpenAiResponseDecoder.ContentReader<T> contentReader,
+                                   Consumer<String> onDelta, Consumer<TokenUsage> onUsage,
+                                   BooleanSupplier stopCondition) {
+        List<ModelRoute> routes = llmRouter.routes(task);
+
+        if (!streamEnabled) {
+            Mono<T> result = complete(routes.get(0), prompt, contentReader, onUsage);
+            for (ModelRoute fallback : routes.subList(1, routes.size())) {
+                result = result.onErrorResume(LlmRouter::isFallbackable, e -> {
+                    log.warn("LLM 호출 폴백 - task: {}, 다음 경로: {}, 원인: {}", task, fallback, e.getMessage());
+                    return complete(fallback, prompt, contentReader, onUsage);
+                });
+            }
+            return result;
         }
-        
-        ## 주의사항
-        - 반드시 5개의 질문만 생성
-        - 각 질문은 100자 이내로 작성
-        - JSON 형식을 정확히 준수
-        - 질문은 실제 면접에서 활용 가능한 수준으로 구체적이고 실용적으로 작성
-        """,
-                request.getJobRole(),
-                request.getCareerSummary(),
-                String.join(", ", request.getTechSkills()),
-                request.getJobRole(),
-                toJsonString(request.getTechSkills())
-        );
-    }
-    /**
-     * 학습 경로 프롬프트 생성
-     */
-    private String createLearningPathPrompt(ResumeInfoRequest request) {
-        return String.format("""
-        당신은 전문 커리어 코치입니다. 아래 정보를 바탕으로 개인 맞춤형 학습 경로를 JSON 형식으로 생성해주세요.
-        
-        ## 지원자 정보
-        직무: %s
-        경력: %s
-        기술 스킬: %s
-        
-        ## 학습 경로 생성 요구사항
-        1. 구직자가 향후 개발 역량을 강화하고 합격률을 높일 수 있는 개인 맞춤형 학습 경로
-        2. 특정 기술 스택 심화, 관련 프로젝트 경험 쌓기, 커뮤니케이션 스킬 강화 등 구체적인 방안 포함
-        3. 현재 기술 수준과 목표 직무 간의 갭 분석을 통한 우선순위 설정
-        4. 실무 적용 가능한 학습 방법 및 기간 제시
-        5. 각 추천 항목에 대한 명확한 근거 제시
-        
-        다음 JSON 형식으로 정확히 응답해주세요:
-        {
-          "recommendations": [
-            {
-              "category": "기술스킬|프로젝트경험|소프트스킬|자격증|네트워킹",
-              "title": "구체적인 학습 제목",
-              "description": "학습 내용과 방법에 대한 상세 설명 (300자 이내)",
-              "priority": "HIGH|MEDIUM|LOW",
-              "estimatedDuration": "예상 소요 기간 (예: 2-3개월, 4-6주 등)",
-              "learningMethod": "온라인강의|프로젝트|멘토링|독서|실습|커뮤니티참여",
-              "reason": "이 학습이 필요한 구체적인 이유 (200자 이내)"
+
+        // 스트리밍은 첫 delta를 받기 전에 실패한 경우에만 재시도/폴백 (이미 전달한 delta를 되돌릴 수 없음)
+        // 동시성 제한기 허가는 stream()에서 시도마다 받음 (재시도 대기와 클라이언트 전달 시간은 허가를 점유하지 않음)
+        return coachingMetrics.timeOpenAiCall(task, true, Mono.defer(() -> {
+            AtomicBoolean usageReported = new AtomicBoolean();
+            AtomicBoolean started = new AtomicBoolean();
+            AtomicLong receivedChars = new AtomicLong();
+            AtomicReference<ModelRoute> activeRoute = new AtomicReference<>(routes.get(0));
+            Consumer<TokenUsage> usageRecorder = usage -> {
+                usageReported.set(true);
+                recordUsage(activeRoute.get(), usage, onUsage);
+            };
+
+            Flux<String> deltas = stream(routes.get(0), prompt, usageRecorder);
+            for (ModelRoute fallback : routes.subList(1, routes.size())) {
+                deltas = deltas.onErrorResume(e -> !started.get() && LlmRouter.isFallbackable(e), e -> {
+                    log.warn("LLM 스트리밍 폴백 - task: {}, 다음 경로: {}, 원인: {}", task, fallback, e.getMessage());
+                    activeRoute.set(fallback);
+                    return stream(fallback, prompt, usageRecorder);
+                });
             }
-          ],
-          "targetJobRole": "%s",
-          "currentTechSkills": %s,
-          "overallAssessment": "현재 역량 수준과 목표 직무까지의 전체적인 평가 및 조언 (500자 이내)"
+
+            return deltas
+                    .doOnNext(delta -> started.set(true))
+                    .publishOn(Schedulers.boundedElastic())  // listener 전달은 netty 이벤트 루프 밖에서 처리
+                    .doOnNext(delta -> receivedChars.addAndGet(delta.length()))
+                    .doOnNext(onDelta)
+                    .takeUntil(delta -> stopCondition.getAsBoolean())
+                    .collect(StringBuilder::new, StringBuilder::append)
+                    .map(content -> coachingMetrics.recordJsonParse(task,
+                            () -> decode(() -> responseDecoder.decodeContent(content.toString(), contentReader))))
+                    // 조기 종료/취소로 마지막 usage 청크를 받지 못하면 길이로 추정
+                    .doFinally(signal -> {
+                        if (!usageReported.get() && (signal != SignalType.ON_ERROR || receivedChars.get() > 0)) {
+                            recordUsage(activeRoute.get(), estimateUsage(prompt, receivedChars.get()), onUsage);
+                        }
+                    });
+        }));
+    }
+
+    /**
+     * JSON 모드로 경로 하나 호출 - 서킷 브레이커/재시도/헤징을 적용하고, 시도마다 동시성 제한기의 허가를 받음
+     * (허가 대기 시간은 OpenAI 호출 시간에 포함하지 않으며, 재시도 대기 중에는 허가를 점유하지 않음)
+     */
+    private <T> Mono<T> complete(ModelRoute route, String prompt, OpenAiResponseDecoder.ContentReader<T> contentReader,
+                                 Consumer<TokenUsage> onUsage) {
+        LlmProvider provider = llmRouter.provider(route);
+        return openAiResilience.execute(provider.getName(), route.task(), concurrencyLimiter.limit(route.task(),
+                coachingMetrics.timeOpenAiCall(route.task(), false,
+                        provider.complete(route, prompt, contentReader, usage -> recordUsage(route, usage, onUsage)))));
+    }
+
+    /**
+     * 스트리밍 모드로 경로 하나 호출 - 서킷 브레이커와 첫 delta 전까지의 재시도를 적용하고, 시도마다 동시성 제한기의 허가를 받음
+     * (허가는 제공자 스트림에만 적용하므로 재시도 대기와 느린 클라이언트로의 전달 시간은 limit 조절에 반영되지 않음)
+     */
+    private Flux<String> stream(ModelRoute route, String prompt, Consumer<TokenUsage> onUsage) {
+        LlmProvider provider = llmRouter.provider(route);
+        return openAiResilience.executeStreaming(provider.getName(),
+                concurrencyLimiter.limitStreaming(route.task(), provider.stream(route, prompt, onUsage)));
+    }
+
+    private void recordUsage(ModelRoute route, TokenUsage usage, Consumer<TokenUsage> onUsage) {
+        tokenUsageTracker.record(route.task(), route.model(), usage);
+        onUsage.accept(usage);
+    }
+
+    /**
+     * delta를 파서에 입력하고 새로 완성된 배열 요소를 listener에 전달
+     */
+    private static <T> void feedParser(IncrementalJsonArrayParser<T> parser, GenerationListener<T> listener,
+                                       String delta) {
+        List<T> completed = parser.feed(delta);
+        int index = parser.getElementCount() - completed.size();
+        for (T element : completed) {
+            listener.onElement(index++, element);
         }
-        
-        ## 주의사항
-        - 4-6개의 학습 추천 항목 생성
-        - 각 항목은 실제 실행 가능한 구체적인 내용으로 작성
-        - priority는 긴급도와 중요도를 고려하여 설정
-        - JSON 형식을 정확히 준수
-        - 모든 필드 필수 입력
-        """,
-                request.getJobRole(),
-                request.getCareerSummary(),
-                String.join(", ", request.getTechSkills()),
-                request.getJobRole(),
-                toJsonString(request.getTechSkills())
-        );
-    }
-    /**
-     * List를 JSON 문자열로 변환
-     */
-    private String toJsonString(Object obj) {
+    }
+
+    /**
+     * 응답 디코딩 - 파싱 실패는 IllegalStateException으로 변환
+     */
+    private <T> T decode(Callable<T> decoder) {
         try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            log.warn("JSON 변환 실패", e);
-            return "[]";
+            return decoder.call();
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 응답 JSON 파싱 실패", e);
         }
     }
+
+    /**
+     * usage를 받지 못한 호출의 토큰 사용량을 문자 수로 추정
+     */
+    private TokenUsage estimateUsage(String prompt, long completionChars) {
+        return TokenUsage.builder()
+                .promptTokens((long) Math.ceil(prompt.length() / CHARS_PER_TOKEN_ESTIMATE))
+                .completionTokens((long) Math.ceil(completionChars / CHARS_PER_TOKEN_ESTIMATE))
+                .estimated(true)
+                .build();
+    }
 }
\ No newline at end of file
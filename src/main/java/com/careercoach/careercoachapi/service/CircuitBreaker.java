@@ -0,0 +1,148 @@
+package com.careercoach.careercoachapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * 최근 windowSize 개 호출 중 실패 비율이 임계값을 넘으면 OPEN 상태가 되어 openDuration 동안 호출을 즉시 거절하고,
+ * 이후 HALF_OPEN 상태에서 시험 호출 하나의 결과로 CLOSED 복귀 또는 다시 OPEN 여부를 결정
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상 - 모든 호출 허용
+        OPEN,       // 장애 - 호출 즉시 거절
+        HALF_OPEN   // 회복 확인 - 시험 호출 하나만 허용
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private boolean trialInFlight;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부
+     * 허용된 호출은 반드시 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 함
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            transitionTo(State.HALF_OPEN);
+        }
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;  // 시험 호출은 한 번에 하나만
+                yield true;
+            }
+        };
+        if (!permitted) {
+            rejectedCount.incrementAndGet();
+        }
+        return permitted;
+    }
+
+    /**
+     * 업스트림이 정상 응답한 호출
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 업스트림 장애로 실패한 호출 (5xx, 타임아웃, 연결 실패)
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 장애 판단에 쓰지 않는 결과 (취소, 429 등) - 시험 호출이었다면 다음 시험 호출을 허용
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * OPEN 상태에서 즉시 거절된 호출 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("OpenAI 서킷 브레이커 상태 변경: {} → {} (최근 {}회 중 실패 {}회)", state, next, recordedCalls, failedCalls);
+        state = next;
+        trialInFlight = false;
+        if (next == State.OPEN) {
+            openUntilNanos = System.nanoTime() + openDuration.toNanos();
+        } else if (next == State.CLOSED) {
+            recordedCalls = 0;
+            failedCalls = 0;
+            outcomeIndex = 0;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 코칭 결과 캐시 스냅샷 (재시작 후 캐시 적중률 유지)
+ * 주기적으로 캐시 내용을 이진 파일에 기록하고, 시작 시 백그라운드에서 파일을 메모리 매핑하여 다시 채움
+ * - 적재를 기다리지 않고 바로 요청을 받으며, 적재 중에 새로 생성된 결과는 덮어쓰지 않음 (putIfAbsent)
+ * - 임시 파일에 기록한 뒤 교체하므로 기록 중 종료되어도 이전 스냅샷이 남음
+ * - 기록 시점의 경과 시간을 함께 저장하여 적재 시 이미 만료(expireAfterWrite)된 항목은 건너뜀
+ *
+ * 파일 형식: magic(int) version(short) createdAt(long) count(int),
+ * 항목마다 cache(byte) age(long) jobRole careerSummary skillCount(int) skills... value(JSON)
+ * (문자열/JSON은 int 길이 + UTF-8 바이트)
+ */
+@Slf4j
+public class CoachingCacheSnapshot {
+
+    private static final int MAGIC = 0x43435348;  // "CCSH"
+    private static final short VERSION = 2;  // 2: 스킬 별칭 정규화 변경으로 키 해시가 달라짐
+    private static final List<String> CACHE_NAMES =
+            List.of(CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS);
+    private static final List<Class<?>> VALUE_TYPES =
+            List.of(InterviewQuestionsResponse.class, LearningPathResponse.class);
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean loaded;              // 적재 전에 빈 캐시로 스냅샷을 덮어쓰지 않도록 함
+    private volatile Consumer<CanonicalRequestKey> loadListener = key -> { };
+
+    // 계측 정보
+    private volatile long snapshotSizeBytes;
+    private volatile long snapshotCreatedAt;      // 마지막으로 기록/적재한 스냅샷의 생성 시각 (epoch ms, 없으면 0)
+    private volatile long lastLoadMillis;
+    private final AtomicLong loadedEntries = new AtomicLong();
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public CoachingCacheSnapshot(CacheManager cacheManager, ObjectMapper objectMapper, Path file, Duration interval) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cache-snapshot").daemon(true).factory());
+    }
+
+    /**
+     * 스냅샷에서 적재한 요청 키를 전달받을 listener (유사 요청 색인 등록용)
+     */
+    public void setLoadListener(Consumer<CanonicalRequestKey> loadListener) {
+        this.loadListener = loadListener;
+    }
+
+    /**
+     * 백그라운드 적재 후 주기적 스냅샷 시작 (단일 스레드이므로 적재가 끝난 뒤에 첫 스냅샷 기록)
+     */
+    public void start() {
+        scheduler.execute(this::loadQuietly);
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기 작업을 멈추고 마지막 스냅샷 기록 (배포 직전 상태를 남김)
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotQuietly();
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 캐시에 적재 (이미 있는 키는 유지)
+     *
+     * @return 적재한 항목 수
+     */
+    public int load() throws IOException {
+        if (!Files.exists(file)) {
+            loaded = true;
+            log.info("캐시 스냅샷 없음 - 빈 캐시로 시작: {}", file);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        int count = 0;
+        int skipped = 0;
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                log.warn("알 수 없는 캐시 스냅샷 형식 - 적재 생략: {}", file);
+                return 0;
+            }
+            long createdAt = buffer.getLong();
+            int entries = buffer.getInt();
+            List<Duration> ttls = CACHE_NAMES.stream().map(this::expireAfterWrite).toList();
+            long now = System.currentTimeMillis();
+
+            for (int i = 0; i < entries; i++) {
+                int cacheIndex = buffer.get();
+                long ageMillis = buffer.getLong();
+                CanonicalRequestKey key = readKey(buffer);
+                byte[] value = readBytes(buffer);
+
+                Duration ttl = ttls.get(cacheIndex);
+                if (ttl != null && ageMillis + (now - createdAt) >= ttl.toMillis()) {
+                    skipped++;
+                    continue;
+                }
+                org.springframework.cache.Cache cache = cacheManager.getCache(CACHE_NAMES.get(cacheIndex));
+                if (cache != null) {
+                    cache.putIfAbsent(key, objectMapper.readValue(value, VALUE_TYPES.get(cacheIndex)));
+                    loadListener.accept(key);
+                    count++;
+                }
+            }
+            snapshotSizeBytes = channel.size();
+            snapshotCreatedAt = createdAt;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            log.warn("손상된 캐시 스냅샷 - {}개 항목까지만 적재: {}", count, file);
+        } finally {
+            loaded = true;
+            lastLoadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            loadedEntries.addAndGet(count);
+        }
+        log.info("캐시 스냅샷 적재 완료 - 항목: {}개, 만료로 제외: {}개, 소요: {}ms", count, skipped, lastLoadMillis);
+        return count;
+    }
+
+    /**
+     * 현재 캐시 내용을 스냅샷 파일로 기록
+     *
+     * @return 기록한 항목 수
+     */
+    public int snapshot() throws IOException {
+        List<Entry> entries = collectEntries();
+        long createdAt = System.currentTimeMillis();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(createdAt);
+                out.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    out.writeByte(entry.cacheIndex());
+                    out.writeLong(entry.ageMillis());
+                    writeString(out, entry.key().getJobRole());
+                    writeString(out, entry.key().getCareerSummary());
+                    out.writeInt(entry.key().getTechSkills().size());
+                    for (String skill : entry.key().getTechSkills()) {
+                        writeString(out, skill);
+                    }
+                    writeBytes(out, entry.value());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        snapshotSizeBytes = Files.size(file);
+        snapshotCreatedAt = createdAt;
+        snapshotCount.incrementAndGet();
+        log.debug("캐시 스냅샷 기록 - 항목: {}개, 크기: {}바이트", entries.size(), snapshotSizeBytes);
+        return entries.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getSnapshotSizeBytes() {
+        return snapshotSizeBytes;
+    }
+
+    /**
+     * 마지막 스냅샷의 경과 시간 (초, 스냅샷이 없으면 0)
+     */
+    public double getSnapshotAgeSeconds() {
+        long createdAt = snapshotCreatedAt;
+        return createdAt == 0 ? 0 : (System.currentTimeMillis() - createdAt) / 1000.0;
+    }
+
+    public double getLastLoadSeconds() {
+        return lastLoadMillis / 1000.0;
+    }
+
+    public long getLoadedEntries() {
+        return loadedEntries.get();
+    }
+
+    public long getSnapshotCount() {
+        return snapshotCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private record Entry(int cacheIndex, long ageMillis, CanonicalRequestKey key, byte[] value) {
+    }
+
+    private List<Entry> collectEntries() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < CACHE_NAMES.size(); i++) {
+            Cache<Object, Object> cache = nativeCache(CACHE_NAMES.get(i));
+            if (cache == null) {
+                continue;
+            }
+            for (Map.Entry<Object, Object> entry : cache.asMap().entrySet()) {
+                if (entry.getKey() instanceof CanonicalRequestKey key) {
+                    long ageMillis = cache.policy().expireAfterWrite()
+                            .flatMap(policy -> policy.ageOf(key))
+                            .map(Duration::toMillis)
+                            .orElse(0L);
+                    entries.add(new Entry(i, ageMillis, key, objectMapper.writeValueAsBytes(entry.getValue())));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private Duration expireAfterWrite(String cacheName) {
+        Cache<Object, Object> cache = nativeCache(cacheName);
+        return cache == null ? null : cache.policy().expireAfterWrite()
+                .map(Policy.FixedExpiration::getExpiresAfter)
+                .orElse(null);
+    }
+
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        return cacheManager.getCache(cacheName) instanceof CaffeineCache caffeineCache
+                ? caffeineCache.getNativeCache()
+                : null;
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (Exception e) {
+            loaded = true;
+            failedCount.incrementAndGet();
+            log.error("캐시 스냅샷 적재 실패 - 빈 캐시로 계속: {}", file, e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("캐시 스냅샷 기록 실패: {}", file, e);
+        }
+    }
+
+    private static CanonicalRequestKey readKey(ByteBuffer buffer) {
+        String jobRole = readString(buffer);
+        String careerSummary = readString(buffer);
+        int skillCount = buffer.getInt();
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(readString(buffer));
+        }
+        return new CanonicalRequestKey(jobRole, careerSummary, skills);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
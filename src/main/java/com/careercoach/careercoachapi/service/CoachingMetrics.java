@@ -0,0 +1,136 @@
+package com.careercoach.careercoachapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 코칭 파이프라인 단계별 지표 기록
+ * 히스토그램 발행 여부는 management.metrics.distribution.percentiles-histogram.coaching 으로 설정
+ */
+@Component
+@RequiredArgsConstructor
+public class CoachingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 프롬프트 생성 시간 기록
+     *
+     * @param task 작업 종류 (interview, learning, combined)
+     */
+    public <T> T recordPromptBuild(String task, Supplier<T> builder) {
+        return Timer.builder("coaching.prompt.build")
+                .description("프롬프트 생성 시간")
+                .tag("task", task)
+                .register(meterRegistry)
+                .record(builder);
+    }
+
+    /**
+     * AI 응답 JSON 파싱 시간 기록 (응답 envelope 디코딩 + content 변환)
+     *
+     * @param task 작업 종류 (interview, learning, combined)
+     */
+    public <T> T recordJsonParse(String task, Supplier<T> parser) {
+        return Timer.builder("coaching.json.parse")
+                .description("AI 응답 JSON 파싱 시간")
+                .tag("task", task)
+                .register(meterRegistry)
+                .record(parser);
+    }
+
+    /**
+     * OpenAI 호출 시간 기록 (구독부터 성공/실패/취소까지)
+     *
+     * @param task   작업 종류 (interview, learning, combined)
+     * @param stream 스트리밍 호출 여부
+     */
+    public <T> Mono<T> timeOpenAiCall(String task, boolean stream, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> stopOpenAiTimer(sample, task, stream, "success"))
+                    .doOnError(e -> stopOpenAiTimer(sample, task, stream, "error"))
+                    .doOnCancel(() -> stopOpenAiTimer(sample, task, stream, "cancelled"));
+        });
+    }
+
+    private void stopOpenAiTimer(Timer.Sample sample, String task, boolean stream, String outcome) {
+        sample.stop(Timer.builder("coaching.openai.latency")
+                .description("OpenAI 호출 시간")
+                .tag("task", task)
+                .tag("mode", stream ? "stream" : "json")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * SSE 세션 하나의 시간 측정 시작
+     *
+     * @param endpoint 스트리밍 엔드포인트 종류 (stream, reactive)
+     */
+    public SessionTimer startSession(String endpoint) {
+        return new SessionTimer(endpoint);
+    }
+
+    /**
+     * SSE 세션 시간 측정
+     * 첫 생성 결과 이벤트(delta, 완성 요소, 완료)까지의 시간과 전체 세션 시간을 기록
+     */
+    public final class SessionTimer {
+
+        private final String endpoint;
+        private final Timer.Sample sample;
+        private final long startNanos;
+        private final AtomicBoolean firstEventRecorded = new AtomicBoolean();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private SessionTimer(String endpoint) {
+            this.endpoint = endpoint;
+            this.sample = Timer.start(meterRegistry);
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * 첫 생성 결과 이벤트 전송 시점 기록 (세션당 한 번만 기록)
+         */
+        public void markFirstEvent() {
+            if (firstEventRecorded.compareAndSet(false, true)) {
+                Timer.builder("coaching.sse.first.event")
+                        .description("세션 시작부터 첫 생성 결과 이벤트까지의 시간")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * 세션 종료 시점 기록 (세션당 한 번만 기록)
+         *
+         * @param outcome 종료 결과 (completed, error, cancelled)
+         */
+        public void stop(String outcome) {
+            if (stopped.compareAndSet(false, true)) {
+                sample.stop(Timer.builder("coaching.session.duration")
+                        .description("SSE 세션 전체 처리 시간")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
+
+        /**
+         * 세션 시작 후 경과 시간 (ms)
+         */
+        public long elapsedMillis() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+    }
+}
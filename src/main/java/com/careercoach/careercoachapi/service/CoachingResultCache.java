@@ -0,0 +1,154 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.CacheStatsResponse;
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 코칭 결과 캐시
+ * 정규화된 요청 키(CanonicalRequestKey)로 면접 질문과 학습 경로 생성 결과를 보관
+ * 크기 제한과 TTL은 spring.cache.caffeine.spec 으로 설정
+ * 같은 키가 없으면 직무/스킬이 같고 경력 요약이 비슷한 요청의 결과를 재사용 (SimilarRequestIndex)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoachingResultCache {
+
+    public static final String INTERVIEW_QUESTIONS = "interviewQuestions";
+    public static final String LEARNING_PATHS = "learningPaths";
+
+    private final CacheManager cacheManager;
+    private final SimilarRequestIndex similarRequestIndex;  // 경력 요약이 비슷한 요청 색인
+
+    private final AtomicLong similarHitCount = new AtomicLong();
+
+    /**
+     * 캐시된 면접 질문 조회 (같은 키도 비슷한 요청도 없으면 null)
+     */
+    public InterviewQuestionsResponse getInterviewQuestions(CanonicalRequestKey key) {
+        return getOrSimilar(INTERVIEW_QUESTIONS, key, InterviewQuestionsResponse.class);
+    }
+
+    public void putInterviewQuestions(CanonicalRequestKey key, InterviewQuestionsResponse response) {
+        put(INTERVIEW_QUESTIONS, key, response);
+    }
+
+    /**
+     * 캐시된 학습 경로 조회 (같은 키도 비슷한 요청도 없으면 null)
+     */
+    public LearningPathResponse getLearningPath(CanonicalRequestKey key) {
+        return getOrSimilar(LEARNING_PATHS, key, LearningPathResponse.class);
+    }
+
+    public void putLearningPath(CanonicalRequestKey key, LearningPathResponse response) {
+        put(LEARNING_PATHS, key, response);
+    }
+
+    /**
+     * 면접 질문과 학습 경로가 모두 캐시에 있고 저장된 지 maxAge가 지나지 않았는지 (캐시 워밍의 갱신 대상 판단용)
+     * 통계에 적중/미적중으로 잡히지 않도록 캐시 구현을 직접 조회
+     */
+    public boolean isFresh(CanonicalRequestKey key, Duration maxAge) {
+        return Stream.of(INTERVIEW_QUESTIONS, LEARNING_PATHS)
+                .map(this::policyOf)
+                .allMatch(policy -> policy != null
+                        && policy.getIfPresentQuietly(key) != null
+                        && policy.expireAfterWrite()
+                                .flatMap(expiration -> expiration.ageOf(key))
+                                .map(age -> age.compareTo(maxAge) < 0)
+                                .orElse(true));
+    }
+
+    /**
+     * 캐시별 적중/미적중/제거 통계
+     */
+    public List<CacheStatsResponse> getStatistics() {
+        return Stream.of(INTERVIEW_QUESTIONS, LEARNING_PATHS)
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats stats = cache.getNativeCache().stats();
+                    return CacheStatsResponse.builder()
+                            .cacheName(cache.getName())
+                            .size(cache.getNativeCache().estimatedSize())
+                            .hitCount(stats.hitCount())
+                            .missCount(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .evictionCount(stats.evictionCount())
+                            .build();
+                })
+                .toList();
+    }
+
+    private <T> T get(String cacheName, CanonicalRequestKey key, Class<T> type) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return null;
+        }
+
+        T value = cache.get(key, type);
+        if (value != null) {
+            log.debug("캐시 적중 - cache: {}, key: {}", cacheName, key);
+        }
+        return value;
+    }
+
+    public long getSimilarHitCount() {
+        return similarHitCount.get();
+    }
+
+    /**
+     * 같은 키가 없으면 유사도 높은 순으로 비슷한 요청의 결과를 찾음
+     * 후보 조회는 적중/미적중 통계에 잡히지 않도록 캐시 구현을 직접 조회
+     */
+    private <T> T getOrSimilar(String cacheName, CanonicalRequestKey key, Class<T> type) {
+        T value = get(cacheName, key, type);
+        if (value != null) {
+            return value;
+        }
+
+        Policy<Object, Object> policy = policyOf(cacheName);
+        if (policy == null) {
+            return null;
+        }
+        for (SimilarRequestIndex.Match match : similarRequestIndex.findSimilar(key)) {
+            Object similar = policy.getIfPresentQuietly(match.key());
+            if (type.isInstance(similar)) {
+                similarHitCount.incrementAndGet();
+                log.info("유사 요청 캐시 적중 - cache: {}, 직무: {}, 유사도: {}",
+                        cacheName, key.getJobRole(), String.format("%.2f", match.similarity()));
+                return type.cast(similar);
+            }
+        }
+        return null;
+    }
+
+    private Policy<Object, Object> policyOf(String cacheName) {
+        return cacheManager.getCache(cacheName) instanceof CaffeineCache cache
+                ? cache.getNativeCache().policy()
+                : null;
+    }
+
+    private void put(String cacheName, CanonicalRequestKey key, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, value);
+            similarRequestIndex.add(key);
+        }
+    }
+}
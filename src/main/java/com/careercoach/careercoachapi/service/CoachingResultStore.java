@@ -0,0 +1,485 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
+import com.careercoach.careercoachapi.dto.response.StoredCoachingResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 생성 결과 영구 저장소 (추가 전용 JSON Lines 로그 파일)
+ * 스트리밍 스레드는 대기열에 넣기만 하고, 전용 쓰기 스레드가 모인 결과를 한 번의 쓰기(+fsync)로 묶어 기록 (write-behind)
+ * - 대기열이 가득 차면 기다리지 않고 버림 - 스트림에 지연을 더하지 않는 것이 우선
+ * - 세션 ID / 요청 해시 → 파일 위치 색인을 메모리에 두고, 시작 시 로그를 읽어 색인을 복구 (마지막 줄이 잘렸으면 잘라냄)
+ * - 기록 전인 결과도 대기 목록에서 바로 조회 가능
+ * - 로그 파일은 노드마다 따로 있으므로, 저장 요청이 받아들여지면 submitListener로 알려 결과 소유 노드를 공유
+ * - 보관 기간(retention)이 지났거나 최대 보관 수(maxResults)를 넘은 오래된 결과는 색인에서 제거하고,
+ *   제거된 줄이 남은 줄보다 많아지면 쓰기 스레드가 남은 줄만 새 파일로 복사해 교체 (compaction)
+ */
+@Slf4j
+public class CoachingResultStore {
+
+    private static final String LOG_FILE = "results.jsonl";
+    private static final String COMPACTION_FILE = "results.jsonl.compact";
+    private static final int RECOVERY_BUFFER_SIZE = 64 * 1024;           // 복구 시 한 번에 읽는 크기
+    private static final long COMPACTION_MIN_DEAD_BYTES = 1024 * 1024;  // 이보다 적게 쌓인 제거 기록은 정리하지 않음
+
+    private final Path logFile;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<StoredCoachingResult> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean fsync;
+    private final long retentionMillis;
+    private final int maxResults;
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();  // 조회와 compaction 파일 교체 사이 보호
+    private volatile FileChannel channel;
+    private final Thread writer;
+
+    private final ConcurrentHashMap<String, StoredCoachingResult> pending = new ConcurrentHashMap<>();  // 기록 대기 중
+    private final ConcurrentHashMap<String, Location> locations = new ConcurrentHashMap<>();          // 세션 ID → 파일 위치
+    private final ConcurrentHashMap<String, String> latestByRequest = new ConcurrentHashMap<>();      // 요청 해시 → 최근 세션 ID
+    private final Deque<Entry> entries = new ArrayDeque<>();  // 보관 중인 결과 (파일 순서, 쓰기 스레드만 접근)
+    private long writePosition;            // 다음 기록 위치 (쓰기 스레드만 변경)
+    private long liveBytes;                // 보관 중인 결과가 차지하는 바이트 (쓰기 스레드만 변경)
+    private volatile boolean running = true;
+    private volatile Consumer<StoredCoachingResult> submitListener = result -> { };
+
+    // 계측 정보
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong compactionCount = new AtomicLong();
+
+    private record Location(long offset, int length) {
+    }
+
+    private record Entry(String sessionId, String requestHash, long createdAt) {
+    }
+
+    /**
+     * @param retention  결과 보관 기간 (지나면 조회되지 않고 compaction 때 파일에서도 제거)
+     * @param maxResults 최대 보관 결과 수 (넘으면 오래된 결과부터 제거)
+     */
+    public CoachingResultStore(Path directory, ObjectMapper objectMapper, int queueCapacity, int batchSize,
+                               Duration flushInterval, boolean fsync, Duration retention, int maxResults) {
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.fsync = fsync;
+        this.retentionMillis = retention.toMillis();
+        this.maxResults = maxResults;
+        try {
+            Files.createDirectories(directory);
+            this.logFile = directory.resolve(LOG_FILE);
+            this.channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.writePosition = recover();
+            maintain();
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과 저장소를 열 수 없습니다: " + directory, e);
+        }
+        this.writer = Thread.ofPlatform().name("result-writer").daemon(true).start(this::run);
+        log.info("결과 저장소 시작 - 파일: {}, 복구된 결과: {}개", logFile, locations.size());
+    }
+
+    /**
+     * 생성 결과 저장 요청 (대기열에 넣고 바로 반환)
+     *
+     * @return 대기열이 가득 차거나 저장소가 닫혀 버렸으면 false
+     */
+    public boolean submit(String sessionId, ResumeInfoRequest request, ComprehensiveCareerResponse result) {
+        StoredCoachingResult stored = StoredCoachingResult.builder()
+                .sessionId(sessionId)
+                .requestHash(CanonicalRequestKey.from(request).hash())
+                .jobRole(request.getJobRole())
+                .createdAt(System.currentTimeMillis())
+                .interviewQuestions(result.getInterviewQuestions())
+                .learningPath(result.getLearningPath())
+                .build();
+        return submit(stored);
+    }
+
+    public boolean submit(StoredCoachingResult result) {
+        if (!running || !writer.isAlive()) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        pending.put(result.getSessionId(), result);
+        if (!queue.offer(result)) {
+            pending.remove(result.getSessionId());
+            droppedCount.incrementAndGet();
+            log.warn("결과 저장 대기열이 가득 차 저장 생략 - sessionId: {}", result.getSessionId());
+            return false;
+        }
+        latestByRequest.put(result.getRequestHash(), result.getSessionId());
+        try {
+            submitListener.accept(result);
+        } catch (Exception e) {
+            log.warn("결과 저장 알림 실패 - sessionId: {}, 원인: {}", result.getSessionId(), e.toString());
+        }
+        return true;
+    }
+
+    /**
+     * 저장 요청이 대기열에 들어갈 때마다 호출할 listener (결과 소유 노드 공유용)
+     */
+    public void setSubmitListener(Consumer<StoredCoachingResult> submitListener) {
+        this.submitListener = submitListener;
+    }
+
+    /**
+     * 세션 ID로 결과 조회
+     */
+    public Optional<StoredCoachingResult> findBySessionId(String sessionId) {
+        StoredCoachingResult result = pending.get(sessionId);
+        if (result != null) {
+            return Optional.of(result);
+        }
+        fileLock.readLock().lock();
+        try {
+            Location location = locations.get(sessionId);
+            // 닫힌 뒤에는 파일을 읽지 않음 (ClosedChannelException 방지)
+            return location != null && running ? Optional.ofNullable(read(location)) : Optional.empty();
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화된 요청 해시로 가장 최근 결과 조회
+     */
+    public Optional<StoredCoachingResult> findByRequestHash(String requestHash) {
+        String sessionId = latestByRequest.get(requestHash);
+        return sessionId != null ? findBySessionId(sessionId) : Optional.empty();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getStoredCount() {
+        return locations.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * 보관 기간/최대 보관 수를 넘어 제거된 결과 수
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public long getCompactionCount() {
+        return compactionCount.get();
+    }
+
+    /**
+     * 대기 중인 결과를 모두 기록한 뒤 파일 닫기
+     */
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fileLock.writeLock().lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("결과 저장소 파일 닫기 실패", e);
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+        log.info("결과 저장소 종료 - 기록: {}개, 생략: {}개, 실패: {}개", writtenCount.get(), droppedCount.get(), failedCount.get());
+    }
+
+    private void run() {
+        List<StoredCoachingResult> batch = new ArrayList<>(batchSize);
+        while (true) {
+            StoredCoachingResult first;
+            try {
+                // 첫 결과를 기다린 뒤 그 사이 쌓인 결과를 함께 기록 (부하가 높을수록 한 번에 많이 기록)
+                first = running ? queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS) : queue.poll();
+            } catch (InterruptedException e) {
+                first = queue.poll();
+            }
+            if (first == null) {
+                if (running) {
+                    maintainSafely();
+                    continue;
+                }
+                return;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                writeBatch(batch);
+            } catch (Exception e) {
+                // 예상하지 못한 오류로 쓰기 스레드가 멈추면 이후 결과가 모두 조용히 버려지므로 기록 후 계속 진행
+                failedCount.addAndGet(batch.size());
+                log.error("결과 기록 중 예상하지 못한 오류 - {}개", batch.size(), e);
+                batch.forEach(result -> pending.remove(result.getSessionId()));
+            } finally {
+                batch.clear();
+            }
+            maintainSafely();
+        }
+    }
+
+    private void maintainSafely() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("결과 저장소 정리 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간/최대 보관 수를 넘은 결과를 색인에서 제거하고, 제거된 기록이 충분히 쌓였으면 파일 정리 (쓰기 스레드에서 호출)
+     */
+    private void maintain() throws IOException {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        while (!entries.isEmpty() && (entries.size() > maxResults || entries.peekFirst().createdAt() < cutoff)) {
+            Entry evicted = entries.pollFirst();
+            Location location = locations.remove(evicted.sessionId());
+            if (location != null) {
+                liveBytes -= location.length() + 1;
+            }
+            latestByRequest.remove(evicted.requestHash(), evicted.sessionId());
+            evictedCount.incrementAndGet();
+        }
+
+        long deadBytes = writePosition - liveBytes;
+        if (deadBytes >= COMPACTION_MIN_DEAD_BYTES && deadBytes >= liveBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * 보관 중인 줄만 새 파일로 복사한 뒤 원자적으로 교체 (쓰기 스레드에서 호출)
+     * 복사하는 동안에는 기존 파일로 조회가 계속되고, 파일 교체와 색인 갱신 순간에만 조회를 막음
+     */
+    private void compact() throws IOException {
+        Path compacted = logFile.resolveSibling(COMPACTION_FILE);
+        Map<String, Location> moved = new HashMap<>();
+        long position = 0;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Entry entry : entries) {
+                Location location = locations.get(entry.sessionId());
+                if (location == null) {
+                    continue;
+                }
+                long length = location.length() + 1;  // 줄바꿈 포함
+                long copied = 0;
+                while (copied < length) {
+                    copied += channel.transferTo(location.offset() + copied, length - copied, out);
+                }
+                moved.put(entry.sessionId(), new Location(position, location.length()));
+                position += length;
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(compacted);
+            throw e;
+        }
+
+        long previousSize = writePosition;
+        fileLock.writeLock().lock();
+        try {
+            channel.close();
+            Files.move(compacted, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            locations.putAll(moved);
+            writePosition = position;
+            liveBytes = position;
+        } finally {
+            if (!channel.isOpen()) {
+                // 교체에 실패했으면 기존 파일을 다시 열어 기록을 이어감
+                channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            fileLock.writeLock().unlock();
+        }
+        compactionCount.incrementAndGet();
+        log.info("결과 로그 정리 - {}바이트 → {}바이트, 보관 중인 결과: {}개", previousSize, position, moved.size());
+    }
+
+    private void writeBatch(List<StoredCoachingResult> batch) {
+        List<byte[]> lines = new ArrayList<>(batch.size());
+        int totalLength = 0;
+        for (StoredCoachingResult result : batch) {
+            try {
+                byte[] line = objectMapper.writeValueAsBytes(result);
+                lines.add(line);
+                totalLength += line.length + 1;
+            } catch (IOException e) {
+                lines.add(null);
+                log.error("결과 직렬화 실패 - sessionId: {}", result.getSessionId(), e);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalLength);
+        for (byte[] line : lines) {
+            if (line != null) {
+                buffer.put(line).put((byte) '\n');
+            }
+        }
+        buffer.flip();
+
+        long batchStart = writePosition;
+        try {
+            long position = batchStart;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            writePosition = position;
+        } catch (IOException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("결과 기록 실패 - {}개", batch.size(), e);
+            batch.forEach(result -> pending.remove(result.getSessionId()));
+            return;
+        }
+
+        long offset = batchStart;
+        for (int i = 0; i < batch.size(); i++) {
+            StoredCoachingResult result = batch.get(i);
+            byte[] line = lines.get(i);
+            if (line != null) {
+                locations.put(result.getSessionId(), new Location(offset, line.length));
+                entries.addLast(new Entry(result.getSessionId(), result.getRequestHash(), result.getCreatedAt()));
+                liveBytes += line.length + 1;
+                offset += line.length + 1;
+                writtenCount.incrementAndGet();
+            } else {
+                failedCount.incrementAndGet();
+            }
+            pending.remove(result.getSessionId());
+        }
+        batchCount.incrementAndGet();
+    }
+
+    private StoredCoachingResult read(Location location) {
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        try {
+            long position = location.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+            return objectMapper.readValue(buffer.array(), StoredCoachingResult.class);
+        } catch (IOException e) {
+            log.error("결과 읽기 실패 - 위치: {}", location.offset(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 로그 파일을 읽어 색인 복구 (큰 버퍼 단위로 읽고 줄바꿈 위치로 나눔, 보관 기간이 지난 결과는 색인하지 않음)
+     * 비정상 종료로 마지막 줄이 잘렸으면 마지막 완전한 줄 뒤를 잘라냄
+     *
+     * @return 다음 기록 위치
+     */
+    private long recover() throws IOException {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        ByteBuffer buffer = ByteBuffer.allocate(RECOVERY_BUFFER_SIZE);
+        ByteArrayOutputStream partial = new ByteArrayOutputStream();  // 버퍼 경계에 걸친 줄
+        long offset = 0;
+        long readPosition = 0;
+        int read;
+        while ((read = channel.read(buffer.clear(), readPosition)) > 0) {
+            readPosition += read;
+            byte[] bytes = buffer.array();
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+                int length;
+                if (partial.size() > 0) {
+                    partial.write(bytes, lineStart, i - lineStart);
+                    length = partial.size();
+                    recoverLine(partial.toByteArray(), 0, length, offset, cutoff);
+                    partial.reset();
+                } else {
+                    length = i - lineStart;
+                    recoverLine(bytes, lineStart, length, offset, cutoff);
+                }
+                offset += length + 1;
+                lineStart = i + 1;
+            }
+            partial.write(bytes, lineStart, read - lineStart);
+        }
+        if (channel.size() > offset) {
+            log.warn("잘린 결과 기록 정리 - {}바이트", channel.size() - offset);
+            channel.truncate(offset);
+        }
+        return offset;
+    }
+
+    private void recoverLine(byte[] bytes, int from, int length, long offset, long cutoff) {
+        try {
+            StoredCoachingResult result = objectMapper.readValue(bytes, from, length, StoredCoachingResult.class);
+            if (result.getCreatedAt() < cutoff) {
+                return;  // 보관 기간이 지난 결과 (compaction 때 파일에서도 제거됨)
+            }
+            locations.put(result.getSessionId(), new Location(offset, length));
+            latestByRequest.put(result.getRequestHash(), result.getSessionId());
+            entries.addLast(new Entry(result.getSessionId(), result.getRequestHash(), result.getCreatedAt()));
+            liveBytes += length + 1;
+        } catch (IOException e) {
+            log.warn("손상된 결과 줄 건너뜀 - 위치: {}", offset);
+        }
+    }
+}
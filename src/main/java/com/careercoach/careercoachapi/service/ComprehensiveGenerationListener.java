@@ -0,0 +1,35 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 통합 생성(COMBINED) 모드의 진행 상황 수신자
+ * 하나의 응답에서 나오는 면접 질문과 학습 경로 진행 이벤트를 각각의 listener로 나누어 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class ComprehensiveGenerationListener {
+
+    private final GenerationListener<String> interviewListener;
+    private final GenerationListener<LearningRecommendation> learningListener;
+
+    /**
+     * 아무 동작도 하지 않는 수신자
+     */
+    public static ComprehensiveGenerationListener none() {
+        return new ComprehensiveGenerationListener(GenerationListener.none(), GenerationListener.none());
+    }
+
+    /**
+     * 여러 수신자에게 진행 이벤트를 전달하는 수신자 생성 (동일 요청 병합용)
+     */
+    public static ComprehensiveGenerationListener broadcast(List<ComprehensiveGenerationListener> targets) {
+        return new ComprehensiveGenerationListener(
+                InFlightRequestCoalescer.broadcast(targets, ComprehensiveGenerationListener::getInterviewListener),
+                InFlightRequestCoalescer.broadcast(targets, ComprehensiveGenerationListener::getLearningListener));
+    }
+}
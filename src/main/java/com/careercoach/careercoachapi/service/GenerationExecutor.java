@@ -0,0 +1,138 @@
+package com.careercoach.careercoachapi.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 생성 작업 전용 실행기
+ * 공용 ForkJoinPool 대신 이름이 지정된 제한 스레드 풀(BOUNDED) 또는 가상 스레드(VIRTUAL)에서
+ * OpenAI 응답을 기다리는 블로킹 작업을 실행
+ */
+@Slf4j
+public class GenerationExecutor {
+
+    public enum Mode {
+        BOUNDED,  // 고정 크기 큐를 가진 스레드 풀, 큐가 가득 차면 즉시 거절
+        VIRTUAL   // 작업마다 가상 스레드 생성
+    }
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    @Getter
+    private final Mode mode;
+    private final ExecutorService delegate;
+
+    // 계측 정보
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicInteger runningCount = new AtomicInteger();
+
+    private GenerationExecutor(Mode mode, ExecutorService delegate) {
+        this.mode = mode;
+        this.delegate = delegate;
+    }
+
+    /**
+     * 제한된 스레드 풀 기반 실행기 생성
+     * 작업 대부분이 업스트림 응답 대기이므로 큐보다 스레드를 먼저 채우도록 core = max 로 구성하고,
+     * 유휴 스레드는 keepAlive 이후 회수
+     */
+    public static GenerationExecutor bounded(int poolSize, int queueCapacity, Duration keepAlive) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                keepAlive.toMillis(), TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("coaching-gen-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()  // 큐 초과 시 RejectedExecutionException
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return new GenerationExecutor(Mode.BOUNDED, executor);
+    }
+
+    /**
+     * 작업마다 가상 스레드를 사용하는 실행기 생성
+     */
+    public static GenerationExecutor virtual() {
+        return new GenerationExecutor(Mode.VIRTUAL,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("coaching-vt-", 0).factory()));
+    }
+
+    /**
+     * 작업을 비동기로 실행
+     * 용량을 초과하면 RejectedExecutionException을 그대로 던져 호출자가 즉시 실패 처리하도록 함
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        submittedCount.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                runningCount.incrementAndGet();
+                try {
+                    return task.get();
+                } finally {
+                    runningCount.decrementAndGet();
+                    completedCount.incrementAndGet();
+                }
+            }, delegate);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("생성 작업 거절 - 실행 중: {}, 대기 중: {}", runningCount.get(), getQueueDepth());
+            throw e;
+        }
+    }
+
+    /**
+     * 대기 큐에 쌓인 작업 수 (가상 스레드 모드에서는 항상 0)
+     */
+    public int getQueueDepth() {
+        return delegate instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getRunningCount() {
+        return runningCount.get();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * 실행 중인 작업이 끝날 때까지 기다린 뒤 종료
+     */
+    public void shutdown() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("생성 작업 실행기 종료 시간 초과 - 남은 작업 강제 종료");
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delegate.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+
+/**
+ * AI 생성 진행 상황 수신자
+ * 스트리밍 모드에서 토큰 조각(delta)과 완성된 배열 요소를 순서대로 전달받음
+ *
+ * @param <T> 배열 요소 타입 (면접 질문: String, 학습 경로: LearningRecommendation)
+ */
+public interface GenerationListener<T> {
+
+    /**
+     * 토큰 조각 수신
+     */
+    default void onDelta(String delta) {
+    }
+
+    /**
+     * 배열 요소 하나가 완성되었을 때 호출 (index는 0부터 시작)
+     */
+    default void onElement(int index, T element) {
+    }
+
+    /**
+     * OpenAI 호출 한 번의 토큰 사용량 수신 (호출이 끝나거나 중단되었을 때 한 번 호출)
+     */
+    default void onUsage(TokenUsage usage) {
+    }
+
+    /**
+     * 아무 동작도 하지 않는 수신자
+     */
+    static <T> GenerationListener<T> none() {
+        return new GenerationListener<>() {
+        };
+    }
+}
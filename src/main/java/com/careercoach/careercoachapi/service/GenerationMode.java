@@ -0,0 +1,9 @@
+package com.careercoach.careercoachapi.service;
+
+/**
+ * 면접 질문과 학습 경로 생성 방식
+ */
+public enum GenerationMode {
+    PARALLEL,  // 작업별 프롬프트로 두 번 호출하여 병렬 생성
+    COMBINED   // 지원자 정보를 한 번만 담은 프롬프트로 한 번 호출하여 함께 생성
+}
@@ -0,0 +1,116 @@
+package com.careercoach.careercoachapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업스트림(OpenAI) 생성 호출 추적기
+ * 작업별 평균 소요 시간을 기록하고, 클라이언트 이탈 등으로 취소된 호출 수와 절약된 업스트림 시간을 집계
+ *
+ * 절약 시간은 (작업 평균 소요 시간 - 취소 시점까지의 경과 시간)으로 추정
+ */
+@Slf4j
+@Component
+public class GenerationTracker {
+
+    private static final double AVERAGE_WEIGHT = 0.2;  // 평균 소요 시간 갱신 시 최신 값의 가중치
+
+    private final ConcurrentHashMap<String, Long> averageDurationMillis = new ConcurrentHashMap<>();
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private final AtomicLong savedMillis = new AtomicLong();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final List<Runnable> finishListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 업스트림 호출 하나를 추적
+     *
+     * @param task       작업 종류 (interview, learning, combined)
+     * @param generation 추적할 업스트림 호출
+     */
+    public <T> Mono<T> track(String task, Mono<T> generation) {
+        return Mono.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            inFlightCount.incrementAndGet();
+            return generation
+                    .doOnSuccess(result -> recordCompletion(task, System.currentTimeMillis() - startTime))
+                    .doOnCancel(() -> recordCancellation(task, System.currentTimeMillis() - startTime))
+                    .doFinally(signal -> {
+                        inFlightCount.decrementAndGet();
+                        notifyFinished();
+                    });
+        });
+    }
+
+    /**
+     * 추적 중인 호출이 끝날 때마다(완료/오류/취소) 실행할 작업 등록
+     * 호출이 끝난 스레드에서 바로 실행되므로 가볍게 유지해야 함
+     */
+    public void addFinishListener(Runnable listener) {
+        finishListeners.add(listener);
+    }
+
+    private void notifyFinished() {
+        for (Runnable listener : finishListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.error("업스트림 호출 종료 처리 실패", e);
+            }
+        }
+    }
+
+    private void recordCompletion(String task, long elapsedMillis) {
+        completedCount.incrementAndGet();
+        averageDurationMillis.merge(task, elapsedMillis,
+                (average, latest) -> Math.round(average + AVERAGE_WEIGHT * (latest - average)));
+    }
+
+    private void recordCancellation(String task, long elapsedMillis) {
+        cancelledCount.incrementAndGet();
+        long saved = Math.max(0, averageDurationMillis.getOrDefault(task, 0L) - elapsedMillis);
+        savedMillis.addAndGet(saved);
+        log.info("업스트림 생성 취소 - task: {}, 경과: {}ms, 절약 추정: {}ms", task, elapsedMillis, saved);
+    }
+
+    /**
+     * 현재 진행 중인 업스트림 호출 수 (연결 풀 점유 추정치)
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * 작업별 평균 소요 시간 중 가장 긴 값 (ms, 기록이 없으면 0)
+     * 병렬 생성 세션은 가장 느린 작업이 끝나야 완료되므로 세션 소요 시간의 추정치로 사용
+     */
+    public long getLongestAverageDurationMillis() {
+        return averageDurationMillis.values().stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * 완료 전에 취소된 업스트림 호출 수
+     */
+    public long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    /**
+     * 취소로 절약된 업스트림 호출 시간 추정치 (ms)
+     */
+    public long getSavedMillis() {
+        return savedMillis.get();
+    }
+}
@@ -0,0 +1,232 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 들어오는 요청 추적기 (Space-Saving 알고리즘)
+ * 정규화된 요청 키별 빈도를 고정된 수(capacity)의 카운터로만 추적하여, 요청 종류가 아무리 많아도 메모리가 일정함
+ * - 카운터가 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를 넘겨받고 그 값을 오차(error)로 기록
+ * - 실제 빈도가 전체 요청 수 / capacity 보다 큰 키는 반드시 추적되며, count - error 는 실제 빈도의 하한
+ * - 캐시 워밍에서 다시 생성할 수 있도록 키마다 가장 최근 원본 요청을 함께 보관
+ *
+ * 카운터는 같은 빈도끼리 묶음(bucket)으로 모아 빈도 오름차순 연결 리스트로 관리 (Stream-Summary)
+ * - 증가: 카운터를 다음 빈도 묶음으로 옮기기만 하므로 O(1)
+ * - 교체: 가장 작은 빈도 묶음의 카운터 하나를 넘겨주므로 O(1) (긴 꼬리 요청이 많아도 요청 스레드에서 전체를 훑지 않음)
+ */
+public class HeavyHitterTracker {
+
+    private final int capacity;
+    private final Map<CanonicalRequestKey, Counter> counters;  // this로 보호
+    private Bucket minBucket;                                  // 가장 작은 빈도 묶음 (this로 보호)
+    private Bucket maxBucket;                                  // 가장 큰 빈도 묶음 (this로 보호)
+    private final AtomicLong recordedCount = new AtomicLong();
+
+    /**
+     * 추적 중인 요청과 빈도
+     *
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 추정 빈도의 최대 오차 (count - error 는 실제 빈도 이하)
+     */
+    public record HotRequest(CanonicalRequestKey key, ResumeInfoRequest request, long count, long error) {
+    }
+
+    /**
+     * 같은 빈도의 카운터 묶음 (빈도 오름차순 이중 연결 리스트)
+     */
+    private static final class Bucket {
+        private final long count;
+        private Counter head;       // 묶음 안 카운터 목록
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Counter {
+        private CanonicalRequestKey key;
+        private ResumeInfoRequest request;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;       // 같은 묶음 안의 이전/다음 카운터
+        private Counter next;
+
+        private Counter(CanonicalRequestKey key, ResumeInfoRequest request, long error) {
+            this.key = key;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    public HeavyHitterTracker(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 요청 한 건 기록
+     */
+    public void record(ResumeInfoRequest request) {
+        CanonicalRequestKey key = CanonicalRequestKey.from(request);
+        recordedCount.incrementAndGet();
+
+        synchronized (this) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                counter.request = request;
+                increment(counter);
+                return;
+            }
+            if (counters.size() < capacity) {
+                counter = new Counter(key, request, 0);
+                counters.put(key, counter);
+                insertAfter(null, counter, 1);
+                return;
+            }
+            // 가장 작은 빈도 묶음의 카운터를 새 키에 넘겨줌
+            counter = minBucket.head;
+            counters.remove(counter.key);
+            counter.key = key;
+            counter.request = request;
+            counter.error = counter.bucket.count;
+            counters.put(key, counter);
+            increment(counter);
+        }
+    }
+
+    /**
+     * 추정 빈도가 높은 순으로 최대 k개 조회
+     */
+    public synchronized List<HotRequest> topK(int k) {
+        List<HotRequest> top = new ArrayList<>(Math.min(k, counters.size()));
+        for (Bucket bucket = maxBucket; bucket != null && top.size() < k; bucket = bucket.prev) {
+            for (Counter counter = bucket.head; counter != null && top.size() < k; counter = counter.next) {
+                top.add(new HotRequest(counter.key, counter.request, bucket.count, counter.error));
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 모든 빈도를 절반으로 줄여 최근 요청에 더 큰 비중을 둠 (0이 된 키는 제거)
+     * 빈도 오름차순으로 훑으므로 절반으로 줄인 빈도도 오름차순 - 새 묶음 목록의 맨 뒤에 이어 붙이기만 하면 됨
+     */
+    public synchronized void decay() {
+        Bucket bucket = minBucket;
+        counters.clear();
+        minBucket = null;
+        maxBucket = null;
+        for (; bucket != null; bucket = bucket.next) {
+            long count = bucket.count / 2;
+            Counter counter = bucket.head;
+            while (counter != null) {
+                Counter next = counter.next;
+                if (count > 0) {
+                    counter.error /= 2;
+                    counters.put(counter.key, counter);
+                    if (maxBucket != null && maxBucket.count == count) {
+                        link(maxBucket, counter);
+                    } else {
+                        insertAfter(maxBucket, counter, count);
+                    }
+                }
+                counter = next;
+            }
+        }
+    }
+
+    public synchronized int getTrackedCount() {
+        return counters.size();
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    /**
+     * 카운터를 빈도 + 1 묶음으로 이동 (this 안에서 호출)
+     */
+    private void increment(Counter counter) {
+        Bucket current = counter.bucket;
+        long count = current.count + 1;
+        unlink(counter);
+        Bucket next = current.next;
+        if (next != null && next.count == count) {
+            link(next, counter);
+        } else {
+            insertAfter(current, counter, count);
+        }
+        if (current.head == null) {
+            removeBucket(current);
+        }
+    }
+
+    /**
+     * after 바로 뒤(null이면 맨 앞)에 새 묶음을 만들어 카운터를 넣음
+     */
+    private void insertAfter(Bucket after, Counter counter, long count) {
+        Bucket next = after != null ? after.next : minBucket;
+        if (next != null && next.count == count) {
+            link(next, counter);
+            return;
+        }
+        Bucket bucket = new Bucket(count);
+        bucket.prev = after;
+        bucket.next = next;
+        if (after != null) {
+            after.next = bucket;
+        } else {
+            minBucket = bucket;
+        }
+        if (next != null) {
+            next.prev = bucket;
+        } else {
+            maxBucket = bucket;
+        }
+        link(bucket, counter);
+    }
+
+    private void removeBucket(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            minBucket = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        } else {
+            maxBucket = bucket.prev;
+        }
+    }
+
+    private static void link(Bucket bucket, Counter counter) {
+        counter.bucket = bucket;
+        counter.prev = null;
+        counter.next = bucket.head;
+        if (bucket.head != null) {
+            bucket.head.prev = counter;
+        }
+        bucket.head = counter;
+    }
+
+    private static void unlink(Counter counter) {
+        Bucket bucket = counter.bucket;
+        if (counter.prev != null) {
+            counter.prev.next = counter.next;
+        } else {
+            bucket.head = counter.next;
+        }
+        if (counter.next != null) {
+            counter.next.prev = counter.prev;
+        }
+        counter.prev = null;
+        counter.next = null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 동일한 요청의 동시 실행 병합 (single-flight)
+ * 같은 키로 진행 중인 업스트림 호출이 있으면 새로 호출하지 않고 그 결과를 공유
+ *
+ * - 결과와 오류는 대기 중인 모든 구독자에게 전달됨 (선행 호출이 실패하면 모두 실패)
+ * - 진행 중 이벤트(delta, 완성된 요소)는 참여 시점 이후부터 모든 구독자의 listener에 전달됨
+ * - 모든 구독자가 취소해야 업스트림 호출이 취소됨
+ */
+@Slf4j
+@Component
+public class InFlightRequestCoalescer {
+
+    private final ConcurrentHashMap<String, InFlight<?, ?>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaderCount = new AtomicLong();     // 실제로 업스트림을 호출한 횟수
+    private final AtomicLong coalescedCount = new AtomicLong();  // 진행 중인 호출에 합류한 횟수
+
+    /**
+     * 키 단위로 업스트림 호출을 병합하여 실행
+     *
+     * @param key      병합 기준 키 (작업 종류 + 정규화된 요청)
+     * @param listener 이 구독자의 진행 이벤트 수신자
+     * @param upstream 전달받은 listener로 진행 이벤트를 알리는 업스트림 호출
+     */
+    public <T, E> Mono<T> execute(String key, GenerationListener<E> listener,
+                                  Function<GenerationListener<E>, Mono<T>> upstream) {
+        return execute(key, listener, targets -> broadcast(targets, Function.identity()), upstream);
+    }
+
+    /**
+     * 키 단위로 업스트림 호출을 병합하여 실행 - 임의의 listener 타입용
+     *
+     * @param fanOut 참여 중인 listener 목록을 하나의 listener로 묶는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T, L> Mono<T> execute(String key, L listener, Function<List<L>, L> fanOut,
+                                  Function<L, Mono<T>> upstream) {
+        return Mono.defer(() -> {
+            boolean[] leader = {false};
+            InFlight<T, L> call = (InFlight<T, L>) inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return new InFlight<>(k, fanOut, upstream);
+            });
+
+            if (leader[0]) {
+                leaderCount.incrementAndGet();
+            } else {
+                coalescedCount.incrementAndGet();
+                log.info("진행 중인 요청에 합류 - key: {}", key);
+            }
+
+            call.listeners.add(listener);
+            return call.result.doFinally(signal -> call.listeners.remove(listener));
+        });
+    }
+
+    /**
+     * 참여 중인 모든 대상에게 진행 이벤트를 전달하는 listener 생성
+     * 한 대상의 전송 실패(연결 종료 등)가 다른 대상의 결과에 영향을 주지 않도록 실패한 대상은 목록에서 제외
+     *
+     * @param targets  참여 중인 대상 목록 (전달 시점의 목록을 사용)
+     * @param selector 대상에서 이벤트를 받을 listener 선택
+     */
+    public static <L, E> GenerationListener<E> broadcast(List<L> targets,
+                                                         Function<L, GenerationListener<E>> selector) {
+        return new GenerationListener<>() {
+            @Override
+            public void onDelta(String delta) {
+                for (L target : targets) {
+                    try {
+                        selector.apply(target).onDelta(delta);
+                    } catch (Exception e) {
+                        log.warn("delta 전달 실패 - 해당 구독자 제외", e);
+                        targets.remove(target);
+                    }
+                }
+            }
+
+            @Override
+            public void onElement(int index, E element) {
+                for (L target : targets) {
+                    try {
+                        selector.apply(target).onElement(index, element);
+                    } catch (Exception e) {
+                        log.warn("완성 요소 전달 실패 - 해당 구독자 제외", e);
+                        targets.remove(target);
+                    }
+                }
+            }
+
+            @Override
+            public void onUsage(TokenUsage usage) {
+                for (L target : targets) {
+                    try {
+                        selector.apply(target).onUsage(usage);
+                    } catch (Exception e) {
+                        log.warn("토큰 사용량 전달 실패 - 해당 구독자 제외", e);
+                        targets.remove(target);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 현재 진행 중인 업스트림 호출 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getLeaderCount() {
+        return leaderCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * 진행 중인 업스트림 호출 하나
+     */
+    private final class InFlight<T, L> {
+
+        private final List<L> listeners = new CopyOnWriteArrayList<>();
+        private final Mono<T> result;
+
+        private InFlight(String key, Function<List<L>, L> fanOut, Function<L, Mono<T>> upstream) {
+            // 종료 신호가 구독자에게 전달되기 전에 제거해야 뒤늦은 요청이 끝난 호출에 합류하지 않음
+            this.result = Mono.defer(() -> upstream.apply(fanOut.apply(listeners)))
+                    .doOnTerminate(() -> inFlight.remove(key, this))
+                    .doOnCancel(() -> inFlight.remove(key, this))
+                    .flux()
+                    .replay(1)
+                    .refCount()   // 마지막 구독자가 취소하면 업스트림도 취소
+                    .next();
+        }
+    }
+}
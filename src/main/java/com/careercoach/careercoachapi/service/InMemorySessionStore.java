@@ -0,0 +1,37 @@
+package com.careercoach.careercoachapi.service;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 메모리 세션 저장소 (단일 노드 배포용)
+ * 결과는 모두 이 노드에 있으므로 결과 소유 노드는 기록하지 않음
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    private final ConcurrentHashMap<String, SessionRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(SessionRecord record) {
+        records.put(record.info().getSessionId(), record);
+    }
+
+    @Override
+    public Optional<SessionRecord> find(String sessionId) {
+        return Optional.ofNullable(records.get(sessionId));
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        records.remove(sessionId);
+    }
+
+    @Override
+    public void saveResultOwner(String resultKey, ResultOwner owner) {
+    }
+
+    @Override
+    public Optional<ResultOwner> findResultOwner(String resultKey) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,173 @@
+package com.careercoach.careercoachapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스트리밍으로 도착하는 JSON 문서에서 최상위 배열 필드의 요소를 점진적으로 파싱
+ * 전체 문서를 기다리지 않고, 요소의 닫는 토큰이 도착하는 즉시 역직렬화하여 반환
+ *
+ * 예) fieldName = "questions" 이면 {"questions": ["...", "..."], ...} 의 각 문자열을 하나씩 반환
+ * 스레드 안전하지 않으므로 하나의 스트림에서만 사용해야 함
+ */
+@Slf4j
+public class IncrementalJsonArrayParser<T> {
+
+    private static final int ROOT_DEPTH = 1;   // 최상위 객체 내부
+    private static final int ARRAY_DEPTH = 2;  // 대상 배열 내부
+
+    private final String fieldName;
+    private final Class<T> elementType;
+    private final ObjectMapper objectMapper;
+
+    private final List<T> elements = new ArrayList<>();
+    private final StringBuilder element = new StringBuilder();  // 수집 중인 배열 요소 원문
+    private final StringBuilder string = new StringBuilder();   // 최상위 객체의 현재 문자열 토큰
+
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean capturing;
+    private boolean inArray;
+    private boolean arrayClosed;
+    private String lastString;  // 최상위 객체에서 마지막으로 닫힌 문자열
+    private String currentKey;  // 최상위 객체에서 현재 값의 키
+
+    public IncrementalJsonArrayParser(String fieldName, Class<T> elementType, ObjectMapper objectMapper) {
+        this.fieldName = fieldName;
+        this.elementType = elementType;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 청크를 입력하고 이번 청크로 완성된 요소 목록을 반환
+     */
+    public List<T> feed(CharSequence chunk) {
+        if (arrayClosed) {
+            return List.of();
+        }
+
+        List<T> completed = new ArrayList<>(1);
+        for (int i = 0; i < chunk.length() && !arrayClosed; i++) {
+            process(chunk.charAt(i), completed);
+        }
+        return completed;
+    }
+
+    /**
+     * 지금까지 완성된 요소 수
+     */
+    public int getElementCount() {
+        return elements.size();
+    }
+
+    /**
+     * 지금까지 완성된 요소 목록
+     */
+    public List<T> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * 대상 배열의 닫는 괄호까지 수신했는지 여부
+     */
+    public boolean isArrayClosed() {
+        return arrayClosed;
+    }
+
+    private void process(char c, List<T> completed) {
+        // 배열 내부에서 새 요소가 시작되면 원문 수집 시작
+        if (inArray && !capturing && !inString && depth == ARRAY_DEPTH
+                && !Character.isWhitespace(c) && c != ',' && c != ']') {
+            capturing = true;
+            element.setLength(0);
+        }
+        if (capturing) {
+            element.append(c);
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                onStringClosed(completed);
+                return;
+            }
+            if (depth == ROOT_DEPTH) {
+                string.append(c);
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                string.setLength(0);
+            }
+            case ':' -> {
+                if (depth == ROOT_DEPTH) {
+                    currentKey = lastString;
+                }
+            }
+            case ',' -> {
+                if (depth == ROOT_DEPTH) {
+                    currentKey = null;
+                } else if (capturing && depth == ARRAY_DEPTH) {
+                    completeElement(trimLast(), completed);  // 숫자 등 원시값 요소
+                }
+            }
+            case '{', '[' -> {
+                depth++;
+                if (c == '[' && depth == ARRAY_DEPTH && !inArray && fieldName.equals(currentKey)) {
+                    inArray = true;
+                }
+            }
+            case '}', ']' -> {
+                depth--;
+                if (inArray && depth == ROOT_DEPTH) {
+                    // 대상 배열 종료
+                    if (capturing) {
+                        completeElement(trimLast(), completed);
+                    }
+                    inArray = false;
+                    arrayClosed = true;
+                } else if (capturing && depth == ARRAY_DEPTH) {
+                    completeElement(element.toString(), completed);  // 객체/배열 요소
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void onStringClosed(List<T> completed) {
+        if (capturing && depth == ARRAY_DEPTH) {
+            completeElement(element.toString(), completed);  // 문자열 요소
+        } else if (depth == ROOT_DEPTH) {
+            lastString = string.toString();
+        }
+    }
+
+    private String trimLast() {
+        return element.substring(0, element.length() - 1).trim();
+    }
+
+    private void completeElement(String json, List<T> completed) {
+        capturing = false;
+        try {
+            T value = objectMapper.readValue(json, elementType);
+            elements.add(value);
+            completed.add(value);
+        } catch (JsonProcessingException e) {
+            log.warn("배열 요소 파싱 실패 - field: {}, element: {}", fieldName, json, e);
+        }
+    }
+}
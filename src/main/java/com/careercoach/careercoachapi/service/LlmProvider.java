@@ -0,0 +1,31 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * LLM 제공자 - 프롬프트 하나를 지정한 모델 경로(모델, max_tokens, temperature, 타임아웃)로 호출
+ * 재시도/서킷 브레이커/동시성 제한은 호출하는 쪽에서 적용하므로 구현체는 요청 한 번만 담당
+ * 반환하는 Mono/Flux는 구독할 때마다 새 요청을 보내야 함
+ */
+public interface LlmProvider {
+
+    /**
+     * 라우팅 설정(career-coach.llm.routes.*.models)에서 사용하는 제공자 이름
+     */
+    String getName();
+
+    /**
+     * JSON 모드 호출 - 응답 content를 contentReader로 결과 객체로 변환하고, 토큰 사용량은 onUsage로 전달
+     */
+    <T> Mono<T> complete(ModelRoute route, String prompt, OpenAiResponseDecoder.ContentReader<T> contentReader,
+                         Consumer<TokenUsage> onUsage);
+
+    /**
+     * 스트리밍 호출 - content 조각(delta)을 도착하는 대로 방출하고, 토큰 사용량은 받는 대로 onUsage로 전달
+     */
+    Flux<String> stream(ModelRoute route, String prompt, Consumer<TokenUsage> onUsage);
+}
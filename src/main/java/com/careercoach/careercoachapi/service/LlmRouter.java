@@ -0,0 +1,104 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import com.careercoach.careercoachapi.exception.UpstreamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업별 LLM 호출 경로 표
+ * 작업마다 "제공자:모델" 목록을 순서대로 두고, 앞선 경로가 타임아웃/연결 실패/서킷 브레이커 열림으로 실패하면 다음 경로로 폴백
+ * 예) interview → 작고 빠른 모델, learning → 큰 모델
+ */
+@Slf4j
+public class LlmRouter {
+
+    private final Map<String, LlmProvider> providers = new LinkedHashMap<>();
+    private final Map<String, List<ModelRoute>> routes;
+
+    /**
+     * @throws IllegalStateException 경로가 비어 있거나 등록되지 않은 제공자를 가리키는 경우
+     */
+    public LlmRouter(List<LlmProvider> providers, Map<String, List<ModelRoute>> routes) {
+        providers.forEach(provider -> this.providers.put(provider.getName(), provider));
+        routes.forEach((task, taskRoutes) -> {
+            if (taskRoutes.isEmpty()) {
+                throw new IllegalStateException("LLM 호출 경로가 비어 있습니다 - task: " + task);
+            }
+            for (ModelRoute route : taskRoutes) {
+                if (!this.providers.containsKey(route.provider())) {
+                    throw new IllegalStateException("등록되지 않은 LLM 제공자입니다: " + route.provider()
+                            + " (사용 가능: " + this.providers.keySet() + ")");
+                }
+            }
+        });
+        this.routes = Map.copyOf(routes);
+    }
+
+    /**
+     * 작업의 호출 경로 (첫 번째가 기본 경로, 나머지는 폴백 순서)
+     */
+    public List<ModelRoute> routes(String task) {
+        List<ModelRoute> taskRoutes = routes.get(task);
+        if (taskRoutes == null) {
+            throw new IllegalArgumentException("LLM 호출 경로가 설정되지 않은 작업입니다: " + task);
+        }
+        return taskRoutes;
+    }
+
+    public LlmProvider provider(ModelRoute route) {
+        return providers.get(route.provider());
+    }
+
+    public List<String> getProviderNames() {
+        return List.copyOf(providers.keySet());
+    }
+
+    public Map<String, List<ModelRoute>> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * 다음 경로로 폴백할 오류 - 타임아웃, 연결 실패, 서킷 브레이커 열림
+     * (4xx나 응답 파싱 실패는 다른 경로에서도 같을 가능성이 높으므로 폴백하지 않음)
+     * (동시성 제한기 허가 대기 초과는 로컬 포화이므로 폴백으로 부하를 더하지 않음)
+     */
+    public static boolean isFallbackable(Throwable error) {
+        if (UpstreamErrors.findCause(error, ConcurrencyLimitExceededException.class) != null) {
+            return false;
+        }
+        return UpstreamErrors.isTimeout(error)
+                || UpstreamErrors.findCause(error, WebClientRequestException.class) != null
+                || UpstreamErrors.findCause(error, UpstreamUnavailableException.class) != null;
+    }
+
+    /**
+     * "제공자:모델" 을 쉼표로 나열한 경로 설정 해석 (예: "openai:gpt-4o-mini, openai-fallback:gpt-4o-mini")
+     * 생성 옵션은 작업 단위로 모든 경로에 같게 적용
+     */
+    public static List<ModelRoute> parseRoutes(String task, String models, int maxTokens, double temperature,
+                                               Duration timeout) {
+        List<ModelRoute> taskRoutes = new ArrayList<>();
+        for (String entry : models.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalStateException("LLM 호출 경로 형식이 잘못되었습니다 (제공자:모델): " + trimmed);
+            }
+            taskRoutes.add(new ModelRoute(task, trimmed.substring(0, separator), trimmed.substring(separator + 1),
+                    maxTokens, temperature, timeout));
+        }
+        log.info("LLM 호출 경로 - {}: {} (max_tokens: {}, temperature: {}, timeout: {}ms)",
+                task, taskRoutes, maxTokens, temperature, timeout.toMillis());
+        return taskRoutes;
+    }
+}
@@ -0,0 +1,22 @@
+package com.careercoach.careercoachapi.service;
+
+import java.time.Duration;
+
+/**
+ * 작업 하나의 호출 경로 - 어느 제공자의 어떤 모델을 어떤 생성 옵션으로 호출할지
+ *
+ * @param task        작업 종류 (interview, learning, combined)
+ * @param provider    LLM 제공자 이름
+ * @param model       모델 이름
+ * @param maxTokens   최대 출력 토큰 수
+ * @param temperature 샘플링 온도
+ * @param timeout     응답 제한 시간 (스트리밍은 조각 사이의 최대 대기 시간)
+ */
+public record ModelRoute(String task, String provider, String model, int maxTokens, double temperature,
+                         Duration timeout) {
+
+    @Override
+    public String toString() {
+        return provider + ":" + model;
+    }
+}
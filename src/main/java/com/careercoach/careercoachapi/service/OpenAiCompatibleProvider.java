@@ -0,0 +1,156 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.openai.ChatCompletionChunk;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI Chat Completions API 호환 제공자 (OpenAI 또는 같은 API를 제공하는 보조 엔드포인트)
+ */
+@Slf4j
+public class OpenAiCompatibleProvider implements LlmProvider {
+
+    private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
+    private static final String STREAM_DONE_MARKER = "[DONE]";  // 스트리밍 종료 표시
+
+    private final String name;
+    private final String baseUrl;
+    private final String apiKey;
+    private final WebClient webClient;
+    private final OpenAiResponseDecoder responseDecoder;
+    private final CoachingMetrics coachingMetrics;
+
+    public OpenAiCompatibleProvider(String name, String baseUrl, String apiKey, WebClient webClient,
+                                    OpenAiResponseDecoder responseDecoder, CoachingMetrics coachingMetrics) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.webClient = webClient;
+        this.responseDecoder = responseDecoder;
+        this.coachingMetrics = coachingMetrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * JSON 모드 호출 (보편적인 방식)
+     */
+    @Override
+    public <T> Mono<T> complete(ModelRoute route, String prompt, OpenAiResponseDecoder.ContentReader<T> contentReader,
+                                Consumer<TokenUsage> onUsage) {
+        return webClient
+                .post()
+                .uri(baseUrl + CHAT_COMPLETIONS_PATH)
+                .headers(headers -> {
+                    headers.set("Authorization", "Bearer " + apiKey);
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                })
+                .bodyValue(createRequestBody(route, prompt, false))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)    // 응답 바이트를 하나의 버퍼로 모음 (String 변환 없음)
+                .timeout(route.timeout())
+                .map(buffer -> coachingMetrics.recordJsonParse(route.task(), () -> decode(() -> {
+                    try (InputStream body = buffer.asInputStream(true)) {  // 읽은 뒤 버퍼 반환
+                        return responseDecoder.decodeCompletion(body, contentReader, onUsage);
+                    }
+                })))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .onErrorMap(e -> {
+                    log.error("OpenAI API 호출 실패 - {}", route, e);
+                    return new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
+                });
+    }
+
+    /**
+     * 스트리밍 모드 호출 (stream: true)
+     * SSE 청크가 도착할 때마다 choices[0].delta.content를 방출
+     * stream_options.include_usage로 요청한 마지막 청크의 usage는 onUsage로 전달
+     */
+    @Override
+    public Flux<String> stream(ModelRoute route, String prompt, Consumer<TokenUsage> onUsage) {
+        return webClient
+                .post()
+                .uri(baseUrl + CHAT_COMPLETIONS_PATH)
+                .headers(headers -> {
+                    headers.set("Authorization", "Bearer " + apiKey);
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                })
+                .bodyValue(createRequestBody(route, prompt, true))
+                .retrieve()
+                .bodyToFlux(String.class)        // text/event-stream의 data 필드 단위로 수신
+                .takeWhile(chunk -> !STREAM_DONE_MARKER.equals(chunk))
+                .map(chunk -> extractDeltaContent(chunk, onUsage))
+                .filter(delta -> !delta.isEmpty())
+                .timeout(route.timeout())        // 청크 간 최대 대기 시간
+                .onErrorMap(e -> {
+                    log.error("OpenAI 스트리밍 API 호출 실패 - {}", route, e);
+                    return new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
+                });
+    }
+
+    /**
+     * 요청 본문 생성 - 모델과 생성 옵션은 작업별 경로 설정을 따름
+     */
+    private Map<String, Object> createRequestBody(ModelRoute route, String prompt, boolean stream) {
+        Map<String, Object> body = new LinkedHashMap<>(Map.of(
+                "model", route.model(),
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                ),
+                "max_tokens", route.maxTokens(),
+                "temperature", route.temperature(),
+                "response_format", Map.of("type", "json_object"), // JSON 모드 활성화
+                "stream", stream
+        ));
+        if (stream) {
+            body.put("stream_options", Map.of("include_usage", true));  // 마지막 청크에 토큰 사용량 포함
+        }
+        return body;
+    }
+
+    /**
+     * 스트리밍 청크에서 choices[0].delta.content 추출, usage가 포함된 청크이면 onUsage로 전달
+     */
+    private String extractDeltaContent(String chunk, Consumer<TokenUsage> onUsage) {
+        try {
+            ChatCompletionChunk response = responseDecoder.decodeChunk(chunk);
+            if (response.getUsage() != null) {
+                onUsage.accept(response.getUsage().toTokenUsage());
+            }
+            return response.deltaContent();
+        } catch (IOException e) {
+            throw new IllegalStateException("스트리밍 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 응답 디코딩 - 파싱 실패는 IllegalStateException으로 변환
+     */
+    private static <T> T decode(Callable<T> decoder) {
+        try {
+            return decoder.call();
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 응답 JSON 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import com.careercoach.careercoachapi.exception.UpstreamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 복원력 계층
+ * - 재시도: 429/5xx/타임아웃/연결 실패만 지터를 둔 지수 백오프로 재시도하고, Retry-After가 있으면 그 이상 대기
+ * - 헤징: 호출이 작업별 p95 지연을 넘도록 끝나지 않으면 같은 요청을 하나 더 보내 먼저 도착한 응답을 사용 (선택)
+ * - 서킷 브레이커: 업스트림 장애가 이어지면 호출을 시도하지 않고 즉시 실패
+ *   (업스트림(LLM 제공자)마다 따로 두어 한 제공자의 장애가 폴백 제공자 호출을 막지 않도록 함)
+ */
+@Slf4j
+public class OpenAiResilience {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+    private static final String RETRY_AFTER_MS = "retry-after-ms";  // OpenAI가 보내는 밀리초 단위 Retry-After
+    private static final int LATENCY_WINDOW_SIZE = 200;             // 헤징 기준 지연 계산에 쓰는 최근 표본 수
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration maxRetryAfter;
+    private final boolean hedgingEnabled;
+    private final double hedgingPercentile;
+    private final int hedgingMinSamples;
+    private final Supplier<CircuitBreaker> circuitBreakerFactory;
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();  // 업스트림별
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();          // 업스트림/작업별
+
+    // 계측 정보
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    public OpenAiResilience(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double jitter,
+                            Duration maxRetryAfter, boolean hedgingEnabled, double hedgingPercentile,
+                            int hedgingMinSamples, Supplier<CircuitBreaker> circuitBreakerFactory) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.maxRetryAfter = maxRetryAfter;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgingPercentile = hedgingPercentile;
+        this.hedgingMinSamples = hedgingMinSamples;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    /**
+     * 단일 응답 호출 실행 (재시도 + 헤징 + 서킷 브레이커)
+     *
+     * @param upstream 호출 대상 (LLM 제공자 이름) - 서킷 브레이커는 업스트림별로 관리
+     * @param task     작업 종류 (interview, learning, combined) - 헤징 기준 지연은 업스트림/작업별로 계산
+     * @param attempt  호출 한 번 (구독할 때마다 새 요청을 보내야 함)
+     */
+    public <T> Mono<T> execute(String upstream, String task, Mono<T> attempt) {
+        return hedged(upstream + ":" + task, protect(circuitBreaker(upstream), attempt))
+                .retryWhen(retrySpec(() -> true));
+    }
+
+    /**
+     * 스트리밍 호출 실행 (재시도 + 서킷 브레이커)
+     * 이미 받은 조각이 listener로 전달되었을 수 있으므로 첫 조각을 받기 전에 실패한 경우에만 재시도하고, 헤징은 하지 않음
+     */
+    public <T> Flux<T> executeStreaming(String upstream, Flux<T> attempt) {
+        CircuitBreaker circuitBreaker = circuitBreaker(upstream);
+        return Flux.defer(() -> {
+            boolean[] started = {false};
+            return protect(circuitBreaker, attempt)
+                    .doOnNext(element -> started[0] = true)
+                    .retryWhen(retrySpec(() -> !started[0]));
+        });
+    }
+
+    public CircuitBreaker.State getCircuitState(String upstream) {
+        return circuitBreaker(upstream).getState();
+    }
+
+    /**
+     * 호출한 적이 있는 업스트림별 서킷 브레이커 상태
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        circuitBreakers.forEach((upstream, circuitBreaker) -> states.put(upstream, circuitBreaker.getState()));
+        return states;
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * 헤징 요청이 먼저 도착해 사용된 횟수
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    public long getShortCircuitedCount() {
+        return circuitBreakers.values().stream().mapToLong(CircuitBreaker::getRejectedCount).sum();
+    }
+
+    private CircuitBreaker circuitBreaker(String upstream) {
+        return circuitBreakers.computeIfAbsent(upstream, key -> circuitBreakerFactory.get());
+    }
+
+    /**
+     * 서킷 브레이커로 호출 한 번을 보호
+     */
+    private <T> Mono<T> protect(CircuitBreaker circuitBreaker, Mono<T> attempt) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(circuitOpen());
+            }
+            return attempt
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(error -> recordOutcome(circuitBreaker, error))
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    /**
+     * 서킷 브레이커로 스트리밍 호출 한 번을 보호
+     * 필요한 만큼 받은 뒤 [DONE] 전에 구독을 끊는 경우가 많으므로, 조각을 하나라도 받은 뒤의 취소는 성공으로 기록
+     */
+    private <T> Flux<T> protect(CircuitBreaker circuitBreaker, Flux<T> attempt) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(circuitOpen());
+            }
+            boolean[] received = {false};
+            return attempt
+                    .doOnNext(element -> received[0] = true)
+                    .doOnComplete(circuitBreaker::onSuccess)
+                    .doOnError(error -> recordOutcome(circuitBreaker, error))
+                    .doOnCancel(() -> {
+                        if (received[0]) {
+                            circuitBreaker.onSuccess();
+                        } else {
+                            circuitBreaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    private static void recordOutcome(CircuitBreaker circuitBreaker, Throwable error) {
+        if (UpstreamErrors.isUpstreamFailure(error)) {
+            circuitBreaker.onFailure();
+        } else if (findCause(error, WebClientResponseException.class) != null
+                && !UpstreamErrors.isRateLimited(error)) {
+            circuitBreaker.onSuccess();  // 4xx - 업스트림은 정상 동작 중
+        } else {
+            circuitBreaker.onIgnored();  // 429(동시성 제한기가 처리), 허가 대기 초과, 응답 파싱 실패 등
+        }
+    }
+
+    private static UpstreamUnavailableException circuitOpen() {
+        return new UpstreamUnavailableException("AI 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 작업별 p95 지연을 넘도록 응답이 없으면 같은 요청을 하나 더 보내고, 먼저 끝난 쪽(성공 또는 실패)의 결과를 사용
+     */
+    private <T> Mono<T> hedged(String latencyKey, Mono<T> attempt) {
+        LatencyWindow window = latencies.computeIfAbsent(latencyKey, key -> new LatencyWindow());
+        Mono<T> timed = Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return attempt.doOnSuccess(result -> window.record((System.nanoTime() - startNanos) / 1_000_000));
+        });
+
+        return Mono.defer(() -> {
+            long hedgeDelayMillis = hedgingEnabled ? window.percentile(hedgingPercentile, hedgingMinSamples) : -1;
+            if (hedgeDelayMillis < 0) {
+                return timed;
+            }
+            Mono<T> hedge = Mono.delay(Duration.ofMillis(hedgeDelayMillis))
+                    .then(Mono.defer(() -> {
+                        hedgeCount.incrementAndGet();
+                        log.info("OpenAI 헤징 요청 - {}, 기준 지연: {}ms", latencyKey, hedgeDelayMillis);
+                        return timed.doOnSuccess(result -> hedgeWinCount.incrementAndGet())
+                                // 서킷 브레이커나 동시성 제한기가 헤징 요청을 거절하면 원래 요청의 결과를 기다림
+                                .onErrorResume(e -> e instanceof UpstreamUnavailableException
+                                        || e instanceof ConcurrencyLimitExceededException, e -> Mono.never());
+                    }));
+            return Mono.firstWithSignal(timed, hedge);  // 먼저 신호를 보낸 쪽을 사용하고 나머지는 취소
+        });
+    }
+
+    /**
+     * 재시도 정책
+     * 지수 백오프(initialBackoff * 2^n, 최대 maxBackoff)에 지터를 적용하고, Retry-After가 더 길면 그만큼 대기
+     * Retry-After가 maxRetryAfter보다 길면 재시도하지 않음
+     *
+     * @param retryAllowed 추가 재시도 조건 (스트리밍은 첫 조각 수신 전까지만)
+     */
+    private Retry retrySpec(BooleanSupplier retryAllowed) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable error = signal.failure();
+            long attempt = signal.totalRetries() + 1;
+            if (attempt >= maxAttempts || !isRetryable(error) || !retryAllowed.getAsBoolean()) {
+                return Mono.error(error);
+            }
+
+            Duration retryAfter = retryAfter(error);
+            if (retryAfter != null && retryAfter.compareTo(maxRetryAfter) > 0) {
+                log.warn("Retry-After({}s)가 너무 길어 재시도하지 않음", retryAfter.toSeconds());
+                return Mono.error(error);
+            }
+
+            Duration delay = backoff(signal.totalRetries());
+            if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+                delay = retryAfter;
+            }
+            retryCount.incrementAndGet();
+            log.warn("OpenAI 호출 재시도 {}/{} - {}ms 후, 원인: {}",
+                    attempt, maxAttempts - 1, delay.toMillis(), rootMessage(error));
+            return Mono.delay(delay);
+        }));
+    }
+
+    private Duration backoff(long retries) {
+        long exponential = initialBackoff.toMillis() << Math.min(retries, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        long jittered = Math.round(capped * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        return Duration.ofMillis(Math.max(1, jittered));
+    }
+
+    /**
+     * 재시도할 오류 - 429, 5xx, 타임아웃, 연결 실패 (서킷 브레이커 거절과 동시성 제한기 허가 대기 초과는 제외)
+     */
+    static boolean isRetryable(Throwable error) {
+        if (findCause(error, UpstreamUnavailableException.class) != null
+                || findCause(error, ConcurrencyLimitExceededException.class) != null) {
+            return false;
+        }
+        WebClientResponseException response = findCause(error, WebClientResponseException.class);
+        if (response != null) {
+            return RETRYABLE_STATUSES.contains(response.getStatusCode().value());
+        }
+        return UpstreamErrors.isTimeout(error) || findCause(error, WebClientRequestException.class) != null;
+    }
+
+    /**
+     * 응답 헤더의 Retry-After (retry-after-ms, 초, HTTP 날짜 형식 지원)
+     */
+    static Duration retryAfter(Throwable error) {
+        WebClientResponseException response = findCause(error, WebClientResponseException.class);
+        if (response == null) {
+            return null;
+        }
+        HttpHeaders headers = response.getHeaders();
+        try {
+            String millis = headers.getFirst(RETRY_AFTER_MS);
+            if (millis != null) {
+                return Duration.ofMillis(Math.round(Double.parseDouble(millis.trim())));
+            }
+            String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (value == null) {
+                return null;
+            }
+            if (value.trim().chars().allMatch(Character::isDigit)) {
+                return Duration.ofSeconds(Long.parseLong(value.trim()));
+            }
+            Duration untilDate = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.debug("Retry-After 헤더 해석 실패", e);
+            return null;
+        }
+    }
+
+    private static <E extends Throwable> E findCause(Throwable error, Class<E> type) {
+        return UpstreamErrors.findCause(error, type);
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+
+    /**
+     * 작업별 최근 성공 지연 (헤징 기준 계산용)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW_SIZE];
+        private int index;
+        private int count;
+
+        private synchronized void record(long latencyMillis) {
+            samples[index] = latencyMillis;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        /**
+         * 최근 표본의 백분위 지연 (표본이 minSamples 미만이면 -1)
+         */
+        private synchronized long percentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * count);
+            return sorted[Math.clamp(rank - 1, 0, count - 1)];
+        }
+    }
+}
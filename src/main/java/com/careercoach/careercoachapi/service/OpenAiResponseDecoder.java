@@ -0,0 +1,135 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.openai.ChatCompletionChunk;
+import com.careercoach.careercoachapi.dto.openai.ChatCompletionUsage;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI 응답 디코더
+ * 전체 응답을 String이나 Map으로 만들지 않고 JsonParser로 토큰을 따라가며
+ * choices[0].message.content 문자열을 파서 내부 버퍼에서 바로 대상 타입으로 변환
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAiResponseDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * content(JSON 문서)를 읽어 결과 객체로 변환하는 함수
+     */
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T read(JsonParser content) throws IOException;
+    }
+
+    /**
+     * content를 지정한 타입으로 변환하는 ContentReader
+     */
+    public <T> ContentReader<T> readerFor(Class<T> type) {
+        return content -> objectMapper.readValue(content, type);
+    }
+
+    /**
+     * 비스트리밍 응답 본문 디코딩
+     * content는 contentReader로 변환하여 반환하고, usage 블록이 있으면 onUsage로 전달
+     */
+    public <T> T decodeCompletion(InputStream body, ContentReader<T> contentReader,
+                                  Consumer<TokenUsage> onUsage) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("OpenAI 응답 형식 오류: 객체가 아닙니다.");
+            }
+
+            ContentHolder<T> holder = new ContentHolder<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    readFirstChoice(parser, contentReader, holder);
+                } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    onUsage.accept(objectMapper.readValue(parser, ChatCompletionUsage.class).toTokenUsage());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (!holder.found) {
+                throw new IllegalStateException("OpenAI 응답에 choices[0].message.content가 없습니다.");
+            }
+            return holder.value;
+        }
+    }
+
+    /**
+     * 스트리밍 응답 청크 디코딩
+     */
+    public ChatCompletionChunk decodeChunk(String chunk) throws IOException {
+        return objectMapper.readValue(chunk, ChatCompletionChunk.class);
+    }
+
+    /**
+     * 스트리밍으로 모은 content 변환
+     */
+    public <T> T decodeContent(String content, ContentReader<T> contentReader) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(content)) {
+            return contentReader.read(parser);
+        }
+    }
+
+    /**
+     * choices 배열에서 첫 번째 항목의 message.content만 읽고 나머지는 건너뜀
+     */
+    private <T> void readFirstChoice(JsonParser parser, ContentReader<T> contentReader,
+                                     ContentHolder<T> holder) throws IOException {
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("message".equals(field) && value == JsonToken.START_OBJECT) {
+                        readMessage(parser, contentReader, holder);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+    }
+
+    private <T> void readMessage(JsonParser parser, ContentReader<T> contentReader,
+                                 ContentHolder<T> holder) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.VALUE_STRING) {
+                // 이스케이프가 풀린 content 문자 배열을 그대로 두 번째 파서의 입력으로 사용
+                try (JsonParser content = objectMapper.createParser(
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())) {
+                    holder.value = contentReader.read(content);
+                    holder.found = true;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static final class ContentHolder<T> {
+        private T value;
+        private boolean found;
+    }
+}
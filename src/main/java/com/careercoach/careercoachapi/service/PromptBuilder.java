@@ -0,0 +1,185 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 프롬프트 생성
+ * 지원자 정보를 작업별 프롬프트 템플릿에 채워 넣음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptBuilder {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 면접 질문 프롬프트 생성
+     */
+    public String interviewQuestions(ResumeInfoRequest request) {
+        return String.format("""
+        당신은 전문 면접관입니다. 아래 정보를 바탕으로 실제 면접에서 나올 법한 심층적인 면접 질문을 JSON 형식으로 생성해주세요.
+        
+        ## 지원자 정보
+        직무: %s
+        경력: %s
+        기술 스킬: %s
+        
+        ## 질문 생성 요구사항
+        1. 각 질문은 지원자의 경력과 기술 스킬을 구체적으로 검증할 수 있어야 함
+        2. 단순한 지식 확인이 아닌 실무 경험과 문제해결 능력을 평가하는 질문
+        3. 상황 기반 답변을 유도하는 행동 중심 질문 포함
+        4. 해당 직무의 핵심 역량을 평가할 수 있는 기술적 질문
+        5. 협업, 커뮤니케이션, 문제해결 능력을 종합적으로 평가하는 질문
+        
+        다음 JSON 형식으로 정확히 응답해주세요:
+        {
+          "questions": [
+            "실무 경험을 바탕으로 한 구체적인 면접 질문 1 (100자 이내)",
+            "기술적 문제해결 능력을 평가하는 면접 질문 2 (100자 이내)",
+            "협업 및 커뮤니케이션 역량을 확인하는 면접 질문 3 (100자 이내)",
+            "상황 기반 행동 평가 질문 4 (100자 이내)",
+            "성장 가능성과 학습 의지를 확인하는 질문 5 (100자 이내)"
+          ],
+          "targetJobRole": "%s",
+          "techSkills": %s
+        }
+        
+        ## 주의사항
+        - 반드시 5개의 질문만 생성
+        - 각 질문은 100자 이내로 작성
+        - JSON 형식을 정확히 준수
+        - 질문은 실제 면접에서 활용 가능한 수준으로 구체적이고 실용적으로 작성
+        """,
+                request.getJobRole(),
+                request.getCareerSummary(),
+                String.join(", ", request.getTechSkills()),
+                request.getJobRole(),
+                toJsonString(request.getTechSkills())
+        );
+    }
+    /**
+     * 학습 경로 프롬프트 생성
+     */
+    public String learningPath(ResumeInfoRequest request) {
+        return String.format("""
+        당신은 전문 커리어 코치입니다. 아래 정보를 바탕으로 개인 맞춤형 학습 경로를 JSON 형식으로 생성해주세요.
+        
+        ## 지원자 정보
+        직무: %s
+        경력: %s
+        기술 스킬: %s
+        
+        ## 학습 경로 생성 요구사항
+        1. 구직자가 향후 개발 역량을 강화하고 합격률을 높일 수 있는 개인 맞춤형 학습 경로
+        2. 특정 기술 스택 심화, 관련 프로젝트 경험 쌓기, 커뮤니케이션 스킬 강화 등 구체적인 방안 포함
+        3. 현재 기술 수준과 목표 직무 간의 갭 분석을 통한 우선순위 설정
+        4. 실무 적용 가능한 학습 방법 및 기간 제시
+        5. 각 추천 항목에 대한 명확한 근거 제시
+        
+        다음 JSON 형식으로 정확히 응답해주세요:
+        {
+          "recommendations": [
+            {
+              "category": "기술스킬|프로젝트경험|소프트스킬|자격증|네트워킹",
+              "title": "구체적인 학습 제목",
+              "description": "학습 내용과 방법에 대한 상세 설명 (300자 이내)",
+              "priority": "HIGH|MEDIUM|LOW",
+              "estimatedDuration": "예상 소요 기간 (예: 2-3개월, 4-6주 등)",
+              "learningMethod": "온라인강의|프로젝트|멘토링|독서|실습|커뮤니티참여",
+              "reason": "이 학습이 필요한 구체적인 이유 (200자 이내)"
+            }
+          ],
+          "targetJobRole": "%s",
+          "currentTechSkills": %s,
+          "overallAssessment": "현재 역량 수준과 목표 직무까지의 전체적인 평가 및 조언 (500자 이내)"
+        }
+        
+        ## 주의사항
+        - 4-6개의 학습 추천 항목 생성
+        - 각 항목은 실제 실행 가능한 구체적인 내용으로 작성
+        - priority는 긴급도와 중요도를 고려하여 설정
+        - JSON 형식을 정확히 준수
+        - 모든 필드 필수 입력
+        """,
+                request.getJobRole(),
+                request.getCareerSummary(),
+                String.join(", ", request.getTechSkills()),
+                request.getJobRole(),
+                toJsonString(request.getTechSkills())
+        );
+    }
+    /**
+     * 면접 질문 + 학습 경로 통합 프롬프트 생성
+     * 두 배열을 최상위에 두어 스트리밍 중에도 각 배열을 점진적으로 파싱할 수 있도록 함
+     */
+    public String comprehensive(ResumeInfoRequest request) {
+        return String.format("""
+        당신은 전문 면접관이자 커리어 코치입니다. 아래 정보를 바탕으로 심층 면접 질문과 개인 맞춤형 학습 경로를 하나의 JSON으로 생성해주세요.
+        
+        ## 지원자 정보
+        직무: %s
+        경력: %s
+        기술 스킬: %s
+        
+        ## 면접 질문 요구사항
+        1. 각 질문은 지원자의 경력과 기술 스킬을 구체적으로 검증할 수 있어야 함
+        2. 단순한 지식 확인이 아닌 실무 경험과 문제해결 능력을 평가하는 질문
+        3. 상황 기반 답변을 유도하는 행동 중심 질문 포함
+        4. 협업, 커뮤니케이션, 성장 가능성을 종합적으로 평가하는 질문
+        
+        ## 학습 경로 요구사항
+        1. 현재 기술 수준과 목표 직무 간의 갭 분석을 통한 우선순위 설정
+        2. 기술 스택 심화, 프로젝트 경험, 소프트 스킬 강화 등 구체적인 방안 포함
+        3. 실무 적용 가능한 학습 방법 및 기간과 명확한 근거 제시
+        
+        다음 JSON 형식으로 정확히 응답해주세요 (questions를 가장 먼저 작성):
+        {
+          "questions": [
+            "면접 질문 1 (100자 이내)",
+            "면접 질문 2 (100자 이내)",
+            "면접 질문 3 (100자 이내)",
+            "면접 질문 4 (100자 이내)",
+            "면접 질문 5 (100자 이내)"
+          ],
+          "recommendations": [
+            {
+              "category": "기술스킬|프로젝트경험|소프트스킬|자격증|네트워킹",
+              "title": "구체적인 학습 제목",
+              "description": "학습 내용과 방법에 대한 상세 설명 (300자 이내)",
+              "priority": "HIGH|MEDIUM|LOW",
+              "estimatedDuration": "예상 소요 기간 (예: 2-3개월, 4-6주 등)",
+              "learningMethod": "온라인강의|프로젝트|멘토링|독서|실습|커뮤니티참여",
+              "reason": "이 학습이 필요한 구체적인 이유 (200자 이내)"
+            }
+          ],
+          "overallAssessment": "현재 역량 수준과 목표 직무까지의 전체적인 평가 및 조언 (500자 이내)"
+        }
+        
+        ## 주의사항
+        - 반드시 5개의 면접 질문과 4-6개의 학습 추천 항목 생성
+        - JSON 형식을 정확히 준수
+        - 모든 필드 필수 입력
+        """,
+                request.getJobRole(),
+                request.getCareerSummary(),
+                String.join(", ", request.getTechSkills())
+        );
+    }
+    /**
+     * List를 JSON 문자열로 변환
+     */
+    String toJsonString(Object obj) {
+        try {
+            return objectMapper.writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            log.warn("JSON 변환 실패", e);
+            return "[]";
+        }
+    }
+}
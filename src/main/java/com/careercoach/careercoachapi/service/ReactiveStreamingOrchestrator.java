@@ -0,0 +1,175 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 논블로킹 스트리밍 처리를 조정하는 서비스 클래스
+ * 스레드를 점유하지 않고 면접 질문과 학습 경로 생성 이벤트를 하나의 Flux로 합쳐 반환
+ * 클라이언트 연결이 끊기면 구독 취소가 업스트림 호출까지 전파됨
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveStreamingOrchestrator {
+
+    // 생성 결과가 아닌 시작 알림 이벤트 (첫 결과 이벤트 시간 측정에서 제외)
+    private static final Set<String> START_EVENTS = Set.of("interview_start", "learning_start");
+
+    private final CareerCoachService careerCoachService;  // 커리어 코칭 핵심 서비스
+    private final SseEventSender eventSender;            // SSE 이벤트 생성
+    private final CoachingMetrics coachingMetrics;       // 파이프라인 지표 기록
+    private final CoachingResultStore resultStore;       // 생성 결과 영구 저장 (write-behind)
+
+    @Value("${career-coach.generation.mode:PARALLEL}")
+    private GenerationMode generationMode;               // 생성 방식 (병렬 2회 호출 / 통합 1회 호출)
+
+    /**
+     * 커리어 코칭 이벤트 스트림 생성
+     * PARALLEL 모드는 면접 질문과 학습 경로를 병렬로, COMBINED 모드는 한 번의 호출로 처리하고
+     * 모든 작업이 끝나면 completed 이벤트로 종료
+     */
+    public Flux<ServerSentEvent<Object>> streamCareerCoaching(String sessionId, ResumeInfoRequest request) {
+        return Flux.defer(() -> {
+            CoachingMetrics.SessionTimer sessionTimer = coachingMetrics.startSession("reactive");
+            ComprehensiveCareerResponse result = new ComprehensiveCareerResponse();  // 완료 시 저장할 생성 결과
+            Flux<ServerSentEvent<Object>> generationEvents = generationMode == GenerationMode.COMBINED
+                    ? comprehensiveEvents(request, result)
+                    : Flux.merge(interviewEvents(request, result), learningEvents(request, result));
+
+            return Flux.concat(
+                            Flux.just(eventSender.connectedEvent(sessionId), eventSender.processingStartEvent()),
+                            generationEvents.doOnNext(event -> {
+                                if (!START_EVENTS.contains(event.event())) {
+                                    sessionTimer.markFirstEvent();
+                                }
+                            }),
+                            Mono.fromSupplier(eventSender::completedEvent))
+                    .doOnComplete(() -> {
+                        resultStore.submit(sessionId, request, result);  // 대기열에 넣기만 하므로 스트림 지연 없음
+                        sessionTimer.stop("completed");
+                        log.info("리액티브 스트리밍 완료 - sessionId: {}, mode: {}, {}ms",
+                                sessionId, generationMode, sessionTimer.elapsedMillis());
+                    })
+                    .doOnCancel(() -> {
+                        sessionTimer.stop("cancelled");
+                        log.info("클라이언트 연결 종료로 스트리밍 취소 - sessionId: {}", sessionId);
+                    })
+                    .onErrorResume(throwable -> {
+                        sessionTimer.stop("error");
+                        log.error("리액티브 스트리밍 실패 - sessionId: {}", sessionId, throwable);
+                        return Mono.just(eventSender.errorEvent("작업 처리 중 오류가 발생했습니다", throwable.getMessage()));
+                    })
+                    // 세션 안에서 1부터 증가하는 이벤트 id (이 엔드포인트는 연결이 끊기면 취소되므로 재연결은 지원하지 않음)
+                    .index((index, event) -> SseEventSender.withId(event, index + 1));
+        });
+    }
+
+    /**
+     * 면접 질문 생성 이벤트 (start → delta/question_ready → complete)
+     */
+    private Flux<ServerSentEvent<Object>> interviewEvents(ResumeInfoRequest request, ComprehensiveCareerResponse result) {
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+            Disposable generation = careerCoachService.generateInterviewQuestionsReactive(request,
+                            new GenerationListener<>() {
+                                @Override
+                                public void onDelta(String delta) {
+                                    sink.next(eventSender.interviewDeltaEvent(delta));
+                                }
+
+                                @Override
+                                public void onElement(int index, String question) {
+                                    sink.next(eventSender.questionReadyEvent(index, question));
+                                }
+                            })
+                    .subscribe(interview -> {
+                                result.setInterviewQuestions(interview);
+                                sink.next(eventSender.interviewCompleteEvent(interview));
+                            },
+                            sink::error,
+                            sink::complete);
+            sink.onDispose(generation);  // 구독 취소 시 업스트림 호출도 취소
+        }).startWith(eventSender.interviewStartEvent());
+    }
+
+    /**
+     * 학습 경로 생성 이벤트 (start → delta/recommendation_ready → complete)
+     */
+    private Flux<ServerSentEvent<Object>> learningEvents(ResumeInfoRequest request, ComprehensiveCareerResponse result) {
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+            Disposable generation = careerCoachService.generateLearningPathReactive(request,
+                            new GenerationListener<>() {
+                                @Override
+                                public void onDelta(String delta) {
+                                    sink.next(eventSender.learningDeltaEvent(delta));
+                                }
+
+                                @Override
+                                public void onElement(int index, LearningRecommendation recommendation) {
+                                    sink.next(eventSender.recommendationReadyEvent(index, recommendation));
+                                }
+                            })
+                    .subscribe(learning -> {
+                                result.setLearningPath(learning);
+                                sink.next(eventSender.learningCompleteEvent(learning));
+                            },
+                            sink::error,
+                            sink::complete);
+            sink.onDispose(generation);  // 구독 취소 시 업스트림 호출도 취소
+        }).startWith(eventSender.learningStartEvent());
+    }
+
+    /**
+     * 면접 질문 + 학습 경로 통합 생성 이벤트
+     * 한 번의 호출로 생성하지만 클라이언트에는 PARALLEL 모드와 같은 이벤트를 전송
+     */
+    private Flux<ServerSentEvent<Object>> comprehensiveEvents(ResumeInfoRequest request, ComprehensiveCareerResponse result) {
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+            ComprehensiveGenerationListener listener = new ComprehensiveGenerationListener(
+                    new GenerationListener<>() {
+                        @Override
+                        public void onDelta(String delta) {
+                            sink.next(eventSender.interviewDeltaEvent(delta));
+                        }
+
+                        @Override
+                        public void onElement(int index, String question) {
+                            sink.next(eventSender.questionReadyEvent(index, question));
+                        }
+                    },
+                    new GenerationListener<>() {
+                        @Override
+                        public void onDelta(String delta) {
+                            sink.next(eventSender.learningDeltaEvent(delta));
+                        }
+
+                        @Override
+                        public void onElement(int index, LearningRecommendation recommendation) {
+                            sink.next(eventSender.recommendationReadyEvent(index, recommendation));
+                        }
+                    });
+
+            Disposable generation = careerCoachService.generateComprehensiveReactive(request, listener)
+                    .subscribe(comprehensive -> {
+                                result.setInterviewQuestions(comprehensive.getInterviewQuestions());
+                                result.setLearningPath(comprehensive.getLearningPath());
+                                sink.next(eventSender.interviewCompleteEvent(comprehensive.getInterviewQuestions()));
+                                sink.next(eventSender.learningCompleteEvent(comprehensive.getLearningPath()));
+                            },
+                            sink::error,
+                            sink::complete);
+            sink.onDispose(generation);  // 구독 취소 시 업스트림 호출도 취소
+        }).startWith(eventSender.interviewStartEvent(), eventSender.learningStartEvent());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.careercoach.careercoachapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis 세션 저장소 (여러 노드 배포용)
+ * 세션마다 JSON 문자열 하나를 TTL과 함께 기록하며, TTL은 소유 노드가 정리하지 못하고 종료된 경우의 안전장치
+ * 생성 결과를 저장한 노드도 결과 키마다 기록 (세션이 끝난 뒤에도 조회되도록 세션보다 긴 resultOwnerTtl 적용)
+ * Redis 오류는 경고만 남기고 무시 - 세션 자체는 소유 노드 메모리에서 계속 동작
+ */
+@Slf4j
+public class RedisSessionStore implements SessionStore {
+
+    private static final String KEY_PREFIX = "career-coach:session:";
+    private static final String RESULT_OWNER_PREFIX = "career-coach:result-owner:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration resultOwnerTtl;
+
+    public RedisSessionStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Duration ttl,
+                             Duration resultOwnerTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.resultOwnerTtl = resultOwnerTtl;
+    }
+
+    @Override
+    public void save(SessionRecord record) {
+        String sessionId = record.info().getSessionId();
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, objectMapper.writeValueAsString(record), ttl);
+        } catch (JsonProcessingException e) {
+            log.error("세션 정보 직렬화 실패 - sessionId: {}", sessionId, e);
+        } catch (Exception e) {
+            log.warn("세션 저장소 기록 실패 - sessionId: {}, 원인: {}", sessionId, e.toString());
+        }
+    }
+
+    @Override
+    public Optional<SessionRecord> find(String sessionId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + sessionId);
+            return json != null ? Optional.of(objectMapper.readValue(json, SessionRecord.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("세션 저장소 조회 실패 - sessionId: {}, 원인: {}", sessionId, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + sessionId);
+        } catch (Exception e) {
+            log.warn("세션 저장소 삭제 실패 - sessionId: {}, 원인: {}", sessionId, e.toString());
+        }
+    }
+
+    @Override
+    public void saveResultOwner(String resultKey, ResultOwner owner) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_OWNER_PREFIX + resultKey, objectMapper.writeValueAsString(owner),
+                    resultOwnerTtl);
+        } catch (Exception e) {
+            log.warn("결과 소유 노드 기록 실패 - key: {}, 원인: {}", resultKey, e.toString());
+        }
+    }
+
+    @Override
+    public Optional<ResultOwner> findResultOwner(String resultKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(RESULT_OWNER_PREFIX + resultKey);
+            return json != null ? Optional.of(objectMapper.readValue(json, ResultOwner.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("결과 소유 노드 조회 실패 - key: {}, 원인: {}", resultKey, e.toString());
+            return Optional.empty();
+        }
+    }
+}
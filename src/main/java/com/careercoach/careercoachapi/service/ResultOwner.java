@@ -0,0 +1,10 @@
+package com.careercoach.careercoachapi.service;
+
+/**
+ * 생성 결과를 저장한 노드 - 결과 로그는 노드마다 따로 있으므로 다른 노드가 조회를 중계할 때 사용
+ *
+ * @param ownerNode 결과를 저장한 노드 ID
+ * @param ownerUrl  다른 노드가 결과 조회를 중계할 노드 주소
+ */
+public record ResultOwner(String ownerNode, String ownerUrl) {
+}
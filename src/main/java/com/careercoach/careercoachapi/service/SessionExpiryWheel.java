@@ -0,0 +1,275 @@
+package com.careercoach.careercoachapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 해시 타이머 휠 기반 만료 처리기
+ * 만료 시각을 tick 단위 슬롯에 나누어 담고, 전용 스레드가 tick마다 해당 슬롯 하나만 확인하여 만료된 항목을 콜백으로 전달
+ * - 등록/연장/취소는 O(1)이며 전체 항목을 훑는 주기적 스캔이 없음
+ * - 만료 시각 연장은 값만 바꾸고, 원래 슬롯을 처리할 때 새 슬롯으로 옮김 (활동이 잦은 항목도 연장 비용이 작음)
+ * - 만료 시각을 앞당기면 즉시 새 슬롯으로 옮김
+ * - 한 바퀴(tick × 슬롯 수)보다 먼 만료 시각은 같은 슬롯에 남아 다음 바퀴에 다시 확인
+ */
+@Slf4j
+public class SessionExpiryWheel<K> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Set<Timeout<K>>> buckets;
+    private final Consumer<K> onExpire;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final boolean autoStart;                  // 처음 등록할 때 tick 스레드 시작 (테스트는 직접 advance 호출)
+    private final String threadName;
+
+    private volatile long processedTick;              // 마지막으로 처리한 tick (tick 스레드만 변경)
+    private volatile IntConsumer tickListener = expired -> { };
+    private volatile Thread worker;
+    private volatile boolean closed;                  // 종료 후에는 tick 스레드를 다시 시작하지 않음
+
+    // 계측 정보
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    /**
+     * 등록된 만료 항목
+     */
+    public static final class Timeout<K> {
+        private final K key;
+        private volatile long deadlineNanos;
+        private Set<Timeout<K>> bucket;   // 현재 담긴 슬롯 (this로 보호)
+        private volatile boolean done;    // 만료 또는 취소됨
+
+        private Timeout(K key, long deadlineNanos) {
+            this.key = key;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * 만료되었거나 만료 시각이 지났는지 (tick 처리 전이라도 만료 시각이 지나면 true)
+         */
+        public boolean isExpired(long nowNanos) {
+            return done || nowNanos - deadlineNanos >= 0;
+        }
+    }
+
+    public SessionExpiryWheel(Duration tick, int wheelSize, Consumer<K> onExpire) {
+        this("session-expiry", tick, wheelSize, onExpire);
+    }
+
+    /**
+     * @param threadName tick 스레드 이름 (용도별로 구분)
+     */
+    public SessionExpiryWheel(String threadName, Duration tick, int wheelSize, Consumer<K> onExpire) {
+        this(tick, wheelSize, onExpire, System::nanoTime, true, threadName);
+    }
+
+    SessionExpiryWheel(Duration tick, int wheelSize, Consumer<K> onExpire, LongSupplier clock) {
+        this(tick, wheelSize, onExpire, clock, false, "session-expiry");
+    }
+
+    private SessionExpiryWheel(Duration tick, int wheelSize, Consumer<K> onExpire, LongSupplier clock,
+                               boolean autoStart, String threadName) {
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;  // 2의 거듭제곱으로 올림
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(ConcurrentHashMap.newKeySet());
+        }
+        this.onExpire = onExpire;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.autoStart = autoStart;
+        this.threadName = threadName;
+    }
+
+    /**
+     * tick마다 만료된 항목 수를 전달받을 listener (지표 기록용)
+     */
+    public void setTickListener(IntConsumer tickListener) {
+        this.tickListener = tickListener;
+    }
+
+    /**
+     * ttl 뒤에 만료되도록 등록 (처음 등록할 때 tick 스레드 시작)
+     */
+    public Timeout<K> schedule(K key, Duration ttl) {
+        startIfNeeded();
+        Timeout<K> timeout = new Timeout<>(key, clock.getAsLong() + ttl.toNanos());
+        synchronized (timeout) {
+            place(timeout);
+        }
+        pendingCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * 만료 시각을 지금부터 ttl 뒤로 변경
+     *
+     * @return 이미 만료/취소되어 변경하지 못하면 false
+     */
+    public boolean reschedule(Timeout<K> timeout, Duration ttl) {
+        long deadline = clock.getAsLong() + ttl.toNanos();
+        synchronized (timeout) {
+            if (timeout.done) {
+                return false;
+            }
+            long previous = timeout.deadlineNanos;
+            timeout.deadlineNanos = deadline;
+            if (deadline - previous < 0) {
+                // 앞당긴 경우에만 즉시 이동, 늦춘 경우는 원래 슬롯 처리 시 이동
+                timeout.bucket.remove(timeout);
+                place(timeout);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 만료 등록 취소
+     */
+    public void cancel(Timeout<K> timeout) {
+        synchronized (timeout) {
+            if (timeout.done) {
+                return;
+            }
+            timeout.done = true;
+            timeout.bucket.remove(timeout);
+        }
+        pendingCount.decrementAndGet();
+    }
+
+    /**
+     * 현재 시각까지 지난 tick을 모두 처리 (tick 스레드에서 호출, 테스트에서는 직접 호출)
+     */
+    void advance() {
+        long now = clock.getAsLong();
+        long targetTick = (now - startNanos) / tickNanos;
+        while (processedTick < targetTick) {
+            long tick = processedTick + 1;
+            List<K> expired = collectExpired(tick, now);
+            processedTick = tick;
+
+            for (K key : expired) {
+                try {
+                    onExpire.accept(key);
+                } catch (Exception e) {
+                    log.error("만료 처리 중 오류 - key: {}", key, e);
+                }
+            }
+            expiredCount.addAndGet(expired.size());
+            tickListener.accept(expired.size());
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    private List<K> collectExpired(long tick, long now) {
+        Set<Timeout<K>> bucket = buckets.get((int) (tick & mask));
+        List<K> expired = new ArrayList<>();
+        for (Timeout<K> timeout : bucket) {
+            synchronized (timeout) {
+                if (timeout.done || timeout.bucket != bucket) {
+                    continue;
+                }
+                if (now - timeout.deadlineNanos >= 0) {
+                    timeout.done = true;
+                    bucket.remove(timeout);
+                    pendingCount.decrementAndGet();
+                    expired.add(timeout.key);
+                } else {
+                    long dueTick = tickOf(timeout.deadlineNanos, tick);
+                    if ((dueTick & mask) != (tick & mask)) {
+                        bucket.remove(timeout);   // 연장된 항목을 새 슬롯으로 이동
+                        place(timeout, dueTick);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void place(Timeout<K> timeout) {
+        place(timeout, tickOf(timeout.deadlineNanos, processedTick));
+    }
+
+    private void place(Timeout<K> timeout, long tick) {
+        Set<Timeout<K>> bucket = buckets.get((int) (tick & mask));
+        timeout.bucket = bucket;
+        bucket.add(timeout);
+    }
+
+    /**
+     * 만료 시각이 속한 tick (이미 처리한 tick 이전이면 다음 tick)
+     */
+    private long tickOf(long deadlineNanos, long currentTick) {
+        long tick = Math.ceilDiv(deadlineNanos - startNanos, tickNanos);
+        return Math.max(tick, currentTick + 1);
+    }
+
+    /**
+     * tick 스레드 종료 (남은 항목은 더 이상 만료 처리하지 않음)
+     */
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            running = worker;
+        }
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    private void startIfNeeded() {
+        if (!autoStart || worker != null || closed) {
+            return;
+        }
+        synchronized (this) {
+            if (worker == null && !closed) {
+                worker = Thread.ofPlatform().name(threadName).daemon(true).start(this::run);
+            }
+        }
+    }
+
+    private void run() {
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            long nextTickAt = startNanos + (processedTick + 1) * tickNanos;
+            long sleepNanos = nextTickAt - clock.getAsLong();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+                continue;
+            }
+            try {
+                advance();
+            } catch (Exception e) {
+                log.error("만료 tick 처리 실패 - {}", threadName, e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        }
+    }
+}
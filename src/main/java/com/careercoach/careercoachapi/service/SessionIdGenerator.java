@@ -0,0 +1,91 @@
+package com.careercoach.careercoachapi.service;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 정렬되는 세션 ID 생성기
+ * 48비트 밀리초 타임스탬프 + 24비트 인스턴스 노드 값 + 56비트 카운터 + 64비트 난수를 Crockford Base32 39자로 인코딩
+ * - 같은 밀리초 안에서도 카운터가 달라 인스턴스 내 충돌이 없고, 노드 값으로 인스턴스 간 충돌을 피함
+ * - 문자열 순서가 생성 시각 순서와 같아 로그/저장소에서 시간순 정렬이 가능
+ * - 앞 26자(시각/노드/카운터)는 추측할 수 있으므로, 세션 ID만으로 결과/재연결을 허용하는 API를 위해
+ *   SecureRandom 64비트를 뒤에 붙여 다른 사용자의 세션 ID를 짐작할 수 없게 함 (ULID와 달리 26자 부분은 무작위가 아님)
+ */
+@Component
+public class SessionIdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TIME_CHARS = 10;     // 50비트 (상위 2비트는 0)
+    private static final int SEQUENCE_CHARS = 16; // 80비트 = 노드 24비트 + 카운터 56비트
+    private static final int SECRET_CHARS = 13;   // 65비트 (상위 1비트는 0) = 난수 64비트
+    private static final int ORDERED_LENGTH = TIME_CHARS + SEQUENCE_CHARS;
+    private static final long COUNTER_MASK = (1L << 56) - 1;
+    public static final int LENGTH = ORDERED_LENGTH + SECRET_CHARS;
+
+    private final int node;            // 인스턴스별 24비트 값
+    private final AtomicLong counter;  // 인스턴스 내 단조 증가 카운터
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public SessionIdGenerator() {
+        this(new SecureRandom().nextInt(1 << 24));
+    }
+
+    SessionIdGenerator(int node) {
+        this.node = node & 0xFFFFFF;
+        // 카운터는 임의의 값에서 시작해 재시작 직후의 ID가 이전 실행과 겹치지 않도록 함 (상위 비트는 여유로 남김)
+        this.counter = new AtomicLong(ThreadLocalRandom.current().nextLong(1L << 40));
+    }
+
+    /**
+     * 다음 세션 ID (39자)
+     */
+    public String nextId() {
+        return encode(System.currentTimeMillis(), counter.getAndIncrement() & COUNTER_MASK, secureRandom.nextLong());
+    }
+
+    /**
+     * ID에 담긴 생성 시각 (epoch 밀리초)
+     */
+    public static long timestampOf(String id) {
+        long timestamp = 0;
+        for (int i = 0; i < TIME_CHARS; i++) {
+            timestamp = (timestamp << 5) | decode(id.charAt(i));
+        }
+        return timestamp;
+    }
+
+    private String encode(long timestamp, long sequence, long secret) {
+        char[] chars = new char[LENGTH];
+        for (int i = TIME_CHARS - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (timestamp & 31)];
+            timestamp >>>= 5;
+        }
+
+        // 80비트 (노드 24비트 | 카운터 56비트)를 상위 16비트와 하위 64비트로 나누어 5비트씩 인코딩
+        long high = node >>> 8;
+        long low = ((long) (node & 0xFF) << 56) | sequence;
+        for (int i = ORDERED_LENGTH - 1; i >= TIME_CHARS; i--) {
+            chars[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+
+        for (int i = LENGTH - 1; i >= ORDERED_LENGTH; i--) {
+            chars[i] = ALPHABET[(int) (secret & 31)];
+            secret >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int decode(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("세션 ID 형식이 올바르지 않습니다: " + c);
+    }
+}
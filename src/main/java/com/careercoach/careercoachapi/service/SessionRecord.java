@@ -0,0 +1,13 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.SessionInfo;
+
+/**
+ * 세션 저장소에 공유되는 세션 정보 - 메타데이터/상태와 SSE 연결을 가진 노드
+ *
+ * @param info      세션 메타데이터와 상태
+ * @param ownerNode 세션(SSE 연결과 재전송 버퍼)을 가진 노드 ID
+ * @param ownerUrl  다른 노드가 재연결 요청을 중계할 소유 노드 주소
+ */
+public record SessionRecord(SessionInfo info, String ownerNode, String ownerUrl) {
+}
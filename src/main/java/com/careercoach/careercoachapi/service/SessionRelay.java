@@ -0,0 +1,137 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.ApiResponse;
+import com.careercoach.careercoachapi.dto.response.StoredCoachingResult;
+import com.careercoach.careercoachapi.exception.SessionResumeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 다른 노드가 가진 세션의 재연결 중계
+ * 재연결 요청이 세션을 만들지 않은 노드로 들어오면 소유 노드의 재연결 엔드포인트를 구독하여
+ * 이벤트(id 포함)를 그대로 클라이언트에 전달 - 클라이언트는 이후에도 어느 노드로든 Last-Event-ID로 재연결 가능
+ * 저장된 생성 결과 조회도 결과를 저장한 노드로 중계 (결과 로그는 노드마다 따로 있음)
+ * 중계 요청 표시 헤더에는 노드 간 공유 비밀값을 실어, 클라이언트가 보낸 헤더는 중계 요청으로 믿지 않음
+ */
+@Slf4j
+@Service
+public class SessionRelay {
+
+    public static final String RELAY_HEADER = "X-Session-Relay";  // 중계된 요청 표시 (값: 공유 비밀값, 다시 중계하지 않음)
+    private static final String RESUME_PATH = "/api/v1/career-coach/career-coaching/stream/{sessionId}";
+    private static final ParameterizedTypeReference<ServerSentEvent<Object>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<StoredCoachingResult>> RESULT_TYPE =
+            new ParameterizedTypeReference<>() { };
+    private static final Duration RESULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+    private final byte[] relaySecret;  // 노드 간 공유 비밀값 (비어 있으면 어떤 요청도 중계 요청으로 믿지 않음)
+
+    public SessionRelay(WebClient.Builder webClientBuilder,
+                        @Value("${career-coach.node.relay-secret:}") String relaySecret) {
+        this.webClient = webClientBuilder.build();
+        this.relaySecret = relaySecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 다른 노드가 중계한 요청인지 (헤더 값이 공유 비밀값과 같을 때만, 비교 시간은 값과 무관)
+     */
+    public boolean isTrustedRelay(String relayHeader) {
+        if (relayHeader == null) {
+            return false;
+        }
+        boolean trusted = relaySecret.length > 0
+                && MessageDigest.isEqual(relaySecret, relayHeader.getBytes(StandardCharsets.UTF_8));
+        if (!trusted) {
+            log.warn("신뢰할 수 없는 중계 헤더 무시 - {}", RELAY_HEADER);
+        }
+        return trusted;
+    }
+
+    /**
+     * 소유 노드의 이벤트 스트림을 emitter로 전달 (클라이언트 연결이 끊기면 소유 노드 구독도 취소)
+     */
+    public void relay(SessionRecord owner, String sessionId, Long lastEventId, SseEmitter emitter) {
+        log.info("세션 재연결 중계 - sessionId: {}, 소유 노드: {}", sessionId, owner.ownerNode());
+
+        Disposable subscription = webClient.get()
+                .uri(owner.ownerUrl() + RESUME_PATH, sessionId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    headers.set(RELAY_HEADER, new String(relaySecret, StandardCharsets.UTF_8));
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", String.valueOf(lastEventId));
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .subscribe(
+                        event -> forward(emitter, event),
+                        error -> emitter.completeWithError(toResumeError(sessionId, error)),
+                        emitter::complete);
+
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(throwable -> subscription.dispose());
+    }
+
+    /**
+     * 결과를 저장한 노드의 결과 조회 엔드포인트 호출 (없거나 노드에 연결하지 못하면 empty)
+     *
+     * @param path 결과 조회 경로 (예: /api/v1/career-coach/career-coaching/results/{id})
+     */
+    public Optional<StoredCoachingResult> fetchResult(ResultOwner owner, String path, String id) {
+        log.info("결과 조회 중계 - {}, 소유 노드: {}", id, owner.ownerNode());
+        try {
+            ApiResponse<StoredCoachingResult> response = webClient.get()
+                    .uri(owner.ownerUrl() + path, id)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .header(RELAY_HEADER, new String(relaySecret, StandardCharsets.UTF_8))
+                    .retrieve()
+                    .bodyToMono(RESULT_TYPE)
+                    .block(RESULT_TIMEOUT);
+            return Optional.ofNullable(response).map(ApiResponse::getData);
+        } catch (WebClientResponseException.NotFound e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("소유 노드 결과 조회 실패 - {}, 소유 노드: {}, 원인: {}", id, owner.ownerNode(), e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private void forward(SseEmitter emitter, ServerSentEvent<Object> event) {
+        try {
+            emitter.send(SseEventSender.toEmitterEvent(event));
+        } catch (IOException e) {
+            throw new RuntimeException("중계 이벤트 전송 실패: " + event.event(), e);
+        }
+    }
+
+    private Throwable toResumeError(String sessionId, Throwable error) {
+        if (error instanceof WebClientResponseException responseError) {
+            int status = responseError.getStatusCode().value();
+            log.warn("소유 노드 재연결 거절 - sessionId: {}, status: {}", sessionId, status);
+            String message = status == 410
+                    ? "놓친 이벤트가 많아 이어받을 수 없습니다. 새로 요청해주세요."
+                    : "재연결할 세션을 찾을 수 없습니다: " + sessionId;
+            return new SessionResumeException(message, status);
+        }
+        log.warn("소유 노드 연결 실패 - sessionId: {}, 원인: {}", sessionId, error.toString());
+        return error;
+    }
+}
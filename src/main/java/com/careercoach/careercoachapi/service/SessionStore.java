@@ -0,0 +1,41 @@
+package com.careercoach.careercoachapi.service;
+
+import java.util.Optional;
+
+/**
+ * 세션 메타데이터/상태 저장소
+ * SSE 연결과 재전송 버퍼는 세션을 만든 노드에만 있고, 저장소에는 어느 노드든 조회할 수 있는 정보만 기록
+ * 저장소 장애는 스트리밍을 막지 않도록 구현체에서 기록 후 무시
+ */
+public interface SessionStore {
+
+    enum Type {
+        MEMORY,  // 단일 노드 - 노드 메모리에만 기록
+        REDIS    // 여러 노드 - Redis에 공유
+    }
+
+    /**
+     * 세션 정보 기록 (같은 세션이면 덮어씀)
+     */
+    void save(SessionRecord record);
+
+    /**
+     * 세션 정보 조회
+     */
+    Optional<SessionRecord> find(String sessionId);
+
+    /**
+     * 세션 정보 삭제
+     */
+    void remove(String sessionId);
+
+    /**
+     * 생성 결과를 저장한 노드 기록 (결과 키: 세션 ID 또는 요청 해시별 키, 같은 키면 덮어씀)
+     */
+    void saveResultOwner(String resultKey, ResultOwner owner);
+
+    /**
+     * 생성 결과를 저장한 노드 조회
+     */
+    Optional<ResultOwner> findResultOwner(String resultKey);
+}
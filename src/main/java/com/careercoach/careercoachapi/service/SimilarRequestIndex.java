@@ -0,0 +1,320 @@
+package com.careercoach.careercoachapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유사 요청 색인 (MinHash + LSH)
+ * 직무와 기술 스킬(정규화 후)이 같고 경력 요약이 조금 다른 요청을 찾아, 이미 생성된 결과를 재사용할 수 있게 함
+ * - 경력 요약을 문자 3-gram 집합으로 만들고 64개 해시의 MinHash 서명으로 Jaccard 유사도를 추정
+ * - 서명을 16개 밴드(밴드당 4행)로 나누어 밴드 값이 같은 항목만 후보로 확인 (유사도 0.7이면 후보가 될 확률 약 99%)
+ * - 밴드 키에 직무/스킬 해시를 섞어 다른 직무/스킬 조합은 후보가 되지 않음
+ * - 조회당 확인하는 후보 수에 상한을 두어 항목 수와 무관하게 조회 비용이 일정 (최근 항목 우선)
+ * - 항목 데이터는 객체 없이 배열에 보관하고, capacity를 넘으면 가장 오래된 항목부터 교체 (항목당 약 500바이트)
+ * - 결과 캐시에서 제거된 키는 remove로 함께 제거 (캐시 제거 listener에서 호출)
+ * 외부 임베딩 서비스 없이 프로세스 안에서만 계산
+ */
+public class SimilarRequestIndex {
+
+    private static final int NUM_HASHES = 64;
+    private static final int BANDS = 16;
+    private static final int ROWS = NUM_HASHES / BANDS;
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int MAX_CANDIDATES = 64;       // 조회당 유사도를 계산할 최대 후보 수
+    private static final int MAX_CHAIN_STEPS = 256;     // 밴드당 따라갈 최대 연결 수
+    private static final long[] HASH_A = new long[NUM_HASHES];
+    private static final long[] HASH_B = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDCAFEL);  // 재시작해도 같은 해시 함수
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_A[i] = random.nextLong() | 1L;
+            HASH_B[i] = random.nextLong();
+        }
+    }
+
+    private final boolean enabled;
+    private final double threshold;
+    private final int capacity;
+    private final int tableMask;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 슬롯별 항목 데이터 (슬롯 번호 = 배열 위치, 연결 값은 슬롯 + 1이며 0은 없음)
+    private final CanonicalRequestKey[] keys;
+    private final long[] groups;                         // 직무 + 스킬 해시
+    private final short[] signatures;                    // MinHash 서명의 하위 16비트 (capacity × NUM_HASHES)
+    private final int[] bandKeys;                        // 밴드 키 (capacity × BANDS)
+    private final int[] heads;                           // 밴드별 해시 테이블의 첫 슬롯 (BANDS × 테이블 크기)
+    private final int[] next;                            // 같은 칸의 다음 슬롯 (capacity × BANDS)
+    private final int[] prev;                            // 같은 칸의 이전 슬롯 (교체 시 O(1) 제거)
+    private final Map<CanonicalRequestKey, Integer> slots = new HashMap<>();
+    private int cursor;                                  // 다음에 채울 슬롯
+
+    // 계측 정보
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong matchCount = new AtomicLong();
+
+    /**
+     * 유사 요청과 추정 유사도
+     */
+    public record Match(CanonicalRequestKey key, double similarity) {
+    }
+
+    public SimilarRequestIndex(boolean enabled, double threshold, int capacity) {
+        if (enabled && capacity <= 0) {
+            throw new IllegalStateException("유사 요청 색인을 사용하려면 career-coach.similarity.max-entries가 1 이상이어야 합니다: " + capacity);
+        }
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.capacity = enabled ? capacity : 0;
+        int tableSize = Integer.highestOneBit(Math.max(this.capacity - 1, 1)) << 1;  // 2의 거듭제곱으로 올림
+        this.tableMask = tableSize - 1;
+        this.keys = new CanonicalRequestKey[this.capacity];
+        this.groups = new long[this.capacity];
+        this.signatures = new short[this.capacity * NUM_HASHES];
+        this.bandKeys = new int[this.capacity * BANDS];
+        this.heads = new int[enabled ? BANDS * tableSize : 0];
+        this.next = new int[this.capacity * BANDS];
+        this.prev = new int[this.capacity * BANDS];
+    }
+
+    /**
+     * 생성 결과가 저장된 요청 키 등록 (이미 있으면 무시)
+     */
+    public void add(CanonicalRequestKey key) {
+        if (!enabled) {
+            return;
+        }
+        long group = groupOf(key);
+        int[] signature = signatureOf(key.getCareerSummary());
+        int[] bands = bandKeysOf(group, signature);
+
+        lock.writeLock().lock();
+        try {
+            if (slots.containsKey(key)) {
+                return;
+            }
+            int slot = cursor;
+            cursor = (cursor + 1) % capacity;
+            if (keys[slot] != null) {
+                unlink(slot);
+                slots.remove(keys[slot]);
+            }
+
+            keys[slot] = key;
+            groups[slot] = group;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                signatures[slot * NUM_HASHES + i] = (short) signature[i];
+            }
+            for (int band = 0; band < BANDS; band++) {
+                link(slot, band, bands[band]);
+            }
+            slots.put(key, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 요청 키 제거 (없으면 무시), 비워진 슬롯은 교체 순서가 돌아오면 다시 채움
+     */
+    public void remove(CanonicalRequestKey key) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(key);
+            if (slot != null) {
+                unlink(slot);
+                keys[slot] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도가 threshold 이상인 다른 요청을 유사도 높은 순으로 조회 (같은 키는 제외)
+     */
+    public List<Match> findSimilar(CanonicalRequestKey key) {
+        if (!enabled) {
+            return List.of();
+        }
+        lookupCount.incrementAndGet();
+        long group = groupOf(key);
+        int[] signature = signatureOf(key.getCareerSummary());
+        int[] bands = bandKeysOf(group, signature);
+
+        List<Match> matches = new ArrayList<>();
+        int[] checked = new int[MAX_CANDIDATES];
+        int checkedCount = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS && checkedCount < MAX_CANDIDATES; band++) {
+                int steps = 0;
+                for (int link = heads[band * (tableMask + 1) + (bands[band] & tableMask)];
+                     link != 0 && steps < MAX_CHAIN_STEPS && checkedCount < MAX_CANDIDATES;
+                     link = next[(link - 1) * BANDS + band], steps++) {
+                    int slot = link - 1;
+                    if (bandKeys[slot * BANDS + band] != bands[band] || groups[slot] != group
+                            || contains(checked, checkedCount, slot)) {
+                        continue;
+                    }
+                    checked[checkedCount++] = slot;
+
+                    CanonicalRequestKey candidate = keys[slot];
+                    double similarity = estimate(signature, slot);
+                    if (similarity >= threshold && !candidate.equals(key)
+                            && candidate.getJobRole().equals(key.getJobRole())
+                            && candidate.getTechSkills().equals(key.getTechSkills())) {
+                        matches.add(new Match(candidate, similarity));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!matches.isEmpty()) {
+            matchCount.incrementAndGet();
+            matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        }
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLookupCount() {
+        return lookupCount.get();
+    }
+
+    public long getMatchCount() {
+        return matchCount.get();
+    }
+
+    /**
+     * Jaccard 유사도 추정치 (MinHash 서명 일치 비율, 16비트만 비교하므로 우연히 일치할 확률 1/65536은 무시)
+     */
+    private double estimate(int[] signature, int slot) {
+        int base = slot * NUM_HASHES;
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if ((short) signature[i] == signatures[base + i]) {
+                same++;
+            }
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    private void link(int slot, int band, int bandKey) {
+        int index = slot * BANDS + band;
+        int bucket = band * (tableMask + 1) + (bandKey & tableMask);
+        int head = heads[bucket];
+        bandKeys[index] = bandKey;
+        prev[index] = 0;
+        next[index] = head;
+        if (head != 0) {
+            prev[(head - 1) * BANDS + band] = slot + 1;
+        }
+        heads[bucket] = slot + 1;
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int index = slot * BANDS + band;
+            int before = prev[index];
+            int after = next[index];
+            if (before == 0) {
+                heads[band * (tableMask + 1) + (bandKeys[index] & tableMask)] = after;
+            } else {
+                next[(before - 1) * BANDS + band] = after;
+            }
+            if (after != 0) {
+                prev[(after - 1) * BANDS + band] = before;
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long groupOf(CanonicalRequestKey key) {
+        long hash = mix(key.getJobRole().hashCode());
+        for (String skill : key.getTechSkills()) {
+            hash = mix(hash * 31 + skill.hashCode());
+        }
+        return hash;
+    }
+
+    /**
+     * 문자 3-gram 집합의 MinHash 서명 (h_i(x) = A_i * x + B_i 의 상위 32비트 최솟값)
+     */
+    private static int[] signatureOf(String summary) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        if (summary.length() < SHINGLE_LENGTH) {
+            update(signature, mix(summary.hashCode()));
+            return signature;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= summary.length(); i++) {
+            long shingle = ((long) summary.charAt(i) << 32) | ((long) summary.charAt(i + 1) << 16) | summary.charAt(i + 2);
+            update(signature, mix(shingle));
+        }
+        return signature;
+    }
+
+    private static void update(int[] signature, long feature) {
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int value = (int) ((HASH_A[i] * feature + HASH_B[i]) >>> 33);  // 0 이상 int
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private static int[] bandKeysOf(long group, int[] signature) {
+        int[] bands = new int[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = group + band;
+            for (int row = 0; row < ROWS; row++) {
+                hash = hash * 0x9E3779B97F4A7C15L + signature[band * ROWS + row];
+            }
+            bands[band] = (int) mix(hash);
+        }
+        return bands;
+    }
+
+    /**
+     * 64비트 해시 혼합 (MurmurHash3 fmix64)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,58 @@
+package com.careercoach.careercoachapi.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.Map.entry;
+
+/**
+ * 기술 스킬 표기 정규화
+ * 공백/점/하이픈/밑줄을 없앤 형태로 비교하고, 같은 기술의 다른 이름은 대표 이름으로 통일
+ * (예: "Spring Boot", "SpringBoot", "spring-boot" → "springboot", "K8s" → "kubernetes", "Node.js" → "nodejs")
+ */
+public final class SkillSynonyms {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s._\\-]+");
+
+    // 구분자를 없앤 별칭 → 대표 이름 (대표 이름도 구분자 없는 형태)
+    // 여러 기술로 읽힐 수 있는 짧은 약어(tf: Terraform/TensorFlow, rn, ml, net 등)는 서로 다른 요청을 합칠 수 있어 넣지 않음
+    private static final Map<String, String> SYNONYMS = Map.ofEntries(
+            entry("springframework", "spring"),
+            entry("k8s", "kubernetes"),
+            entry("js", "javascript"),
+            entry("ecmascript", "javascript"),
+            entry("ts", "typescript"),
+            entry("reactjs", "react"),
+            entry("vuejs", "vue"),
+            entry("node", "nodejs"),
+            entry("golang", "go"),
+            entry("postgres", "postgresql"),
+            entry("psql", "postgresql"),
+            entry("mongo", "mongodb"),
+            entry("amazonwebservices", "aws"),
+            entry("googlecloud", "gcp"),
+            entry("googlecloudplatform", "gcp"),
+            entry("msazure", "azure"),
+            entry("microsoftazure", "azure"),
+            entry("csharp", "c#"),
+            entry("cpp", "c++"),
+            entry("py", "python"),
+            entry("python3", "python"),
+            entry("restful", "rest"),
+            entry("restapi", "rest"),
+            entry("restfulapi", "rest"),
+            entry("gha", "githubactions")
+    );
+
+    private SkillSynonyms() {
+    }
+
+    /**
+     * 스킬 이름을 대표 표기로 변환 (빈 문자열은 그대로)
+     */
+    public static String canonicalize(String skill) {
+        String compact = SEPARATORS.matcher(skill.toLowerCase(Locale.ROOT)).replaceAll("");
+        return SYNONYMS.getOrDefault(compact, compact);
+    }
+}
@@ -3,87 +3,207 @@ package com.careercoach.careercoachapi.service;
 
 import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
 import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
-import lombok.extern.slf4j.Slf4j;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 
+/**
+ * SSE 이벤트 생성 및 전송
+ * 이벤트는 ServerSentEvent로 만들어 SseEmitter 전송과 리액티브 스트림(Flux) 응답에서 함께 사용
+ * SseEmitter 전송은 세션을 거쳐 재연결 시 다시 보낼 수 있도록 기록됨
+ */
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class SseEventSender {
     
-    private static final long SSE_RECONNECT_TIME_MS = 1_000L;
+    private final SseSessionManager sessionManager;
     
-    public void sendConnected(SseEmitter emitter, String sessionId) {
-        sendEvent(emitter, "connected", Map.of(
+    private static final Duration SSE_RECONNECT_TIME = Duration.ofSeconds(1);
+    
+    public ServerSentEvent<Object> connectedEvent(String sessionId) {
+        return event("connected", Map.of(
             "sessionId", sessionId,
             "message", "스트리밍 연결이 설정되었습니다."
         ));
     }
     
-    public void sendProcessingStart(SseEmitter emitter) {
-        sendEvent(emitter, "processing_start", Map.of(
+    public void sendConnected(String sessionId) {
+        sendEvent(sessionId, connectedEvent(sessionId));
+    }
+    
+    public ServerSentEvent<Object> queuedEvent(int position) {
+        return event("queued", Map.of(
+            "message", "요청이 많아 대기 중입니다. 순서가 되면 자동으로 시작됩니다.",
+            "position", position
+        ));
+    }
+    
+    public void sendQueued(String sessionId, int position) {
+        sendEvent(sessionId, queuedEvent(position));
+    }
+    
+    public ServerSentEvent<Object> processingStartEvent() {
+        return event("processing_start", Map.of(
             "message", "면접 질문과 학습 경로를 동시에 생성중입니다...",
             "progress", 0
         ));
     }
     
-    public void sendInterviewStart(SseEmitter emitter) {
-        sendEvent(emitter, "interview_start", Map.of(
+    public void sendProcessingStart(String sessionId) {
+        sendEvent(sessionId, processingStartEvent());
+    }
+    
+    public ServerSentEvent<Object> interviewStartEvent() {
+        return event("interview_start", Map.of(
             "message", "면접 질문 생성 중...",
             "progress", 10
         ));
     }
     
-    public void sendInterviewComplete(SseEmitter emitter, InterviewQuestionsResponse data) {
-        sendEvent(emitter, "interview_complete", Map.of(
+    public void sendInterviewStart(String sessionId) {
+        sendEvent(sessionId, interviewStartEvent());
+    }
+    
+    public ServerSentEvent<Object> interviewDeltaEvent(String delta) {
+        return event("interview_delta", Map.of(
+            "delta", delta
+        ));
+    }
+    
+    public void sendInterviewDelta(String sessionId, String delta) {
+        sendEvent(sessionId, interviewDeltaEvent(delta));
+    }
+    
+    public ServerSentEvent<Object> questionReadyEvent(int index, String question) {
+        return event("question_ready", Map.of(
+            "index", index,
+            "question", question
+        ));
+    }
+    
+    public void sendQuestionReady(String sessionId, int index, String question) {
+        sendEvent(sessionId, questionReadyEvent(index, question));
+    }
+    
+    public ServerSentEvent<Object> interviewCompleteEvent(InterviewQuestionsResponse data) {
+        return event("interview_complete", Map.of(
             "data", data,
             "message", "면접 질문 생성 완료",
             "progress", 50
         ));
     }
     
-    public void sendLearningStart(SseEmitter emitter) {
-        sendEvent(emitter, "learning_start", Map.of(
+    public void sendInterviewComplete(String sessionId, InterviewQuestionsResponse data) {
+        sendEvent(sessionId, interviewCompleteEvent(data));
+    }
+    
+    public ServerSentEvent<Object> learningStartEvent() {
+        return event("learning_start", Map.of(
             "message", "학습 경로 생성 중...", 
             "progress", 10
         ));
     }
     
-    public void sendLearningComplete(SseEmitter emitter, LearningPathResponse data) {
-        sendEvent(emitter, "learning_complete", Map.of(
+    public void sendLearningStart(String sessionId) {
+        sendEvent(sessionId, learningStartEvent());
+    }
+    
+    public ServerSentEvent<Object> learningDeltaEvent(String delta) {
+        return event("learning_delta", Map.of(
+            "delta", delta
+        ));
+    }
+    
+    public void sendLearningDelta(String sessionId, String delta) {
+        sendEvent(sessionId, learningDeltaEvent(delta));
+    }
+    
+    public ServerSentEvent<Object> recommendationReadyEvent(int index, LearningRecommendation recommendation) {
+        return event("recommendation_ready", Map.of(
+            "index", index,
+            "recommendation", recommendation
+        ));
+    }
+    
+    public void sendRecommendationReady(String sessionId, int index, LearningRecommendation recommendation) {
+        sendEvent(sessionId, recommendationReadyEvent(index, recommendation));
+    }
+    
+    public ServerSentEvent<Object> learningCompleteEvent(LearningPathResponse data) {
+        return event("learning_complete", Map.of(
             "data", data,
             "message", "학습 경로 생성 완료",
             "progress", 50
         ));
     }
     
-    public void sendCompleted(SseEmitter emitter) {
-        sendEvent(emitter, "completed", Map.of(
+    public void sendLearningComplete(String sessionId, LearningPathResponse data) {
+        sendEvent(sessionId, learningCompleteEvent(data));
+    }
+    
+    public ServerSentEvent<Object> completedEvent() {
+        return event("completed", Map.of(
             "message", "모든 작업이 완료되었습니다",
             "progress", 100
         ));
     }
     
-    public void sendError(SseEmitter emitter, String message, String error) {
-        sendEvent(emitter, "error", Map.of(
+    public void sendCompleted(String sessionId) {
+        sendEvent(sessionId, completedEvent());
+    }
+    
+    public ServerSentEvent<Object> errorEvent(String message, String error) {
+        return event("error", Map.of(
             "message", message,
             "error", error != null ? error : "알 수 없는 오류"
         ));
     }
     
-    private void sendEvent(SseEmitter emitter, String eventName, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                .name(eventName)
-                .data(data)
-                .id(String.valueOf(System.currentTimeMillis()))
-                .reconnectTime(SSE_RECONNECT_TIME_MS));
-        } catch (IOException e) {
-            log.error("SSE 이벤트 전송 실패: {}", eventName, e);
-            throw new RuntimeException("이벤트 전송 실패: " + eventName, e);
-        }
+    public void sendError(String sessionId, String message, String error) {
+        sendEvent(sessionId, errorEvent(message, error));
+    }
+    
+    /**
+     * 이벤트 생성 - id는 전송 시점에 세션(또는 스트림)에서 순서대로 부여
+     */
+    private ServerSentEvent<Object> event(String eventName, Object data) {
+        return ServerSentEvent.builder(data)
+            .event(eventName)
+            .retry(SSE_RECONNECT_TIME)
+            .build();
+    }
+    
+    /**
+     * 세션으로 이벤트 전송 (세션이 재연결용으로 기록한 뒤 연결된 클라이언트에 전송)
+     */
+    private void sendEvent(String sessionId, ServerSentEvent<Object> event) {
+        sessionManager.send(sessionId, event);
+    }
+    
+    /**
+     * 이벤트에 id 부여 (Last-Event-ID로 재연결할 때 이어받을 위치)
+     */
+    public static ServerSentEvent<Object> withId(ServerSentEvent<Object> event, long id) {
+        return ServerSentEvent.builder(event.data())
+            .event(event.event())
+            .id(String.valueOf(id))
+            .retry(event.retry())
+            .build();
+    }
+    
+    /**
+     * ServerSentEvent를 SseEmitter 전송 형식으로 변환
+     */
+    static SseEmitter.SseEventBuilder toEmitterEvent(ServerSentEvent<Object> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+            .name(event.event())
+            .data(event.data())
+            .reconnectTime(SSE_RECONNECT_TIME.toMillis());
+        return event.id() != null ? builder.id(event.id()) : builder;
     }
 }
\ No newline at end of file
@@ -2,21 +2,87 @@
 package com.careercoach.careercoachapi.service;
 
 import com.careercoach.careercoachapi.dto.SessionInfo;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.careercoach.careercoachapi.exception.SessionResumeException;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * SSE 세션 관리
+ * 세션으로 보낸 이벤트에 세션 안에서 증가하는 id를 붙여 최근 이벤트를 재전송 버퍼에 보관하고,
+ * 클라이언트 연결이 끊겨도 재연결 대기 시간(resumeGrace) 동안 생성 작업을 유지
+ * 클라이언트가 Last-Event-ID로 재연결하면 놓친 이벤트만 다시 보낸 뒤 이어서 실시간으로 전송
+ * 세션 만료는 타이머 휠로 처리 - 활동이 있을 때마다 만료 시각을 연장하고, 연결이 끊기면 재연결 대기 시간 뒤로 앞당김
+ * 세션 메타데이터/상태는 SessionStore에도 기록하여 다른 노드에서 조회하거나 재연결을 소유 노드로 중계할 수 있도록 함
+ */
 @Slf4j
 @Service
 public class SseSessionManager {
 
-    // 모든 세션 데이터를 메모리에서 관리
+    // 이 노드가 가진 세션 데이터 (SSE 연결, 재전송 버퍼)
     private final ConcurrentHashMap<String, SseSessionData> sessions = new ConcurrentHashMap<>();
 
+    private final SessionStore sessionStore;  // 노드 간 공유되는 세션 메타데이터/상태
+    private final String nodeId;              // 이 노드의 ID
+    private final String nodeUrl;             // 다른 노드가 재연결을 중계할 이 노드의 주소
+
+    @Value("${career-coach.sse.replay-buffer-size:2048}")
+    private int replayBufferSize = 2048;            // 세션별 재전송 버퍼 크기 (이벤트 수)
+
+    @Value("${career-coach.sse.resume-grace:30s}")
+    private Duration resumeGrace = Duration.ofSeconds(30);  // 연결이 끊긴 뒤 재연결을 기다리는 시간
+
+    @Value("${career-coach.sse.session-ttl:5m}")
+    private Duration sessionTtl = Duration.ofMinutes(5);    // 활동(이벤트 전송/하트비트)이 없을 때 세션 유지 시간
+
+    // 결과 소유 노드 기록 키
+    private static final String RESULT_BY_SESSION = "session:";
+    private static final String RESULT_BY_REQUEST = "request:";
+
+    // 세션 만료 타이머 휠 (1초 tick, 512 슬롯 = 약 8.5분 한 바퀴)
+    private static final Duration EXPIRY_TICK = Duration.ofSeconds(1);
+    private static final int EXPIRY_WHEEL_SIZE = 512;
+    private final SessionExpiryWheel<SseSessionData> expiryWheel =
+            new SessionExpiryWheel<>(EXPIRY_TICK, EXPIRY_WHEEL_SIZE, this::expireSession);
+
+    // 계측 정보
+    private final AtomicLong resumedCount = new AtomicLong();
+    private final AtomicLong replayedEventCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+
+    public SseSessionManager() {
+        this(new InMemorySessionStore(), "local", "http://localhost:8080");
+    }
+
+    @Autowired
+    public SseSessionManager(SessionStore sessionStore,
+                             @Value("${career-coach.node.id:local}") String nodeId,
+                             @Value("${career-coach.node.url:http://localhost:8080}") String nodeUrl) {
+        this.sessionStore = sessionStore;
+        this.nodeId = nodeId;
+        this.nodeUrl = nodeUrl;
+    }
+
     /**
      * 세션 데이터 클래스
      */
@@ -24,14 +90,28 @@ public class SseSessionManager {
     public static class SseSessionData {
         // Getters
         private final String sessionId;
-        private final SseEmitter emitter;
+        private volatile SseEmitter emitter;  // 현재 연결된 클라이언트 (연결이 끊긴 동안 null)
         private final long createdAt;
         private volatile String status;
         private volatile long updatedAt;
-
-        public SseSessionData(String sessionId, SseEmitter emitter) {
+        private volatile TokenUsage tokenUsage = TokenUsage.empty();
+        @Getter(AccessLevel.NONE)
+        private final List<Disposable> generations = new CopyOnWriteArrayList<>();  // 진행 중인 생성 작업
+        @Getter(AccessLevel.NONE)
+        private volatile boolean closed;
+        @Getter(AccessLevel.NONE)
+        private final Deque<ServerSentEvent<Object>> replayBuffer = new ArrayDeque<>();  // this로 보호
+        @Getter(AccessLevel.NONE)
+        private final int replayBufferSize;
+        @Getter(AccessLevel.NONE)
+        private volatile SessionExpiryWheel.Timeout<SseSessionData> expiry;  // 만료 타이머
+        private long lastEventId;              // 마지막으로 부여한 이벤트 id (this로 보호)
+        private boolean finished;              // 마지막 이벤트 전송 후 스트림 종료 여부 (this로 보호)
+
+        public SseSessionData(String sessionId, SseEmitter emitter, int replayBufferSize) {
             this.sessionId = sessionId;
             this.emitter = emitter;
+            this.replayBufferSize = replayBufferSize;
             this.createdAt = System.currentTimeMillis();
             this.status = "CONNECTED";
             this.updatedAt = this.createdAt;
@@ -43,9 +123,108 @@ public class SseSessionManager {
             this.updatedAt = System.currentTimeMillis();
         }
 
-        // 세션 만료 확인 (5분)
+        // 토큰 사용량 누적
+        public synchronized void addTokenUsage(TokenUsage usage) {
+            this.tokenUsage = this.tokenUsage.plus(usage);
+        }
+
+        // 생성 작업 등록 - 이미 종료된 세션이면 즉시 취소
+        public void addGeneration(Disposable generation) {
+            generations.add(generation);
+            if (closed) {
+                cancelGenerations();
+            }
+        }
+
+        // 진행 중인 생성 작업 취소 (완료된 작업은 영향 없음)
+        public void cancelGenerations() {
+            closed = true;
+            generations.forEach(Disposable::dispose);
+            generations.clear();
+        }
+
+        // 세션 만료 확인 (만료 시각이 지났으면 타이머 휠이 정리하기 전이라도 만료로 판단)
         public boolean isExpired() {
-            return System.currentTimeMillis() - createdAt > 300_000L;
+            SessionExpiryWheel.Timeout<SseSessionData> timeout = expiry;
+            return timeout != null && timeout.isExpired(System.nanoTime());
+        }
+
+        // 클라이언트 연결이 끊겨 재연결을 기다리는 중인지
+        public boolean isDetached() {
+            return emitter == null;
+        }
+
+        /**
+         * 이벤트에 다음 id를 붙여 재전송 버퍼에 보관하고 연결된 클라이언트에 전송
+         * 전송에 실패하면 연결을 분리하고 실패한 emitter를 반환 (이벤트는 버퍼에 남아 재연결 시 전송됨)
+         */
+        private synchronized SseEmitter append(ServerSentEvent<Object> event) {
+            ServerSentEvent<Object> stamped = SseEventSender.withId(event, ++lastEventId);
+            replayBuffer.addLast(stamped);
+            if (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.pollFirst();
+            }
+            SseEmitter current = emitter;
+            if (current == null) {
+                return null;
+            }
+            try {
+                current.send(SseEventSender.toEmitterEvent(stamped));
+                return null;
+            } catch (IOException | IllegalStateException e) {
+                emitter = null;
+                return current;
+            }
+        }
+
+        /**
+         * lastEventId 이후의 이벤트를 새 연결로 다시 보내고 새 연결을 현재 연결로 교체
+         *
+         * @return 재전송한 이벤트 수
+         */
+        private synchronized int reattach(SseEmitter newEmitter, long lastSeenId) throws IOException {
+            long oldestId = replayBuffer.isEmpty() ? lastEventId + 1 : Long.parseLong(replayBuffer.peekFirst().id());
+            if (lastSeenId > lastEventId) {
+                throw new SessionResumeException("알 수 없는 Last-Event-ID입니다: " + lastSeenId, 410);
+            }
+            if (lastSeenId < oldestId - 1) {
+                throw new SessionResumeException("놓친 이벤트가 많아 이어받을 수 없습니다. 새로 요청해주세요.", 410);
+            }
+            int replayed = 0;
+            for (ServerSentEvent<Object> event : replayBuffer) {
+                if (Long.parseLong(event.id()) > lastSeenId) {
+                    newEmitter.send(SseEventSender.toEmitterEvent(event));
+                    replayed++;
+                }
+            }
+            emitter = newEmitter;
+            if (finished) {
+                newEmitter.complete();
+            }
+            return replayed;
+        }
+
+        /**
+         * 연결 분리 - 이미 다른 연결로 교체된 emitter이면 무시
+         */
+        private synchronized boolean detach(SseEmitter closedEmitter) {
+            if (emitter != closedEmitter) {
+                return false;
+            }
+            emitter = null;
+            return true;
+        }
+
+        /**
+         * 스트림 종료 표시 후 현재 연결 반환 (이후 재연결하면 남은 이벤트만 받고 바로 종료)
+         */
+        private synchronized SseEmitter finish() {
+            finished = true;
+            return emitter;
+        }
+
+        private synchronized List<ServerSentEvent<Object>> replayBufferSnapshot() {
+            return new ArrayList<>(replayBuffer);
         }
     }
 
@@ -53,13 +232,19 @@ public class SseSessionManager {
      * 세션 생성
      */
     public void createSession(String sessionId, SseEmitter emitter) {
-        try {
-            // 세션 데이터 생성
-            SseSessionData sessionData = new SseSessionData(sessionId, emitter);
-            sessions.put(sessionId, sessionData);
+        // 세션 데이터 생성 - 같은 ID의 세션이 있으면 덮어쓰지 않고 거절
+        SseSessionData sessionData = new SseSessionData(sessionId, emitter, replayBufferSize);
+        if (sessions.putIfAbsent(sessionId, sessionData) != null) {
+            duplicateCount.incrementAndGet();
+            log.error("중복된 세션 ID로 세션 생성 거절 - sessionId: {}", sessionId);
+            throw new RuntimeException("이미 존재하는 세션 ID입니다: " + sessionId);
+        }
 
-            // Emitter 이벤트 핸들러 설정
+        try {
+            // 만료 타이머 등록 및 Emitter 이벤트 핸들러 설정
+            sessionData.expiry = expiryWheel.schedule(sessionData, sessionTtl);
             setupEmitterHandlers(sessionId, emitter);
+            publish(sessionData);
 
             log.info("SSE 세션 생성 완료 - sessionId: {}", sessionId);
 
@@ -71,7 +256,87 @@ public class SseSessionManager {
     }
 
     /**
-     * 세션에서 emitter 조회
+     * 세션으로 이벤트 전송
+     * 이벤트는 재전송 버퍼에 기록되므로 클라이언트 연결이 끊긴 동안에도 생성 작업은 계속 진행
+     */
+    public void send(String sessionId, ServerSentEvent<Object> event) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData == null) {
+            throw new RuntimeException("이벤트 전송 실패: " + event.event() + " (종료된 세션)");
+        }
+        SseEmitter failed = sessionData.append(event);
+        if (failed != null) {
+            log.info("SSE 전송 실패로 연결 분리 - sessionId: {}, 이벤트: {}", sessionId, event.event());
+            scheduleDetachedCleanup(sessionData);
+        } else if (!sessionData.isDetached()) {
+            extendExpiry(sessionData, sessionTtl);  // 연결된 세션의 활동으로 만료 연장
+        }
+    }
+
+    /**
+     * 마지막 이벤트를 보낸 뒤 스트림 정상 종료
+     * 세션은 재연결 대기 시간 동안 남겨 두어 마지막 이벤트를 놓친 클라이언트가 이어받을 수 있도록 함
+     */
+    public void complete(String sessionId) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData == null) {
+            return;
+        }
+        sessionData.cancelGenerations();  // 생성은 끝났으므로 입장권 등 세션 자원 즉시 반환
+        SseEmitter emitter = sessionData.finish();
+        if (emitter != null) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 오류로 스트림 종료
+     */
+    public void completeWithError(String sessionId, Throwable error) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData == null) {
+            return;
+        }
+        sessionData.cancelGenerations();  // 생성은 끝났으므로 입장권 등 세션 자원 즉시 반환
+        SseEmitter emitter = sessionData.finish();
+        if (emitter != null) {
+            emitter.completeWithError(error);
+        }
+    }
+
+    /**
+     * 끊긴 세션에 새 연결로 재연결
+     * lastEventId 이후의 이벤트만 다시 보낸 뒤 새 연결로 실시간 전송을 이어감 (OpenAI 재호출 없음)
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (없으면 처음부터 재전송)
+     * @throws SessionResumeException 세션이 없거나 만료된 경우(404), 놓친 이벤트가 버퍼에서 밀려난 경우(410)
+     */
+    public void resume(String sessionId, Long lastEventId, SseEmitter emitter) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData == null || sessionData.isExpired()) {
+            throw new SessionResumeException("재연결할 세션을 찾을 수 없습니다: " + sessionId, 404);
+        }
+
+        SseEmitter previous = sessionData.getEmitter();
+        int replayed;
+        try {
+            replayed = sessionData.reattach(emitter, lastEventId != null ? lastEventId : 0L);
+        } catch (IOException e) {
+            throw new RuntimeException("재연결 이벤트 전송에 실패했습니다.", e);
+        }
+        setupEmitterHandlers(sessionId, emitter);
+        extendExpiry(sessionData, sessionTtl);
+        if (previous != null && previous != emitter) {
+            previous.complete();  // 서버가 아직 끊김을 감지하지 못한 이전 연결 정리
+        }
+
+        resumedCount.incrementAndGet();
+        replayedEventCount.addAndGet(replayed);
+        log.info("SSE 세션 재연결 - sessionId: {}, Last-Event-ID: {}, 재전송: {}개", sessionId, lastEventId, replayed);
+    }
+
+    /**
+     * 세션에서 emitter 조회 (연결이 끊긴 동안은 null)
      */
     public SseEmitter getEmitter(String sessionId) {
         SseSessionData sessionData = sessions.get(sessionId);
@@ -87,6 +352,16 @@ public class SseSessionManager {
         return sessionData.getEmitter();
     }
 
+    /**
+     * 하트비트 등 활동으로 세션 만료 시각 연장
+     *
+     * @return 세션이 없거나 이미 만료되었으면 false
+     */
+    public boolean touch(String sessionId) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        return sessionData != null && !sessionData.isDetached() && extendExpiry(sessionData, sessionTtl);
+    }
+
     /**
      * 세션 유효성 확인
      */
@@ -95,6 +370,30 @@ public class SseSessionManager {
         return sessionData != null && !sessionData.isExpired();
     }
 
+    /**
+     * 세션에 진행 중인 생성 작업 등록
+     * 클라이언트 연결이 끊긴 뒤 재연결 대기 시간 안에 돌아오지 않거나 세션이 만료되면 등록된 작업을 취소해 업스트림 호출을 중단
+     */
+    public void registerGeneration(String sessionId, Disposable generation) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData == null) {
+            log.info("종료된 세션의 생성 작업 취소 - sessionId: {}", sessionId);
+            generation.dispose();
+            return;
+        }
+        sessionData.addGeneration(generation);
+    }
+
+    /**
+     * 세션에 OpenAI 토큰 사용량 누적
+     */
+    public void addTokenUsage(String sessionId, TokenUsage usage) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData != null) {
+            sessionData.addTokenUsage(usage);
+        }
+    }
+
     /**
      * 세션 상태 업데이트
      */
@@ -103,6 +402,7 @@ public class SseSessionManager {
             SseSessionData sessionData = sessions.get(sessionId);
             if (sessionData != null) {
                 sessionData.updateStatus(status);
+                publish(sessionData);
                 log.info("세션 상태 업데이트 - sessionId: {}, status: {}", sessionId, status);
             }
         } catch (Exception e) {
@@ -118,14 +418,12 @@ public class SseSessionManager {
             SseSessionData sessionData = sessions.remove(sessionId);
 
             if (sessionData != null) {
-                try {
-                    SseEmitter emitter = sessionData.getEmitter();
-                    if (emitter != null) {
-                        emitter.complete();
-                    }
-                } catch (Exception e) {
-                    log.warn("Emitter 정리 중 오류 - sessionId: {}", sessionId, e);
+                SessionExpiryWheel.Timeout<SseSessionData> expiry = sessionData.expiry;
+                if (expiry != null) {
+                    expiryWheel.cancel(expiry);
                 }
+                sessionStore.remove(sessionId);
+                close(sessionData);
             }
 
             log.info("세션 정리 완료 - sessionId: {}", sessionId);
@@ -136,23 +434,76 @@ public class SseSessionManager {
     }
 
     /**
-     * 세션 정보 조회
+     * 세션 정보 조회 - 이 노드에 없으면 다른 노드가 세션 저장소에 기록한 정보 조회
      */
     public SessionInfo getSessionInfo(String sessionId) {
         SseSessionData sessionData = sessions.get(sessionId);
 
         if (sessionData == null) {
-            return null;
+            return sessionStore.find(sessionId).map(SessionRecord::info).orElse(null);
         }
 
+        return toSessionInfo(sessionData);
+    }
+
+    /**
+     * 다른 노드가 가진 세션이면 그 노드의 정보 (재연결 중계용)
+     */
+    public Optional<SessionRecord> findRemoteOwner(String sessionId) {
+        if (sessions.containsKey(sessionId)) {
+            return Optional.empty();
+        }
+        return sessionStore.find(sessionId)
+                .filter(record -> !nodeId.equals(record.ownerNode()));
+    }
+
+    /**
+     * 이 노드가 생성 결과를 저장했음을 기록 (요청 해시는 가장 최근에 저장한 노드로 덮어씀)
+     */
+    public void publishResultOwner(String sessionId, String requestHash) {
+        ResultOwner owner = new ResultOwner(nodeId, nodeUrl);
+        sessionStore.saveResultOwner(RESULT_BY_SESSION + sessionId, owner);
+        sessionStore.saveResultOwner(RESULT_BY_REQUEST + requestHash, owner);
+    }
+
+    /**
+     * 세션의 생성 결과를 다른 노드가 저장했으면 그 노드의 정보 (결과 조회 중계용)
+     */
+    public Optional<ResultOwner> findRemoteResultOwnerBySession(String sessionId) {
+        return sessionStore.findResultOwner(RESULT_BY_SESSION + sessionId)
+                .filter(owner -> !nodeId.equals(owner.ownerNode()));
+    }
+
+    /**
+     * 요청 해시의 가장 최근 생성 결과를 다른 노드가 저장했으면 그 노드의 정보 (결과 조회 중계용)
+     */
+    public Optional<ResultOwner> findRemoteResultOwnerByRequest(String requestHash) {
+        return sessionStore.findResultOwner(RESULT_BY_REQUEST + requestHash)
+                .filter(owner -> !nodeId.equals(owner.ownerNode()));
+    }
+
+    private void publish(SseSessionData sessionData) {
+        sessionStore.save(new SessionRecord(toSessionInfo(sessionData), nodeId, nodeUrl));
+    }
+
+    private SessionInfo toSessionInfo(SseSessionData sessionData) {
         return SessionInfo.builder()
                 .sessionId(sessionData.getSessionId())
                 .status(sessionData.getStatus())
                 .createdAt(sessionData.getCreatedAt())
                 .updatedAt(sessionData.getUpdatedAt())
+                .tokenUsage(sessionData.getTokenUsage())
                 .build();
     }
 
+    /**
+     * 세션의 재전송 버퍼에 남아 있는 이벤트 (모니터링/테스트용)
+     */
+    public List<ServerSentEvent<Object>> getBufferedEvents(String sessionId) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        return sessionData != null ? sessionData.replayBufferSnapshot() : List.of();
+    }
+
     /**
      * 활성 세션 수 조회
      */
@@ -161,57 +512,139 @@ public class SseSessionManager {
     }
 
     /**
-     * 만료된 세션 자동 정리 (1분마다 실행)
+     * 상태별 세션 수 조회
      */
-    @Scheduled(fixedRate = 60000)
-    public void cleanupExpiredSessions() {
-        long beforeCount = sessions.size();
+    public long getSessionCount(String status) {
+        return sessions.values().stream()
+                .filter(sessionData -> status.equals(sessionData.getStatus()))
+                .count();
+    }
 
-        sessions.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired()) {
-                log.debug("만료된 세션 정리 - sessionId: {}", entry.getKey());
-                try {
-                    SseEmitter emitter = entry.getValue().getEmitter();
-                    if (emitter != null) {
-                        emitter.complete();
-                    }
-                } catch (Exception e) {
-                    log.warn("만료 세션 정리 중 오류 - sessionId: {}", entry.getKey(), e);
-                }
-                return true;
-            }
-            return false;
-        });
+    /**
+     * 연결이 끊겨 재연결을 기다리는 세션 수
+     */
+    public long getDetachedSessionCount() {
+        return sessions.values().stream()
+                .filter(SseSessionData::isDetached)
+                .count();
+    }
+
+    public long getResumedCount() {
+        return resumedCount.get();
+    }
+
+    public long getReplayedEventCount() {
+        return replayedEventCount.get();
+    }
+
+    /**
+     * 중복된 세션 ID로 생성이 거절된 횟수 (0이 아니면 ID 생성 방식 점검 필요)
+     */
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    /**
+     * 만료 타이머에 등록된 세션 수
+     */
+    public int getExpiryPendingCount() {
+        return expiryWheel.getPendingCount();
+    }
 
-        long afterCount = sessions.size();
-        if (beforeCount != afterCount) {
-            log.info("세션 정리 완료 - 정리 전: {}, 정리 후: {}", beforeCount, afterCount);
+    /**
+     * 타이머 휠이 만료 처리한 세션 수
+     */
+    public long getExpiredCount() {
+        return expiryWheel.getExpiredCount();
+    }
+
+    /**
+     * tick마다 만료 처리된 세션 수를 전달받을 listener (지표 기록용)
+     */
+    public void setExpiryTickListener(IntConsumer listener) {
+        expiryWheel.setTickListener(listener);
+    }
+
+    /**
+     * 만료 시각이 된 세션 정리 (타이머 휠 tick 스레드에서 호출)
+     */
+    private void expireSession(SseSessionData sessionData) {
+        if (!sessions.remove(sessionData.getSessionId(), sessionData)) {
+            return;
+        }
+        sessionStore.remove(sessionData.getSessionId());
+        if (sessionData.isDetached()) {
+            log.info("재연결 대기 시간 초과로 세션 정리 - sessionId: {}", sessionData.getSessionId());
+        } else {
+            log.info("활동이 없어 만료된 세션 정리 - sessionId: {}", sessionData.getSessionId());
+        }
+        close(sessionData);
+    }
+
+    /**
+     * 애플리케이션 종료 시 세션 만료 tick 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.close();
+    }
+
+    /**
+     * 세션 자원 정리 - 진행 중인 업스트림 호출 취소 및 연결 종료
+     */
+    private void close(SseSessionData sessionData) {
+        sessionData.cancelGenerations();
+        try {
+            SseEmitter emitter = sessionData.getEmitter();
+            if (emitter != null) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            log.warn("Emitter 정리 중 오류 - sessionId: {}", sessionData.getSessionId(), e);
         }
     }
 
     /**
      * Emitter 이벤트 핸들러 설정
+     * 연결이 끝나면 세션에서 분리만 하고, 재연결 대기 시간 안에 다시 연결되지 않으면 세션 제거
      */
     private void setupEmitterHandlers(String sessionId, SseEmitter emitter) {
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료 - sessionId: {}", sessionId);
-            updateSessionStatus(sessionId, "COMPLETED");
-            removeSession(sessionId);
+            detach(sessionId, emitter);
         });
 
         emitter.onTimeout(() -> {
             log.warn("SSE 연결 타임아웃 - sessionId: {}", sessionId);
-            updateSessionStatus(sessionId, "TIMEOUT");
-            removeSession(sessionId);
+            detach(sessionId, emitter);
         });
 
         emitter.onError((throwable) -> {
-            log.error("SSE 연결 오류 - sessionId: {}", sessionId, throwable);
-            updateSessionStatus(sessionId, "ERROR");
-            removeSession(sessionId);
+            log.warn("SSE 연결 오류 - sessionId: {}, 원인: {}", sessionId, throwable.toString());
+            detach(sessionId, emitter);
         });
     }
 
+    private void detach(String sessionId, SseEmitter emitter) {
+        SseSessionData sessionData = sessions.get(sessionId);
+        if (sessionData != null && sessionData.detach(emitter)) {
+            scheduleDetachedCleanup(sessionData);
+        }
+    }
+
+    /**
+     * 재연결 대기 시간이 지나도 연결이 없으면 세션 제거 (진행 중인 생성 작업도 취소)
+     * 만료 시각을 재연결 대기 시간 뒤로 앞당기며, 그 전에 재연결하면 다시 연장됨
+     */
+    private void scheduleDetachedCleanup(SseSessionData sessionData) {
+        extendExpiry(sessionData, resumeGrace);
+    }
+
+    private boolean extendExpiry(SseSessionData sessionData, Duration ttl) {
+        SessionExpiryWheel.Timeout<SseSessionData> expiry = sessionData.expiry;
+        return expiry != null && expiryWheel.reschedule(expiry, ttl);
+    }
+
     /**
      * 전체 세션 상태 조회 (모니터링용)
      */
@@ -224,4 +657,4 @@ public class SseSessionManager {
                     sessionData.getCreatedAt());
         });
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,17 @@
 package com.careercoach.careercoachapi.service;
 
+import com.careercoach.careercoachapi.dto.SessionInfo;
 import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
 import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
 import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -23,34 +28,58 @@ public class StreamingOrchestrator {
     private final CareerCoachService careerCoachService;  // 커리어 코칭 핵심 서비스
     private final SseEventSender eventSender;            // SSE 이벤트 발신자
     private final SseSessionManager sessionManager;      // SSE 세션 관리자
+    private final GenerationExecutor generationExecutor; // 생성 작업 전용 실행기
+    private final CoachingMetrics coachingMetrics;       // 파이프라인 지표 기록
+    private final CoachingResultStore resultStore;       // 생성 결과 영구 저장 (write-behind)
+
+    @Value("${career-coach.generation.mode:PARALLEL}")
+    private GenerationMode generationMode;               // 생성 방식 (병렬 2회 호출 / 통합 1회 호출)
     
     /**
      * 커리어 코칭 프로세스를 실행하고 실시간으로 결과를 스트리밍
-     * 면접 질문과 학습 경로를 병렬로 처리
+     * PARALLEL 모드는 면접 질문과 학습 경로를 병렬로, COMBINED 모드는 한 번의 호출로 처리
      */
-    public void processCareerCoaching(SseEmitter emitter, String sessionId, ResumeInfoRequest request) {
+    public void processCareerCoaching(String sessionId, ResumeInfoRequest request) {
         // 세션 상태를 처리 중으로 업데이트
         sessionManager.updateSessionStatus(sessionId, "PROCESSING");
+        CoachingMetrics.SessionTimer sessionTimer = coachingMetrics.startSession("stream");
         
         try {
             // 클라이언트에 처리 시작 알림
-            eventSender.sendProcessingStart(emitter);
-            
-            // 면접 질문과 학습 경로 생성을 병렬로 실행
-            CompletableFuture<InterviewQuestionsResponse> interviewFuture = 
-                processInterviewQuestions(emitter, sessionId, request);
-                
-            CompletableFuture<LearningPathResponse> learningFuture = 
-                processLearningPath(emitter, sessionId, request);
+            eventSender.sendProcessingStart(sessionId);
+
+            CompletableFuture<ComprehensiveCareerResponse> generation;
+            if (generationMode == GenerationMode.COMBINED) {
+                // 면접 질문과 학습 경로를 한 번의 호출로 생성
+                generation = processComprehensive(sessionId, request, sessionTimer);
+            } else {
+                // 면접 질문과 학습 경로 생성을 병렬로 실행
+                CompletableFuture<InterviewQuestionsResponse> interviewFuture = 
+                    processInterviewQuestions(sessionId, request, sessionTimer);
+                    
+                CompletableFuture<LearningPathResponse> learningFuture = 
+                    processLearningPath(sessionId, request, sessionTimer);
+
+                generation = CompletableFuture.allOf(interviewFuture, learningFuture)
+                    .thenApply(ignored -> ComprehensiveCareerResponse.builder()
+                        .interviewQuestions(interviewFuture.join())
+                        .learningPath(learningFuture.join())
+                        .build());
+            }
             
             // 모든 비동기 작업이 완료되면 처리
-            CompletableFuture.allOf(interviewFuture, learningFuture)
-                .thenRun(() -> handleCompletion(emitter, sessionId))
-                .exceptionally(throwable -> handleError(emitter, sessionId, throwable));
+            generation
+                .thenAccept(result -> {
+                    log.info("생성 소요 시간 - sessionId: {}, mode: {}, {}ms",
+                            sessionId, generationMode, sessionTimer.elapsedMillis());
+                    resultStore.submit(sessionId, request, result);  // 대기열에 넣기만 하므로 스트림 지연 없음
+                    handleCompletion(sessionId, sessionTimer);
+                })
+                .exceptionally(throwable -> handleError(sessionId, sessionTimer, throwable));
                 
         } catch (Exception e) {
             log.error("스트리밍 처리 실패 - sessionId: {}", sessionId, e);
-            handleError(emitter, sessionId, e);
+            handleError(sessionId, sessionTimer, e);
         }
     }
     
@@ -58,18 +87,20 @@ public class StreamingOrchestrator {
      * 면접 질문 생성을 비동기적으로 처리
      */
     private CompletableFuture<InterviewQuestionsResponse> processInterviewQuestions(
-            SseEmitter emitter, String sessionId, ResumeInfoRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+            String sessionId, ResumeInfoRequest request,
+            CoachingMetrics.SessionTimer sessionTimer) {
+        return generationExecutor.supplyAsync(() -> {
             try {
                 // 면접 질문 생성 시작 알림
-                eventSender.sendInterviewStart(emitter);
+                eventSender.sendInterviewStart(sessionId);
                 
-                // 면접 질문 생성
-                InterviewQuestionsResponse result = 
-                    careerCoachService.generateInterviewQuestions(request);
+                // 면접 질문 생성 (스트리밍 모드에서는 토큰 조각과 완성된 질문을 즉시 전달)
+                InterviewQuestionsResponse result = awaitGeneration(sessionId,
+                    careerCoachService.generateInterviewQuestionsReactive(request, interviewListener(sessionId, sessionTimer)));
                 
                 // 결과 전송 및 로깅
-                eventSender.sendInterviewComplete(emitter, result);
+                sessionTimer.markFirstEvent();  // 캐시 적중 시에는 완료 이벤트가 첫 결과 이벤트
+                eventSender.sendInterviewComplete(sessionId, result);
                 log.info("면접 질문 완료 - sessionId: {}", sessionId);
                 
                 return result;
@@ -85,18 +116,20 @@ public class StreamingOrchestrator {
      * 학습 경로 생성을 비동기적으로 처리
      */
     private CompletableFuture<LearningPathResponse> processLearningPath(
-            SseEmitter emitter, String sessionId, ResumeInfoRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+            String sessionId, ResumeInfoRequest request,
+            CoachingMetrics.SessionTimer sessionTimer) {
+        return generationExecutor.supplyAsync(() -> {
             try {
                 // 학습 경로 생성 시작 알림
-                eventSender.sendLearningStart(emitter);
+                eventSender.sendLearningStart(sessionId);
                 
-                // 학습 경로 생성
-                LearningPathResponse result = 
-                    careerCoachService.generateLearningPath(request);
+                // 학습 경로 생성 (스트리밍 모드에서는 토큰 조각과 완성된 추천 항목을 즉시 전달)
+                LearningPathResponse result = awaitGeneration(sessionId,
+                    careerCoachService.generateLearningPathReactive(request, learningListener(sessionId, sessionTimer)));
                 
                 // 결과 전송 및 로깅
-                eventSender.sendLearningComplete(emitter, result);
+                sessionTimer.markFirstEvent();
+                eventSender.sendLearningComplete(sessionId, result);
                 log.info("학습 경로 완료 - sessionId: {}", sessionId);
                 
                 return result;
@@ -108,35 +141,148 @@ public class StreamingOrchestrator {
         });
     }
     
+    /**
+     * 면접 질문과 학습 경로를 한 번의 OpenAI 호출로 생성
+     * 클라이언트에는 PARALLEL 모드와 같은 이벤트(start → delta/ready → complete)를 전송
+     */
+    private CompletableFuture<ComprehensiveCareerResponse> processComprehensive(
+            String sessionId, ResumeInfoRequest request,
+            CoachingMetrics.SessionTimer sessionTimer) {
+        return generationExecutor.supplyAsync(() -> {
+            try {
+                // 두 작업의 생성 시작 알림
+                eventSender.sendInterviewStart(sessionId);
+                eventSender.sendLearningStart(sessionId);
+
+                ComprehensiveCareerResponse result = awaitGeneration(sessionId,
+                    careerCoachService.generateComprehensiveReactive(request,
+                        new ComprehensiveGenerationListener(interviewListener(sessionId, sessionTimer), learningListener(sessionId, sessionTimer))));
+
+                // 결과 전송 및 로깅
+                sessionTimer.markFirstEvent();
+                eventSender.sendInterviewComplete(sessionId, result.getInterviewQuestions());
+                eventSender.sendLearningComplete(sessionId, result.getLearningPath());
+                log.info("통합 생성 완료 - sessionId: {}", sessionId);
+
+                return result;
+
+            } catch (Exception e) {
+                log.error("통합 생성 실패 - sessionId: {}", sessionId, e);
+                throw new RuntimeException("면접 질문 및 학습 경로 생성 중 오류", e);
+            }
+        });
+    }
+
+    /**
+     * 생성 작업을 시작하고 결과를 기다림
+     * 세션에 취소 작업으로 등록하여 클라이언트 연결이 끊기면 대기를 중단하고 업스트림 호출도 취소
+     */
+    private <T> T awaitGeneration(String sessionId, Mono<T> generation) {
+        CompletableFuture<T> future = generation.toFuture();
+        sessionManager.registerGeneration(sessionId, () -> future.cancel(true));  // 구독 취소까지 전파
+        return future.join();
+    }
+
+    /**
+     * 면접 질문 진행 이벤트를 SSE로 전송하는 listener
+     */
+    private GenerationListener<String> interviewListener(String sessionId,
+                                                         CoachingMetrics.SessionTimer sessionTimer) {
+        return new GenerationListener<>() {
+            @Override
+            public void onDelta(String delta) {
+                sessionTimer.markFirstEvent();
+                eventSender.sendInterviewDelta(sessionId, delta);
+            }
+
+            @Override
+            public void onElement(int index, String question) {
+                eventSender.sendQuestionReady(sessionId, index, question);
+            }
+
+            @Override
+            public void onUsage(TokenUsage usage) {
+                sessionManager.addTokenUsage(sessionId, usage);
+            }
+        };
+    }
+
+    /**
+     * 학습 경로 진행 이벤트를 SSE로 전송하는 listener
+     */
+    private GenerationListener<LearningRecommendation> learningListener(String sessionId,
+                                                                        CoachingMetrics.SessionTimer sessionTimer) {
+        return new GenerationListener<>() {
+            @Override
+            public void onDelta(String delta) {
+                sessionTimer.markFirstEvent();
+                eventSender.sendLearningDelta(sessionId, delta);
+            }
+
+            @Override
+            public void onElement(int index, LearningRecommendation recommendation) {
+                eventSender.sendRecommendationReady(sessionId, index, recommendation);
+            }
+
+            @Override
+            public void onUsage(TokenUsage usage) {
+                sessionManager.addTokenUsage(sessionId, usage);
+            }
+        };
+    }
+    
     /**
      * 모든 작업이 성공적으로 완료되었을 때의 처리
      */
-    private void handleCompletion(SseEmitter emitter, String sessionId) {
+    private void handleCompletion(String sessionId, CoachingMetrics.SessionTimer sessionTimer) {
+        sessionTimer.stop("completed");
         try {
             // 완료 이벤트 전송 및 세션 상태 업데이트
-            eventSender.sendCompleted(emitter);
+            eventSender.sendCompleted(sessionId);
             sessionManager.updateSessionStatus(sessionId, "COMPLETED");
-            emitter.complete();
+            logTokenUsage(sessionId);
+            sessionManager.complete(sessionId);
             log.info("스트리밍 전체 완료 - sessionId: {}", sessionId);
         } catch (Exception e) {
             log.error("완료 처리 실패 - sessionId: {}", sessionId, e);
-            emitter.completeWithError(e);
+            sessionManager.completeWithError(sessionId, e);
         }
     }
     
+    /**
+     * 세션의 토큰 사용량 기록 (세션은 재연결 대기 시간이 지나면 제거되므로 완료 전에 기록)
+     */
+    private void logTokenUsage(String sessionId) {
+        SessionInfo sessionInfo = sessionManager.getSessionInfo(sessionId);
+        if (sessionInfo != null && !sessionInfo.getTokenUsage().isEmpty()) {
+            TokenUsage usage = sessionInfo.getTokenUsage();
+            log.info("세션 토큰 사용량 - sessionId: {}, 입력: {} (캐시: {}), 출력: {}, 추정치 포함: {}",
+                    sessionId, usage.getPromptTokens(), usage.getCachedTokens(),
+                    usage.getCompletionTokens(), usage.isEstimated());
+        }
+    }
+
     /**
      * 오류 발생 시의 처리
      */
-    private Void handleError(SseEmitter emitter, String sessionId, Throwable throwable) {
+    private Void handleError(String sessionId, CoachingMetrics.SessionTimer sessionTimer,
+                             Throwable throwable) {
+        if (!sessionManager.isSessionValid(sessionId)) {
+            sessionTimer.stop("cancelled");
+            // 클라이언트가 이미 떠난 세션 - 생성 작업은 취소되었으므로 전송하지 않음
+            log.info("클라이언트 연결 종료로 생성 작업 중단 - sessionId: {}", sessionId);
+            return null;
+        }
+        sessionTimer.stop("error");
         log.error("스트리밍 작업 실패 - sessionId: {}", sessionId, throwable);
         try {
             // 오류 메시지 전송 및 세션 상태 업데이트
-            eventSender.sendError(emitter, "작업 처리 중 오류가 발생했습니다", throwable.getMessage());
+            eventSender.sendError(sessionId, "작업 처리 중 오류가 발생했습니다", throwable.getMessage());
             sessionManager.updateSessionStatus(sessionId, "ERROR");
         } catch (Exception e) {
             log.error("오류 메시지 전송 실패 - sessionId: {}", sessionId, e);
         }
-        emitter.completeWithError(throwable);
+        sessionManager.completeWithError(sessionId, throwable);
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 스텁 제공자 - 네트워크 없이 작업별 고정 응답을 반환 (오프라인 개발/테스트용)
+ * 스트리밍은 응답을 chunkChars 글자씩 나누어 chunkInterval 간격으로 방출
+ */
+public class StubLlmProvider implements LlmProvider {
+
+    public static final String NAME = "stub";
+
+    private static final int CHUNK_CHARS = 16;
+    private static final double CHARS_PER_TOKEN_ESTIMATE = 2.0;
+
+    private final ObjectMapper objectMapper;
+    private final OpenAiResponseDecoder responseDecoder;
+    private final Duration chunkInterval;
+
+    public StubLlmProvider(ObjectMapper objectMapper, OpenAiResponseDecoder responseDecoder, Duration chunkInterval) {
+        this.objectMapper = objectMapper;
+        this.responseDecoder = responseDecoder;
+        this.chunkInterval = chunkInterval;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public <T> Mono<T> complete(ModelRoute route, String prompt, OpenAiResponseDecoder.ContentReader<T> contentReader,
+                                Consumer<TokenUsage> onUsage) {
+        return Mono.fromCallable(() -> {
+            String content = content(route.task());
+            onUsage.accept(usage(prompt, content));
+            return responseDecoder.decodeContent(content, contentReader);
+        });
+    }
+
+    @Override
+    public Flux<String> stream(ModelRoute route, String prompt, Consumer<TokenUsage> onUsage) {
+        return Flux.defer(() -> {
+            String content = content(route.task());
+            List<String> chunks = new ArrayList<>();
+            for (int start = 0; start < content.length(); start += CHUNK_CHARS) {
+                chunks.add(content.substring(start, Math.min(content.length(), start + CHUNK_CHARS)));
+            }
+            Flux<String> deltas = Flux.fromIterable(chunks);
+            if (!chunkInterval.isZero()) {
+                deltas = deltas.delayElements(chunkInterval);
+            }
+            return deltas.doOnComplete(() -> onUsage.accept(usage(prompt, content)));
+        });
+    }
+
+    /**
+     * 작업별 응답 content (실제 모델과 같은 JSON 형식)
+     */
+    private String content(String task) throws JsonProcessingException {
+        Map<String, Object> content = new LinkedHashMap<>();
+        switch (task) {
+            case "interview" -> content.put("questions", questions());
+            case "learning" -> {
+                content.put("recommendations", recommendations());
+                content.put("overallAssessment", "스텁 응답입니다. 기본기를 바탕으로 설계 경험을 넓혀 보세요.");
+            }
+            case "combined" -> {
+                content.put("questions", questions());
+                content.put("recommendations", recommendations());
+                content.put("overallAssessment", "스텁 응답입니다. 기본기를 바탕으로 설계 경험을 넓혀 보세요.");
+            }
+            default -> throw new IllegalArgumentException("스텁 제공자가 지원하지 않는 작업입니다: " + task);
+        }
+        return objectMapper.writeValueAsString(content);
+    }
+
+    private static List<String> questions() {
+        return List.of(
+                "최근 프로젝트에서 가장 어려웠던 기술적 문제와 해결 과정을 설명해주세요.",
+                "장애가 발생했을 때 원인을 찾고 대응했던 경험을 말씀해주세요.",
+                "사용 중인 기술 스택을 선택한 이유와 대안과의 차이를 설명해주세요.",
+                "팀원과 기술적인 의견이 달랐을 때 어떻게 합의했는지 말씀해주세요.",
+                "성능을 개선했던 경험이 있다면 측정 방법과 결과를 설명해주세요.");
+    }
+
+    private static List<LearningRecommendation> recommendations() {
+        return List.of(
+                LearningRecommendation.builder()
+                        .category("기술 스택 심화")
+                        .title("시스템 설계 기초")
+                        .description("확장성과 가용성을 고려한 서비스 설계 방법을 학습합니다.")
+                        .priority("HIGH")
+                        .estimatedDuration("1-2개월")
+                        .learningMethod("독서")
+                        .reason("스텁 응답입니다.")
+                        .build(),
+                LearningRecommendation.builder()
+                        .category("프로젝트 경험")
+                        .title("성능 측정과 개선")
+                        .description("부하 테스트와 프로파일링으로 병목을 찾고 개선합니다.")
+                        .priority("MEDIUM")
+                        .estimatedDuration("1개월")
+                        .learningMethod("프로젝트")
+                        .reason("스텁 응답입니다.")
+                        .build());
+    }
+
+    private static TokenUsage usage(String prompt, String content) {
+        return TokenUsage.builder()
+                .promptTokens((long) Math.ceil(prompt.length() / CHARS_PER_TOKEN_ESTIMATE))
+                .completionTokens((long) Math.ceil(content.length() / CHARS_PER_TOKEN_ESTIMATE))
+                .estimated(true)
+                .build();
+    }
+}
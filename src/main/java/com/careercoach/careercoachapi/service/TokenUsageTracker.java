@@ -0,0 +1,243 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.careercoach.careercoachapi.dto.response.UsageStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * OpenAI 토큰 사용량 및 비용 집계
+ * 호출마다 작업(endpoint)/모델별 지표를 발행하고, 분 단위 버킷으로 최근 24시간의 사용량을 보관하여
+ * 임의 구간(슬라이딩 윈도우)의 합계를 계산
+ *
+ * 비용은 호출한 모델의 단가로 계산 (openai.pricing.models에 없는 모델은 기본 단가 openai.pricing.* 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenUsageTracker {
+
+    public static final int MAX_WINDOW_MINUTES = 24 * 60;  // 보관하는 최대 구간 (분)
+    private static final double TOKENS_PER_MILLION = 1_000_000.0;
+
+    private final MeterRegistry meterRegistry;
+
+    // 분 단위 버킷 (인덱스 = epoch 분 % 버킷 수)
+    private final MinuteBucket[] buckets = IntStream.range(0, MAX_WINDOW_MINUTES)
+            .mapToObj(i -> new MinuteBucket())
+            .toArray(MinuteBucket[]::new);
+
+    // 100만 토큰당 기본 단가 (USD) - 모델별 단가가 없는 모델에 적용
+    @Value("${openai.pricing.input-per-million:0.15}")
+    private double inputPricePerMillion;
+
+    @Value("${openai.pricing.cached-input-per-million:0.075}")
+    private double cachedInputPricePerMillion;
+
+    @Value("${openai.pricing.output-per-million:0.60}")
+    private double outputPricePerMillion;
+
+    private Map<String, ModelPrice> modelPrices = Map.of();  // 모델별 100만 토큰당 단가 (USD)
+
+    /**
+     * 모델별 단가 (100만 토큰당 USD)
+     */
+    public record ModelPrice(double inputPerMillion, double cachedInputPerMillion, double outputPerMillion) {
+    }
+
+    /**
+     * "모델=입력/캐시 입력/출력" 을 쉼표로 나열한 모델별 단가 설정 (예: "gpt-4o-mini=0.15/0.075/0.60, gpt-4o=2.50/1.25/10.00")
+     */
+    @Value("${openai.pricing.models:}")
+    void setModelPricing(String models) {
+        this.modelPrices = parseModelPrices(models);
+        log.info("모델별 토큰 단가 - {}", modelPrices);
+    }
+
+    /**
+     * OpenAI 호출 한 번의 사용량 기록
+     *
+     * @param endpoint 작업 종류 (interview, learning, combined)
+     * @param model    호출한 모델
+     */
+    public void record(String endpoint, String model, TokenUsage usage) {
+        double cost = estimateCost(model, usage);
+        String estimated = String.valueOf(usage.isEstimated());
+
+        tokenCounter(endpoint, model, "prompt", estimated).increment(usage.getPromptTokens());
+        tokenCounter(endpoint, model, "completion", estimated).increment(usage.getCompletionTokens());
+        tokenCounter(endpoint, model, "cached", estimated).increment(usage.getCachedTokens());
+        Counter.builder("coaching.openai.cost")
+                .description("OpenAI 호출 추정 비용")
+                .baseUnit("usd")
+                .tag("endpoint", endpoint)
+                .tag("model", model)
+                .register(meterRegistry)
+                .increment(cost);
+
+        long minute = currentMinute();
+        buckets[(int) (minute % MAX_WINDOW_MINUTES)].add(minute, new UsageKey(endpoint, model), usage, cost);
+
+        log.debug("토큰 사용량 기록 - endpoint: {}, model: {}, prompt: {}, completion: {}, cached: {}, 추정: {}",
+                endpoint, model, usage.getPromptTokens(), usage.getCompletionTokens(),
+                usage.getCachedTokens(), usage.isEstimated());
+    }
+
+    /**
+     * 모델 호출 사용량의 추정 비용 (USD)
+     * 캐시된 입력 토큰은 캐시 단가로, 나머지 입력 토큰은 일반 단가로 계산
+     */
+    public double estimateCost(String model, TokenUsage usage) {
+        ModelPrice price = modelPrices.get(model);
+        if (price == null) {
+            price = new ModelPrice(inputPricePerMillion, cachedInputPricePerMillion, outputPricePerMillion);
+        }
+        long uncachedPromptTokens = Math.max(0, usage.getPromptTokens() - usage.getCachedTokens());
+        return (uncachedPromptTokens * price.inputPerMillion()
+                + usage.getCachedTokens() * price.cachedInputPerMillion()
+                + usage.getCompletionTokens() * price.outputPerMillion()) / TOKENS_PER_MILLION;
+    }
+
+    /**
+     * 모델별 단가 설정 해석
+     */
+    static Map<String, ModelPrice> parseModelPrices(String models) {
+        Map<String, ModelPrice> prices = new HashMap<>();
+        for (String entry : models.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            String[] values = separator > 0 ? trimmed.substring(separator + 1).split("/") : new String[0];
+            if (values.length != 3) {
+                throw new IllegalStateException("모델별 단가 형식이 잘못되었습니다 (모델=입력/캐시 입력/출력): " + trimmed);
+            }
+            try {
+                prices.put(trimmed.substring(0, separator).trim(), new ModelPrice(
+                        Double.parseDouble(values[0].trim()),
+                        Double.parseDouble(values[1].trim()),
+                        Double.parseDouble(values[2].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("모델별 단가 형식이 잘못되었습니다 (모델=입력/캐시 입력/출력): " + trimmed, e);
+            }
+        }
+        return Map.copyOf(prices);
+    }
+
+    /**
+     * 최근 windowMinutes 분 동안의 사용량 합계와 작업/모델별 집계
+     */
+    public UsageStatsResponse summarize(int windowMinutes) {
+        int window = Math.clamp(windowMinutes, 1, MAX_WINDOW_MINUTES);
+        long fromMinute = currentMinute() - window + 1;
+
+        Map<UsageKey, UsageTotals> totals = new HashMap<>();
+        for (MinuteBucket bucket : buckets) {
+            bucket.collectInto(fromMinute, totals);
+        }
+
+        UsageTotals overall = new UsageTotals();
+        totals.values().forEach(overall::merge);
+
+        List<UsageStatsResponse> breakdown = totals.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse()
+                        .endpoint(entry.getKey().endpoint())
+                        .model(entry.getKey().model())
+                        .build())
+                .sorted(Comparator.comparingDouble(UsageStatsResponse::getEstimatedCostUsd).reversed())
+                .toList();
+
+        return overall.toResponse()
+                .windowMinutes(window)
+                .breakdown(breakdown)
+                .build();
+    }
+
+    private Counter tokenCounter(String endpoint, String model, String type, String estimated) {
+        return Counter.builder("coaching.openai.tokens")
+                .description("OpenAI 토큰 사용량")
+                .tag("endpoint", endpoint)
+                .tag("model", model)
+                .tag("type", type)
+                .tag("estimated", estimated)
+                .register(meterRegistry);
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+
+    private record UsageKey(String endpoint, String model) {
+    }
+
+    /**
+     * 집계 값
+     */
+    private static final class UsageTotals {
+        private long requestCount;
+        private long promptTokens;
+        private long completionTokens;
+        private long cachedTokens;
+        private double cost;
+
+        private void add(TokenUsage usage, double usageCost) {
+            requestCount++;
+            promptTokens += usage.getPromptTokens();
+            completionTokens += usage.getCompletionTokens();
+            cachedTokens += usage.getCachedTokens();
+            cost += usageCost;
+        }
+
+        private void merge(UsageTotals other) {
+            requestCount += other.requestCount;
+            promptTokens += other.promptTokens;
+            completionTokens += other.completionTokens;
+            cachedTokens += other.cachedTokens;
+            cost += other.cost;
+        }
+
+        private UsageStatsResponse.UsageStatsResponseBuilder toResponse() {
+            return UsageStatsResponse.builder()
+                    .requestCount(requestCount)
+                    .promptTokens(promptTokens)
+                    .completionTokens(completionTokens)
+                    .cachedTokens(cachedTokens)
+                    .estimatedCostUsd(cost);
+        }
+    }
+
+    /**
+     * 1분 동안의 사용량 버킷
+     * 같은 인덱스의 버킷은 하루 뒤에 재사용되므로 기록 시 분이 바뀌었으면 초기화
+     */
+    private static final class MinuteBucket {
+        private long minute = -1;
+        private final Map<UsageKey, UsageTotals> totals = new HashMap<>();
+
+        private synchronized void add(long currentMinute, UsageKey key, TokenUsage usage, double cost) {
+            if (minute != currentMinute) {
+                minute = currentMinute;
+                totals.clear();
+            }
+            totals.computeIfAbsent(key, k -> new UsageTotals()).add(usage, cost);
+        }
+
+        private synchronized void collectInto(long fromMinute, Map<UsageKey, UsageTotals> target) {
+            if (minute < fromMinute) {
+                return;
+            }
+            totals.forEach((key, value) -> target.computeIfAbsent(key, k -> new UsageTotals()).merge(value));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 업스트림(LLM 제공자) 호출 오류 분류
+ * 서킷 브레이커, 재시도, 동시성 제한기가 같은 기준으로 판단하도록 한 곳에 모음
+ * (서비스 계층이 RuntimeException으로 감싸므로 원인 체인 전체를 확인)
+ */
+final class UpstreamErrors {
+
+    private UpstreamErrors() {
+    }
+
+    /**
+     * 업스트림 장애로 볼 오류 - 5xx, 타임아웃, 연결 실패 (동시성 제한기 허가 대기 초과는 로컬 포화이므로 제외)
+     */
+    static boolean isUpstreamFailure(Throwable error) {
+        if (findCause(error, ConcurrencyLimitExceededException.class) != null) {
+            return false;
+        }
+        WebClientResponseException response = findCause(error, WebClientResponseException.class);
+        if (response != null) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return isTimeout(error) || findCause(error, WebClientRequestException.class) != null;
+    }
+
+    /**
+     * 타임아웃 - 경로별 제한 시간(Reactor timeout)과 HTTP 클라이언트의 읽기/쓰기 타임아웃(netty)
+     */
+    static boolean isTimeout(Throwable error) {
+        return findCause(error, TimeoutException.class) != null
+                || findCause(error, ReadTimeoutException.class) != null
+                || findCause(error, WriteTimeoutException.class) != null;
+    }
+
+    /**
+     * 429 응답
+     */
+    static boolean isRateLimited(Throwable error) {
+        WebClientResponseException response = findCause(error, WebClientResponseException.class);
+        return response != null && response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    static <E extends Throwable> E findCause(Throwable error, Class<E> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+}
@@ -128,7 +128,7 @@ class CareerCoachControllerTest {
         assertThat(body.get("errorCode")).isEqualTo(400);
 
         // 비즈니스 로직이 호출되지 않았는지 확인
-        verify(streamingOrchestrator, never()).processCareerCoaching(any(), any(), any());
+        verify(streamingOrchestrator, never()).processCareerCoaching(any(), any());
     }
 
     @Test
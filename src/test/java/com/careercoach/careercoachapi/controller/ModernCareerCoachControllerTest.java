@@ -114,8 +114,8 @@ class ModernCareerCoachControllerTest {
 
         // 비동기 작업 검증
         verify(sessionManager, timeout(2000)).createSession(anyString(), any());
-        verify(eventSender, timeout(2000)).sendConnected(any(), anyString());
-        verify(streamingOrchestrator, timeout(2000)).processCareerCoaching(any(), anyString(), eq(request));
+        verify(eventSender, timeout(2000)).sendConnected(anyString());
+        verify(streamingOrchestrator, timeout(2000)).processCareerCoaching(anyString(), eq(request));
     }
 
     @Test
@@ -141,7 +141,7 @@ class ModernCareerCoachControllerTest {
                 .jsonPath("$.message").exists();
 
         // 비즈니스 로직이 호출되지 않았는지 확인
-        verify(streamingOrchestrator, never()).processCareerCoaching(any(), any(), any());
+        verify(streamingOrchestrator, never()).processCareerCoaching(any(), any());
     }
 
     @Test
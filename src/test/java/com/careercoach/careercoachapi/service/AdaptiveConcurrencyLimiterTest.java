@@ -0,0 +1,183 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("limit을 넘는 호출은 허가를 기다렸다가 앞선 호출이 끝나면 실행")
+    void limit_OverLimit_WaitsForPermit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        Sinks.One<String> third = Sinks.one();
+        limiter.limit("interview", first.asMono()).subscribe();
+        limiter.limit("interview", second.asMono()).subscribe();
+
+        // When
+        limiter.limit("interview", third.asMono()).subscribe();
+
+        // Then
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getPending()).isEqualTo(1);
+        assertThat(third.currentSubscriberCount()).isZero();
+
+        first.tryEmitValue("완료");
+        assertThat(third.currentSubscriberCount()).isEqualTo(1);
+        assertThat(limiter.getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 limit을 backoff 비율만큼 줄임")
+    void limit_RateLimited_DecreasesLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+        Mono<String> rateLimited = Mono.error(new RuntimeException("AI 서비스 호출에 실패했습니다.",
+                WebClientResponseException.create(429, "Too Many Requests", null, null, null)));
+
+        // When
+        limiter.limit("interview", rateLimited).onErrorResume(e -> Mono.empty()).block();
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getRateLimitedCount()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("HTTP 클라이언트 읽기 타임아웃도 서킷 브레이커와 같이 업스트림 장애로 보고 limit을 줄임")
+    void limit_NettyReadTimeout_DecreasesLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+        Mono<String> readTimeout = Mono.error(new RuntimeException("AI 서비스 호출에 실패했습니다.",
+                ReadTimeoutException.INSTANCE));
+        Mono<String> localSaturation = Mono.error(new ConcurrencyLimitExceededException("요청이 많습니다."));
+
+        // When
+        limiter.limit("learning", readTimeout).onErrorResume(e -> Mono.empty()).block();
+        limiter.limit("learning", localSaturation).onErrorResume(e -> Mono.empty()).block();
+
+        // Then
+        assertThat(UpstreamErrors.isUpstreamFailure(ReadTimeoutException.INSTANCE)).isTrue();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getDecreaseCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 가까이 사용 중인 상태에서 성공이 이어지면 limit을 늘림")
+    void limit_Successes_IncreaseLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+
+        // When - 허용된 2개를 모두 채운 상태에서 완료되는 호출을 반복
+        for (int i = 0; i < 10; i++) {
+            Sinks.One<String> first = Sinks.one();
+            Sinks.One<String> second = Sinks.one();
+            limiter.limit("interview", first.asMono()).subscribe();
+            limiter.limit("interview", second.asMono()).subscribe();
+            first.tryEmitValue("결과");
+            second.tryEmitValue("결과");
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("감소는 cooldown 안에서 한 번만 적용")
+    void limit_RepeatedRateLimits_DecreaseOncePerCooldown() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(16, Duration.ofMinutes(1));
+        Mono<String> rateLimited = Mono.error(
+                WebClientResponseException.create(429, "Too Many Requests", null, null, null));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            limiter.limit("interview", rateLimited).onErrorResume(e -> Mono.empty()).block();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getDecreaseCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허가를 기다리던 호출이 취소되면 대기열에서 제거되고 허가가 새지 않음")
+    void limit_CancelledWhileWaiting_RemovedFromQueue() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+        Sinks.One<String> running = Sinks.one();
+        limiter.limit("interview", running.asMono()).subscribe();
+        limiter.limit("interview", Sinks.<String>one().asMono()).subscribe();
+        Disposable waiting = limiter.limit("interview", Mono.just("결과")).subscribe();
+
+        // When
+        waiting.dispose();
+        running.tryEmitValue("완료");
+
+        // Then
+        assertThat(limiter.getPending()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출은 필요한 조각만 받고 일찍 끊어도 허가를 반환")
+    void limitStreaming_CancelledAfterFirstElement_ReleasesPermit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ZERO);
+        Sinks.Many<String> deltas = Sinks.many().unicast().onBackpressureBuffer();
+        limiter.limitStreaming("interview", deltas.asFlux()).take(1).subscribe();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        // When
+        deltas.tryEmitNext("{\"questions\":[");
+
+        // Then
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.limit("interview", Mono.just("결과")).block(Duration.ofSeconds(1))).isEqualTo("결과");
+    }
+
+    @Test
+    @DisplayName("스트리밍 재시도 대기 중에는 허가를 점유하지 않고 시도마다 새 허가를 받음")
+    void limitStreaming_RetryBackoff_DoesNotHoldPermit() {
+        // Given - 첫 시도는 503, 재시도는 500ms 후
+        AdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ZERO);
+        OpenAiResilience resilience = new OpenAiResilience(2, Duration.ofMillis(500), Duration.ofMillis(500), 0.0,
+                Duration.ofSeconds(20), false, 0.95, 20, () -> new CircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<String> attempt = limiter.limitStreaming("interview", Flux.defer(() -> attempts.incrementAndGet() == 1
+                ? Flux.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null))
+                : Flux.just("완료")));
+
+        // When
+        Sinks.One<String> result = Sinks.one();
+        resilience.executeStreaming("openai", attempt).next().subscribe(result::tryEmitValue);
+
+        // Then - 첫 시도 실패 직후 (재시도 대기 중)
+        assertThat(attempts).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(result.asMono().block(Duration.ofSeconds(5))).isEqualTo("완료");
+        assertThat(attempts).hasValue(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, Duration decreaseCooldown) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 1, 20, 0.5, 2.0,
+                decreaseCooldown, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,129 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("AdmissionController 테스트")
+class AdmissionControllerTest {
+
+    private final GenerationTracker generationTracker = new GenerationTracker();
+
+    @Test
+    @DisplayName("REJECT 모드에서 용량을 넘으면 Retry-After와 함께 거절하고, 반환된 뒤에는 다시 입장")
+    void admit_RejectMode_RejectsOverCapacity() {
+        // Given
+        AdmissionController controller = controller(AdmissionController.Mode.REJECT, 1, 10, Duration.ofSeconds(10));
+        AdmissionController.Admission first = controller.admit();
+
+        // When & Then
+        assertThatThrownBy(controller::admit)
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(5L);
+
+        first.dispose();
+        assertThat(controller.admit().isAdmitted()).isTrue();
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("QUEUE 모드에서 대기 세션은 순서대로 입장하고 남은 세션은 새 순번을 받음")
+    void admit_QueueMode_AdmitsInOrder() {
+        // Given
+        AdmissionController controller = controller(AdmissionController.Mode.QUEUE, 1, 2, Duration.ofSeconds(10));
+        AdmissionController.Admission first = controller.admit();
+        AdmissionController.Admission second = controller.admit();
+        AdmissionController.Admission third = controller.admit();
+
+        AtomicBoolean secondStarted = new AtomicBoolean();
+        List<Integer> secondPositions = new CopyOnWriteArrayList<>();
+        List<Integer> thirdPositions = new CopyOnWriteArrayList<>();
+        second.onReady(() -> secondStarted.set(true), secondPositions::add, () -> { });
+        third.onReady(() -> { }, thirdPositions::add, () -> { });
+
+        // 대기열이 가득 차면 거절
+        assertThatThrownBy(controller::admit).isInstanceOf(AdmissionRejectedException.class);
+
+        // When
+        first.dispose();
+
+        // Then
+        assertThat(secondStarted).isTrue();
+        assertThat(secondPositions).containsExactly(1);
+        assertThat(thirdPositions).containsExactly(2, 1);
+        assertThat(controller.getActiveSessions()).isEqualTo(1);
+        assertThat(controller.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 차례가 오지 않으면 만료")
+    void admit_QueueMode_ExpiresAfterMaxWait() {
+        // Given
+        AdmissionController controller = controller(AdmissionController.Mode.QUEUE, 1, 10, Duration.ofMillis(100));
+        controller.admit();
+        AtomicBoolean expired = new AtomicBoolean();
+
+        // When
+        controller.admit().onReady(() -> { }, position -> { }, () -> expired.set(true));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilTrue(expired);
+        assertThat(controller.getQueueDepth()).isZero();
+        assertThat(controller.getQueueTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업스트림 호출이 허용 동시 호출 수를 모두 채우면 세션 수에 여유가 있어도 거절")
+    void admit_UpstreamSaturated_Rejects() {
+        // Given - 허용 동시 호출 2개를 모두 채운 진행 중 호출
+        AdmissionController controller = new AdmissionController(AdmissionController.Mode.REJECT,
+                10, () -> 2, 10, Duration.ofSeconds(10), generationTracker);
+        Disposable call1 = generationTracker.track("interview", Sinks.<String>one().asMono()).subscribe();
+        Disposable call2 = generationTracker.track("learning", Sinks.<String>one().asMono()).subscribe();
+
+        // When & Then
+        assertThatThrownBy(controller::admit).isInstanceOf(AdmissionRejectedException.class);
+
+        call1.dispose();
+        assertThat(controller.admit().isAdmitted()).isTrue();
+        call2.dispose();
+    }
+
+    @Test
+    @DisplayName("세션 밖의 업스트림 호출(캐시 워밍 등)이 끝나도 대기 세션이 바로 입장")
+    void admit_QueueMode_AdmitsWhenTrackedGenerationFinishes() {
+        // Given - 허용 동시 호출 1개를 세션과 무관한 호출이 점유
+        AdmissionController controller = new AdmissionController(AdmissionController.Mode.QUEUE,
+                10, () -> 1, 10, Duration.ofSeconds(10), generationTracker);
+        Sinks.One<String> warming = Sinks.one();
+        generationTracker.track("interview", warming.asMono()).subscribe();
+        AdmissionController.Admission queued = controller.admit();
+        AtomicBoolean started = new AtomicBoolean();
+        queued.onReady(() -> started.set(true), position -> { }, () -> { });
+        assertThat(started).isFalse();
+
+        // When
+        warming.tryEmitValue("완료");
+
+        // Then - 입장권 반환 없이도 입장
+        assertThat(started).isTrue();
+        assertThat(controller.getQueueDepth()).isZero();
+        assertThat(controller.getActiveSessions()).isEqualTo(1);
+        controller.close();
+    }
+
+    private AdmissionController controller(AdmissionController.Mode mode, int maxSessions,
+                                           int queueCapacity, Duration maxQueueWait) {
+        return new AdmissionController(mode, maxSessions, () -> 20, queueCapacity, maxQueueWait, generationTracker);
+    }
+}
@@ -0,0 +1,129 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CacheWarmer 테스트")
+class CacheWarmerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock OFF_PEAK = Clock.fixed(Instant.parse("2026-10-16T18:30:00Z"), ZONE);  // 03:30 KST
+    private static final Clock PEAK = Clock.fixed(Instant.parse("2026-10-17T05:00:00Z"), ZONE);      // 14:00 KST
+
+    private final HeavyHitterTracker tracker = new HeavyHitterTracker(100);
+    private final CareerCoachService careerCoachService = mock(CareerCoachService.class);
+    private CoachingResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).expireAfterWrite(Duration.ofHours(6)));
+        resultCache = new CoachingResultCache(cacheManager, new SimilarRequestIndex(false, 1.0, 0));
+
+        // 생성 호출마다 1,000 토큰 사용 후 캐시에 저장
+        when(careerCoachService.refreshComprehensiveReactive(any(), any())).thenAnswer(invocation -> {
+            ResumeInfoRequest request = invocation.getArgument(0);
+            ComprehensiveGenerationListener listener = invocation.getArgument(1);
+            listener.getInterviewListener().onUsage(TokenUsage.builder().promptTokens(400).completionTokens(600).build());
+            CanonicalRequestKey key = CanonicalRequestKey.from(request);
+            resultCache.putInterviewQuestions(key, InterviewQuestionsResponse.builder().questions(List.of("질문")).build());
+            resultCache.putLearningPath(key, LearningPathResponse.builder().build());
+            return Mono.just(ComprehensiveCareerResponse.builder().build());
+        });
+    }
+
+    @Test
+    @DisplayName("한가한 시간대에 빈도 상위 요청만 미리 생성하고, 이미 최신인 결과는 건너뜀")
+    void warm_GeneratesTopKDuringOffPeak() {
+        // Given
+        record("백엔드 개발자", 5);
+        record("프론트엔드 개발자", 3);
+        record("데이터 엔지니어", 1);
+        CacheWarmer warmer = warmer(2, 100_000, OFF_PEAK);
+
+        // When
+        int first = warmer.warm();
+        int second = warmer.warm();
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(warmer.getFreshCount()).isEqualTo(2);
+        assertThat(resultCache.getInterviewQuestions(key("백엔드 개발자"))).isNotNull();
+        assertThat(resultCache.getInterviewQuestions(key("데이터 엔지니어"))).isNull();
+        assertThat(warmer.getTokensSpent()).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("직전 호출 사용량만큼 예산이 남지 않으면 중단")
+    void warm_StopsAtTokenBudget() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            record("직무 " + i, 10 - i);
+        }
+        CacheWarmer warmer = warmer(10, 2_500, OFF_PEAK);
+
+        // When
+        int warmed = warmer.warm();
+
+        // Then - 1,000 + 1,000 사용 후 다음 호출(예상 1,000)은 예산 2,500 초과
+        assertThat(warmed).isEqualTo(2);
+        assertThat(warmer.getTokensSpent()).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("한가한 시간대가 아니면 생성하지 않음")
+    void warm_SkipsOutsideOffPeak() {
+        // Given
+        record("백엔드 개발자", 5);
+        CacheWarmer warmer = warmer(10, 100_000, PEAK);
+
+        // When
+        int warmed = warmer.warm();
+
+        // Then
+        assertThat(warmed).isZero();
+        assertThat(warmer.getRunCount()).isZero();
+        verifyNoInteractions(careerCoachService);
+    }
+
+    private CacheWarmer warmer(int topK, long tokenBudget, Clock clock) {
+        return new CacheWarmer(tracker, careerCoachService, resultCache, topK, tokenBudget,
+                LocalTime.of(2, 0), LocalTime.of(6, 0), Duration.ofHours(3), Duration.ofMinutes(10), clock);
+    }
+
+    private void record(String jobRole, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(request(jobRole));
+        }
+    }
+
+    private static CanonicalRequestKey key(String jobRole) {
+        return CanonicalRequestKey.from(request(jobRole));
+    }
+
+    private static ResumeInfoRequest request(String jobRole) {
+        return new ResumeInfoRequest("3년차 개발자", jobRole, List.of("Java"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CoachingCacheSnapshot 테스트")
+class CoachingCacheSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷을 기록한 뒤 새 캐시에 적재하면 같은 정규화 키로 적중")
+    void snapshot_ThenLoadIntoFreshCache() throws Exception {
+        // Given
+        CaffeineCacheManager manager = cacheManager();
+        CoachingResultCache cache = resultCache(manager);
+        CanonicalRequestKey backend = key("백엔드 개발자", "Java", "Spring Boot");
+        CanonicalRequestKey frontend = key("프론트엔드 개발자", "React");
+        cache.putInterviewQuestions(backend, questions("JVM 메모리 구조를 설명해주세요."));
+        cache.putLearningPath(backend, LearningPathResponse.builder().overallAssessment("기본기 탄탄").build());
+        cache.putInterviewQuestions(frontend, questions("가상 DOM이란?"));
+
+        CoachingCacheSnapshot writer = snapshot(manager);
+        assertThat(writer.snapshot()).isEqualTo(3);
+        assertThat(writer.getSnapshotSizeBytes()).isEqualTo(Files.size(snapshotFile()));
+
+        // When
+        CaffeineCacheManager restartedManager = cacheManager();
+        CoachingResultCache restarted = resultCache(restartedManager);
+        CoachingCacheSnapshot loader = snapshot(restartedManager);
+        int loaded = loader.load();
+
+        // Then
+        assertThat(loaded).isEqualTo(3);
+        assertThat(loader.isLoaded()).isTrue();
+        assertThat(loader.getLoadedEntries()).isEqualTo(3);
+        assertThat(restarted.getInterviewQuestions(key("  백엔드   개발자", "spring boot", "JAVA")).getQuestions())
+                .containsExactly("JVM 메모리 구조를 설명해주세요.");
+        assertThat(restarted.getLearningPath(backend).getOverallAssessment()).isEqualTo("기본기 탄탄");
+        assertThat(restarted.getLearningPath(frontend)).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 중 이미 새로 생성된 결과는 스냅샷으로 덮어쓰지 않음")
+    void load_KeepsFresherEntries() throws Exception {
+        // Given
+        CaffeineCacheManager manager = cacheManager();
+        CanonicalRequestKey key = key("데이터 엔지니어", "Spark");
+        resultCache(manager).putInterviewQuestions(key, questions("이전 질문"));
+        snapshot(manager).snapshot();
+
+        CaffeineCacheManager restartedManager = cacheManager();
+        CoachingResultCache restarted = resultCache(restartedManager);
+        restarted.putInterviewQuestions(key, questions("새 질문"));
+
+        // When
+        snapshot(restartedManager).load();
+
+        // Then
+        assertThat(restarted.getInterviewQuestions(key).getQuestions()).containsExactly("새 질문");
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없거나 손상되어도 빈 캐시로 시작")
+    void load_MissingOrCorruptFile() throws Exception {
+        // Given
+        CoachingCacheSnapshot missing = snapshot(cacheManager());
+        assertThat(missing.load()).isZero();
+        assertThat(missing.isLoaded()).isTrue();
+
+        CaffeineCacheManager manager = cacheManager();
+        CoachingResultCache cache = resultCache(manager);
+        cache.putInterviewQuestions(key("백엔드 개발자", "Java"), questions("질문 1"));
+        cache.putInterviewQuestions(key("프론트엔드 개발자", "React"), questions("질문 2"));
+        snapshot(manager).snapshot();
+        byte[] bytes = Files.readAllBytes(snapshotFile());
+        Files.write(snapshotFile(), Arrays.copyOf(bytes, bytes.length - 10));
+
+        // When
+        int loaded = snapshot(cacheManager()).load();
+
+        // Then - 잘리기 전의 항목까지만 적재
+        assertThat(loaded).isEqualTo(1);
+    }
+
+    private CoachingCacheSnapshot snapshot(CaffeineCacheManager manager) {
+        return new CoachingCacheSnapshot(manager, objectMapper, snapshotFile(), Duration.ofMinutes(5));
+    }
+
+    private static CoachingResultCache resultCache(CaffeineCacheManager manager) {
+        return new CoachingResultCache(manager, new SimilarRequestIndex(false, 1.0, 0));
+    }
+
+    private Path snapshotFile() {
+        return directory.resolve("coaching-cache.snapshot");
+    }
+
+    private static CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager manager = new CaffeineCacheManager(
+                CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS);
+        manager.setCaffeine(Caffeine.newBuilder().maximumSize(100).expireAfterWrite(Duration.ofHours(6)));
+        return manager;
+    }
+
+    private static CanonicalRequestKey key(String jobRole, String... skills) {
+        return CanonicalRequestKey.from(new ResumeInfoRequest("3년차 개발자", jobRole, List.of(skills)));
+    }
+
+    private static InterviewQuestionsResponse questions(String question) {
+        return InterviewQuestionsResponse.builder().questions(List.of(question)).build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.careercoach.careercoachapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CoachingMetrics 테스트")
+class CoachingMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CoachingMetrics coachingMetrics = new CoachingMetrics(registry);
+
+    @Test
+    @DisplayName("세션의 첫 결과 이벤트와 종료는 한 번씩만 기록")
+    void sessionTimer_RecordsFirstEventAndDurationOnce() {
+        // Given
+        CoachingMetrics.SessionTimer sessionTimer = coachingMetrics.startSession("stream");
+
+        // When
+        sessionTimer.markFirstEvent();
+        sessionTimer.markFirstEvent();
+        sessionTimer.stop("completed");
+        sessionTimer.stop("error");
+
+        // Then
+        assertThat(registry.get("coaching.sse.first.event").timer().count()).isEqualTo(1);
+        assertThat(registry.get("coaching.session.duration").tag("outcome", "completed").timer().count()).isEqualTo(1);
+        assertThat(registry.find("coaching.session.duration").tag("outcome", "error").timer()).isNull();
+    }
+}
@@ -0,0 +1,205 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.dto.response.ComprehensiveCareerResponse;
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.careercoach.careercoachapi.dto.response.StoredCoachingResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("CoachingResultStore 테스트")
+class CoachingResultStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장 요청 직후에도 조회되고, 재시작하면 로그에서 세션 ID와 요청 해시 색인을 복구")
+    void submit_RecoveredAfterRestart() {
+        // Given
+        ResumeInfoRequest request = request("백엔드 개발자");
+        CoachingResultStore store = open();
+
+        // When
+        assertThat(store.submit("stream-1", request, result("질문 1"))).isTrue();
+        assertThat(store.submit("stream-2", request, result("질문 2"))).isTrue();
+
+        // Then - 기록 전이라도 바로 조회
+        assertThat(store.findBySessionId("stream-1")).isPresent();
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.getWrittenCount() == 2);
+        store.close();
+
+        CoachingResultStore reopened = open();
+        assertThat(reopened.findBySessionId("stream-1"))
+                .get().extracting(stored -> stored.getInterviewQuestions().getQuestions())
+                .isEqualTo(List.of("질문 1"));
+        assertThat(reopened.findByRequestHash(CanonicalRequestKey.from(request).hash()))
+                .get().extracting(StoredCoachingResult::getSessionId).isEqualTo("stream-2");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("비정상 종료로 잘린 마지막 줄은 버리고 이후 기록을 이어감")
+    void open_TruncatesTornLastLine() throws Exception {
+        // Given
+        CoachingResultStore store = open();
+        store.submit("stream-1", request("데이터 엔지니어"), result("질문 1"));
+        store.close();
+        Files.writeString(directory.resolve("results.jsonl"), "{\"sessionId\":\"stream-torn\",\"inter",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        CoachingResultStore reopened = open();
+        reopened.submit("stream-2", request("데이터 엔지니어"), result("질문 2"));
+        reopened.close();
+
+        // Then
+        CoachingResultStore recovered = open();
+        assertThat(recovered.findBySessionId("stream-1")).isPresent();
+        assertThat(recovered.findBySessionId("stream-torn")).isEmpty();
+        assertThat(recovered.findBySessionId("stream-2")).isPresent();
+        assertThat(recovered.getStoredCount()).isEqualTo(2);
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("기록 중 예상하지 못한 오류가 나도 쓰기 스레드는 계속 동작")
+    void writer_SurvivesUnexpectedError() {
+        // Given - 첫 번째 직렬화만 unchecked 예외
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        ObjectMapper failingMapper = new ObjectMapper() {
+            @Override
+            public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+                if (failNext.getAndSet(false)) {
+                    throw new IllegalStateException("직렬화 실패");
+                }
+                return super.writeValueAsBytes(value);
+            }
+        };
+        failingMapper.findAndRegisterModules();
+        CoachingResultStore store = new CoachingResultStore(directory, failingMapper, 100, 16, Duration.ofMillis(20), true,
+                Duration.ofDays(7), 10_000);
+
+        // When
+        store.submit("stream-1", request("백엔드 개발자"), result("질문 1"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.getFailedCount() == 1);
+        store.submit("stream-2", request("백엔드 개발자"), result("질문 2"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.getWrittenCount() == 1);
+        assertThat(store.findBySessionId("stream-1")).isEmpty();
+        assertThat(store.findBySessionId("stream-2")).isPresent();
+        store.close();
+        assertThat(store.findBySessionId("stream-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 보관 수를 넘으면 오래된 결과부터 조회 색인에서 제거")
+    void submit_EvictsOldestBeyondMaxResults() {
+        // Given
+        CoachingResultStore store = open(Duration.ofDays(7), 2);
+
+        // When
+        store.submit("stream-1", request("백엔드 개발자"), result("질문 1"));
+        store.submit("stream-2", request("데이터 엔지니어"), result("질문 2"));
+        store.submit("stream-3", request("DevOps 엔지니어"), result("질문 3"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.getEvictedCount() == 1);
+        assertThat(store.getStoredCount()).isEqualTo(2);
+        assertThat(store.findBySessionId("stream-1")).isEmpty();
+        assertThat(store.findByRequestHash(CanonicalRequestKey.from(request("백엔드 개발자")).hash())).isEmpty();
+        assertThat(store.findBySessionId("stream-3")).isPresent();
+        store.close();
+    }
+
+    @Test
+    @DisplayName("제거된 기록이 쌓이면 남은 결과만 새 파일로 정리하고, 재시작 후에도 그대로 조회")
+    void maintain_CompactsLogAndRecoversAfterRestart() throws Exception {
+        // Given - 약 600KB 결과 3개, 1개만 보관
+        String large = "가".repeat(200_000);
+        CoachingResultStore store = open(Duration.ofDays(7), 1);
+
+        // When
+        store.submit("stream-1", request("백엔드 개발자"), result("1" + large));
+        store.submit("stream-2", request("백엔드 개발자"), result("2" + large));
+        store.submit("stream-3", request("백엔드 개발자"), result("3" + large));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.getCompactionCount() >= 1);
+        assertThat(Files.size(directory.resolve("results.jsonl"))).isLessThan(1024 * 1024);
+        assertThat(store.findBySessionId("stream-3"))
+                .get().extracting(stored -> stored.getInterviewQuestions().getQuestions())
+                .isEqualTo(List.of("3" + large));
+        store.close();
+
+        CoachingResultStore reopened = open(Duration.ofDays(7), 1);
+        assertThat(reopened.getStoredCount()).isEqualTo(1);
+        assertThat(reopened.findBySessionId("stream-1")).isEmpty();
+        assertThat(reopened.findBySessionId("stream-3")).isPresent();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("재시작 시 보관 기간이 지난 결과는 색인하지 않음")
+    void open_SkipsResultsOlderThanRetention() {
+        // Given
+        CoachingResultStore store = open();
+        store.submit(StoredCoachingResult.builder()
+                .sessionId("stream-old")
+                .requestHash("old-hash")
+                .createdAt(System.currentTimeMillis() - Duration.ofDays(2).toMillis())
+                .build());
+        store.submit("stream-new", request("백엔드 개발자"), result("질문 1"));
+        store.close();
+
+        // When
+        CoachingResultStore reopened = open(Duration.ofDays(1), 10_000);
+
+        // Then
+        assertThat(reopened.findBySessionId("stream-old")).isEmpty();
+        assertThat(reopened.findByRequestHash("old-hash")).isEmpty();
+        assertThat(reopened.findBySessionId("stream-new")).isPresent();
+        assertThat(reopened.getStoredCount()).isEqualTo(1);
+        reopened.close();
+    }
+
+    private CoachingResultStore open() {
+        return open(Duration.ofDays(7), 10_000);
+    }
+
+    private CoachingResultStore open(Duration retention, int maxResults) {
+        return new CoachingResultStore(directory, objectMapper, 100, 16, Duration.ofMillis(20), true,
+                retention, maxResults);
+    }
+
+    private static ResumeInfoRequest request(String jobRole) {
+        return new ResumeInfoRequest("3년차 개발자", jobRole, List.of("Java", "Spring Boot"));
+    }
+
+    private static ComprehensiveCareerResponse result(String question) {
+        return ComprehensiveCareerResponse.builder()
+                .interviewQuestions(InterviewQuestionsResponse.builder().questions(List.of(question)).build())
+                .learningPath(LearningPathResponse.builder().build())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.careercoach.careercoachapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GenerationTracker 테스트")
+class GenerationTrackerTest {
+
+    private final GenerationTracker tracker = new GenerationTracker();
+
+    @Test
+    @DisplayName("완료 전에 구독을 취소하면 업스트림 호출도 취소되고 취소 수가 집계됨")
+    void track_Disposed_CancelsUpstreamAndCounts() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        Disposable generation = tracker.track("interview", upstream.asMono()).subscribe();
+
+        // When
+        generation.dispose();
+
+        // Then
+        assertThat(upstream.currentSubscriberCount()).isZero();
+        assertThat(tracker.getCancelledCount()).isEqualTo(1);
+        assertThat(tracker.getCompletedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 호출은 취소 수에 포함되지 않음")
+    void track_Completed_NotCountedAsCancelled() {
+        // When
+        String result = tracker.track("interview", Mono.just("결과")).block();
+
+        // Then
+        assertThat(result).isEqualTo("결과");
+        assertThat(tracker.getCompletedCount()).isEqualTo(1);
+        assertThat(tracker.getCancelledCount()).isZero();
+        assertThat(tracker.getSavedMillis()).isZero();
+    }
+}
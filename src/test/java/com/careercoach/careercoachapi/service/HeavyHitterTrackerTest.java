@@ -0,0 +1,107 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HeavyHitterTracker 테스트")
+class HeavyHitterTrackerTest {
+
+    @Test
+    @DisplayName("표현만 다른 요청은 같은 키로 합산하고 빈도순으로 조회")
+    void record_MergesCanonicalKeys() {
+        // Given
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+
+        // When
+        tracker.record(request("백엔드 개발자", "Java", "Spring Boot"));
+        tracker.record(request("  백엔드   개발자 ", "spring boot", "JAVA"));
+        tracker.record(request("백엔드 개발자", "Java", "Spring Boot", "Java"));
+        tracker.record(request("프론트엔드 개발자", "React"));
+
+        // Then
+        List<HeavyHitterTracker.HotRequest> top = tracker.topK(2);
+        assertThat(top).extracting(HeavyHitterTracker.HotRequest::count).containsExactly(3L, 1L);
+        assertThat(top.get(0).key().getJobRole()).isEqualTo("백엔드 개발자");
+        assertThat(top.get(0).request().getJobRole()).isEqualTo("백엔드 개발자");  // 최근 원본 요청 보관
+        assertThat(tracker.getRecordedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("카운터 수보다 요청 종류가 많아도 인기 요청은 상위에 남음")
+    void record_KeepsHeavyHittersUnderChurn() {
+        // Given - 카운터 20개, 인기 요청 3종 + 한 번씩만 오는 요청 1000종
+        HeavyHitterTracker tracker = new HeavyHitterTracker(20);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            tracker.record(request("직무 " + i, "Skill " + i));
+            if (i % 10 == 0) {
+                tracker.record(request("백엔드 개발자", "Java"));
+                tracker.record(request("프론트엔드 개발자", "React"));
+                tracker.record(request("데이터 엔지니어", "Spark"));
+            }
+        }
+
+        // Then
+        assertThat(tracker.getTrackedCount()).isEqualTo(20);
+        assertThat(tracker.topK(3))
+                .extracting(hot -> hot.key().getJobRole())
+                .containsExactlyInAnyOrder("백엔드 개발자", "프론트엔드 개발자", "데이터 엔지니어");
+        assertThat(tracker.topK(3))
+                .allSatisfy(hot -> assertThat(hot.count() - hot.error()).isLessThanOrEqualTo(100));
+    }
+
+    @Test
+    @DisplayName("카운터를 넘겨받아도 빈도 합은 전체 요청 수와 같고 빈도 내림차순을 유지")
+    void record_ReplacementKeepsTotalAndOrder() {
+        // Given - 카운터 5개에 한 번씩만 오는 요청 100종
+        HeavyHitterTracker tracker = new HeavyHitterTracker(5);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            tracker.record(request("직무 " + i, "Skill " + i));
+        }
+        tracker.record(request("백엔드 개발자", "Java"));
+
+        // Then - 넘겨받은 카운터는 가장 작은 빈도 + 1 이고 그 빈도가 오차로 기록됨
+        List<HeavyHitterTracker.HotRequest> all = tracker.topK(Integer.MAX_VALUE);
+        assertThat(all).hasSize(5);
+        assertThat(all).extracting(HeavyHitterTracker.HotRequest::count).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(all.stream().mapToLong(HeavyHitterTracker.HotRequest::count).sum()).isEqualTo(101);
+        assertThat(all).filteredOn(hot -> hot.key().getJobRole().equals("백엔드 개발자")).singleElement()
+                .satisfies(hot -> assertThat(hot.count() - hot.error()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("감쇠하면 빈도가 절반이 되고 0이 된 키는 제거")
+    void decay_HalvesCounts() {
+        // Given
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+        for (int i = 0; i < 4; i++) {
+            tracker.record(request("백엔드 개발자", "Java"));
+        }
+        tracker.record(request("프론트엔드 개발자", "React"));
+
+        // When
+        tracker.decay();
+
+        // Then
+        assertThat(tracker.topK(10)).singleElement()
+                .extracting(HeavyHitterTracker.HotRequest::count).isEqualTo(2L);
+        assertThat(tracker.getTrackedCount()).isEqualTo(1);
+
+        // 감쇠 후에도 이어서 기록 가능
+        tracker.record(request("백엔드 개발자", "Java"));
+        tracker.record(request("프론트엔드 개발자", "React"));
+        assertThat(tracker.topK(10)).extracting(HeavyHitterTracker.HotRequest::count).containsExactly(3L, 1L);
+    }
+
+    private static ResumeInfoRequest request(String jobRole, String... skills) {
+        return new ResumeInfoRequest("3년차 개발자", jobRole, List.of(skills));
+    }
+}
@@ -0,0 +1,103 @@
+package com.careercoach.careercoachapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InFlightRequestCoalescer 테스트")
+class InFlightRequestCoalescerTest {
+
+    private final InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 업스트림을 한 번만 호출하고 결과를 공유")
+    void execute_SameKey_SharesSingleUpstreamCall() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+        Function<GenerationListener<String>, Mono<String>> call = listener -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        // When
+        CompletableFuture<String> leader = coalescer.execute("key", GenerationListener.none(), call).toFuture();
+        CompletableFuture<String> follower = coalescer.execute("key", GenerationListener.none(), call).toFuture();
+        upstream.tryEmitValue("결과");
+
+        // Then
+        assertThat(leader.join()).isEqualTo("결과");
+        assertThat(follower.join()).isEqualTo("결과");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(1);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("선행 호출이 실패하면 합류한 요청도 모두 실패")
+    void execute_LeaderFails_FollowersFail() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        Function<GenerationListener<String>, Mono<String>> call = listener -> upstream.asMono();
+
+        CompletableFuture<String> leader = coalescer.execute("key", GenerationListener.none(), call).toFuture();
+        CompletableFuture<String> follower = coalescer.execute("key", GenerationListener.none(), call).toFuture();
+
+        // When
+        upstream.tryEmitError(new IllegalStateException("업스트림 실패"));
+
+        // Then
+        assertThat(leader).isCompletedExceptionally();
+        assertThat(follower).isCompletedExceptionally();
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 이벤트는 모든 구독자에게 전달되고, 한 구독자의 실패는 격리됨")
+    void execute_BroadcastsProgressAndIsolatesFailingListener() {
+        // Given
+        AtomicReference<GenerationListener<String>> sharedListener = new AtomicReference<>();
+        Sinks.One<String> upstream = Sinks.one();
+        Function<GenerationListener<String>, Mono<String>> call = listener -> {
+            sharedListener.set(listener);
+            return upstream.asMono();
+        };
+
+        List<String> received = new ArrayList<>();
+        GenerationListener<String> failing = new GenerationListener<>() {
+            @Override
+            public void onDelta(String delta) {
+                throw new IllegalStateException("연결 종료");
+            }
+        };
+        GenerationListener<String> healthy = new GenerationListener<>() {
+            @Override
+            public void onDelta(String delta) {
+                received.add(delta);
+            }
+        };
+
+        CompletableFuture<String> first = coalescer.execute("key", failing, call).toFuture();
+        CompletableFuture<String> second = coalescer.execute("key", healthy, call).toFuture();
+
+        // When
+        sharedListener.get().onDelta("토큰1");
+        sharedListener.get().onDelta("토큰2");
+        upstream.tryEmitValue("결과");
+
+        // Then
+        assertThat(received).containsExactly("토큰1", "토큰2");
+        assertThat(first.join()).isEqualTo("결과");
+        assertThat(second.join()).isEqualTo("결과");
+    }
+}
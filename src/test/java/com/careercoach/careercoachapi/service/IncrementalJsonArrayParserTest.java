@@ -0,0 +1,74 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IncrementalJsonArrayParser 테스트")
+class IncrementalJsonArrayParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("문자열 배열 요소를 닫는 따옴표 도착 즉시 반환")
+    void feed_StringElements_EmittedAsSoonAsClosed() {
+        // Given
+        IncrementalJsonArrayParser<String> parser =
+                new IncrementalJsonArrayParser<>("questions", String.class, objectMapper);
+
+        // When
+        List<String> first = parser.feed("{\"questions\": [\"질문1\", \"질");
+        List<String> second = parser.feed("문2\"");
+
+        // Then
+        assertThat(first).containsExactly("질문1");
+        assertThat(second).containsExactly("질문2");
+        assertThat(parser.isArrayClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이스케이프, 괄호가 포함된 문자열과 다른 필드는 무시")
+    void feed_EscapedCharactersAndOtherFields() {
+        // Given
+        String json = "{\"intro\": \"[무시], \\\"키\\\"\", \"questions\": [\"\\\"따옴표\\\", 쉼표]\", \"둘째\"],"
+                + " \"techSkills\": [\"Java\"]}";
+        IncrementalJsonArrayParser<String> parser =
+                new IncrementalJsonArrayParser<>("questions", String.class, objectMapper);
+
+        // When - 한 글자씩 입력
+        List<String> results = new ArrayList<>();
+        for (char c : json.toCharArray()) {
+            results.addAll(parser.feed(String.valueOf(c)));
+        }
+
+        // Then
+        assertThat(results).containsExactly("\"따옴표\", 쉼표]", "둘째");
+        assertThat(parser.isArrayClosed()).isTrue();
+        assertThat(parser.getElementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("객체 배열 요소를 닫는 중괄호 도착 즉시 역직렬화")
+    void feed_ObjectElements_Deserialized() {
+        // Given
+        IncrementalJsonArrayParser<LearningRecommendation> parser =
+                new IncrementalJsonArrayParser<>("recommendations", LearningRecommendation.class, objectMapper);
+
+        // When
+        List<LearningRecommendation> first = parser.feed(
+                "{\"recommendations\": [{\"title\": \"Kafka {심화}\", \"priority\": \"HIGH\"}, {\"title\"");
+        List<LearningRecommendation> second = parser.feed(
+                ": \"AWS\", \"priority\": \"LOW\"}], \"overallAssessment\": \"좋습니다\"}");
+
+        // Then
+        assertThat(first).extracting(LearningRecommendation::getTitle).containsExactly("Kafka {심화}");
+        assertThat(second).extracting(LearningRecommendation::getPriority).containsExactly("LOW");
+        assertThat(parser.isArrayClosed()).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import com.careercoach.careercoachapi.exception.UpstreamUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LlmRouter 테스트")
+class LlmRouterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final OpenAiResponseDecoder responseDecoder = new OpenAiResponseDecoder(objectMapper);
+    private final StubLlmProvider stubProvider = new StubLlmProvider(objectMapper, responseDecoder, Duration.ZERO);
+
+    @Test
+    @DisplayName("쉼표로 나열한 경로를 순서대로 해석하고 작업별 생성 옵션을 적용")
+    void parseRoutes_OrderedWithTaskOptions() {
+        // When
+        List<ModelRoute> routes = LlmRouter.parseRoutes("interview", "openai:gpt-4o-mini, stub:local",
+                1200, 0.7, Duration.ofSeconds(20));
+
+        // Then
+        assertThat(routes).extracting(ModelRoute::provider).containsExactly("openai", "stub");
+        assertThat(routes).extracting(ModelRoute::model).containsExactly("gpt-4o-mini", "local");
+        assertThat(routes.get(1).maxTokens()).isEqualTo(1200);
+        assertThat(routes.get(1).timeout()).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 제공자를 가리키는 경로는 시작 시 거부")
+    void constructor_UnknownProvider_Throws() {
+        List<ModelRoute> routes = LlmRouter.parseRoutes("interview", "unknown:model", 1200, 0.7, Duration.ofSeconds(20));
+
+        assertThatThrownBy(() -> new LlmRouter(List.of(stubProvider), Map.of("interview", routes)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    @DisplayName("타임아웃/서킷 브레이커 열림은 폴백, 파싱 실패와 동시성 제한기 허가 대기 초과는 폴백하지 않음")
+    void isFallbackable_ClassifiesErrors() {
+        assertThat(LlmRouter.isFallbackable(new RuntimeException("AI 서비스 호출에 실패했습니다.", new TimeoutException())))
+                .isTrue();
+        assertThat(LlmRouter.isFallbackable(new UpstreamUnavailableException("AI 서비스가 일시적으로 응답하지 않습니다.")))
+                .isTrue();
+        assertThat(LlmRouter.isFallbackable(new IllegalStateException("AI 응답 JSON 파싱 실패"))).isFalse();
+        assertThat(LlmRouter.isFallbackable(new ConcurrencyLimitExceededException("AI 서비스 요청이 많아 처리하지 못했습니다.")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("스텁 제공자는 네트워크 없이 작업 형식에 맞는 응답과 사용량을 반환")
+    void stubProvider_ReturnsTaskShapedContent() {
+        // Given
+        ModelRoute route = new ModelRoute("interview", StubLlmProvider.NAME, "local", 1200, 0.7, Duration.ofSeconds(20));
+        AtomicReference<TokenUsage> usage = new AtomicReference<>();
+
+        // When
+        InterviewQuestionsResponse response = stubProvider.complete(route, "프롬프트",
+                responseDecoder.readerFor(InterviewQuestionsResponse.class), usage::set).block();
+        String streamed = String.join("", stubProvider.stream(route, "프롬프트", usage::set).collectList().block());
+
+        // Then
+        assertThat(response.getQuestions()).hasSize(5);
+        assertThat(usage.get().getCompletionTokens()).isPositive();
+        assertThat(streamed).startsWith("{\"questions\"");
+    }
+}
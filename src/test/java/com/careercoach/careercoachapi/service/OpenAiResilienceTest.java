@@ -0,0 +1,201 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.ConcurrencyLimitExceededException;
+import com.careercoach.careercoachapi.exception.UpstreamUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OpenAiResilience 테스트")
+class OpenAiResilienceTest {
+
+    @Test
+    @DisplayName("503 응답은 백오프 후 재시도하여 성공")
+    void execute_ServiceUnavailable_RetriesThenSucceeds() {
+        // Given
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.error(wrapped(503, new HttpHeaders()))
+                : Mono.just("완료"));
+
+        // When
+        String result = resilience.execute("openai", "interview", attempt).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo("완료");
+        assertThat(calls).hasValue(2);
+        assertThat(resilience.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("400 응답은 재시도하지 않음")
+    void execute_BadRequest_DoesNotRetry() {
+        // Given
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(wrapped(400, new HttpHeaders()));
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> resilience.execute("openai", "interview", attempt).block(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(WebClientResponseException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(resilience.getRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대 허용 시간보다 길면 재시도하지 않고, 짧으면 Retry-After 읽기")
+    void retryAfter_ReadsHeaders() {
+        // Given
+        HttpHeaders longWait = new HttpHeaders();
+        longWait.set(HttpHeaders.RETRY_AFTER, "120");
+        HttpHeaders millis = new HttpHeaders();
+        millis.set("retry-after-ms", "350");
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(wrapped(429, longWait));
+        });
+
+        // When & Then
+        assertThat(OpenAiResilience.retryAfter(wrapped(429, millis))).isEqualTo(Duration.ofMillis(350));
+        assertThat(OpenAiResilience.retryAfter(wrapped(429, longWait))).isEqualTo(Duration.ofSeconds(120));
+        assertThatThrownBy(() -> resilience.execute("openai", "interview", attempt).block(Duration.ofSeconds(5)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커가 열리면 해당 업스트림은 호출하지 않고 즉시 실패, 다른 업스트림은 호출")
+    void execute_CircuitOpen_FailsFast() {
+        // Given - 최근 2회 중 실패율 50% 이상이면 OPEN
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(2, 2, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(wrapped(500, new HttpHeaders()));
+        });
+        assertThatThrownBy(() -> resilience.execute("openai", "interview", failing).block(Duration.ofSeconds(5)));
+        int callsBeforeOpen = calls.get();
+
+        // When & Then
+        assertThat(resilience.getCircuitState("openai")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> resilience.execute("openai", "interview", failing).block(Duration.ofSeconds(5)))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(calls).hasValue(callsBeforeOpen);
+        assertThat(resilience.execute("openai-fallback", "interview", Mono.just("완료")).block()).isEqualTo("완료");
+    }
+
+    @Test
+    @DisplayName("동시성 제한기 허가 대기 초과는 재시도하지 않고 서킷 브레이커를 열지 않음")
+    void execute_ConcurrencyLimitExceeded_KeepsCircuitClosed() {
+        // Given - limit 1을 다른 호출이 점유, 최근 2회 중 실패율 50% 이상이면 OPEN
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(2, 2, 0.5, Duration.ofSeconds(30)));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0,
+                Duration.ofSeconds(10), Duration.ofMillis(50));
+        Disposable occupying = limiter.limit("interview", Mono.never()).subscribe();
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> attempt = limiter.limit("interview", Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return "완료";
+        }));
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> resilience.execute("openai", "interview", attempt).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(ConcurrencyLimitExceededException.class);
+        }
+        assertThat(resilience.getCircuitState("openai")).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(resilience.getRetryCount()).isZero();
+        assertThat(limiter.getAcquireTimeoutCount()).isEqualTo(3);
+        assertThat(calls).hasValue(0);
+        occupying.dispose();
+    }
+
+    @Test
+    @DisplayName("스트리밍은 첫 조각을 받은 뒤 실패하면 재시도하지 않음")
+    void executeStreaming_FailsAfterFirstElement_DoesNotRetry() {
+        // Given
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+        Flux<String> attempt = Flux.defer(() -> {
+            calls.incrementAndGet();
+            return Flux.just("{\"questions\":[").concatWith(Flux.error(wrapped(502, new HttpHeaders())));
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> resilience.executeStreaming("openai", attempt).blockLast(Duration.ofSeconds(5)));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 시험 호출을 조각을 받은 뒤 일찍 끊으면 성공으로 보고 CLOSED, 첫 조각 전에 끊으면 결과 없음")
+    void executeStreaming_CancelledAfterFirstElement_ClosesHalfOpenCircuit() {
+        // Given - 열림 시간 0: 실패로 OPEN이 되면 바로 HALF_OPEN
+        OpenAiResilience resilience = resilience(() -> new CircuitBreaker(2, 2, 0.5, Duration.ZERO));
+        assertThatThrownBy(() -> resilience.execute("openai", "interview",
+                Mono.error(wrapped(500, new HttpHeaders()))).block(Duration.ofSeconds(5)));
+        assertThat(resilience.getCircuitState("openai")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // When - 첫 조각 전에 취소: 시험 호출만 반환하고 상태는 그대로
+        resilience.executeStreaming("openai", Flux.never()).subscribe().dispose();
+
+        // Then
+        assertThat(resilience.getCircuitState("openai")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // When - 필요한 조각만 받고 [DONE] 전에 취소 (takeUntil과 같은 조기 종료)
+        Flux<String> stream = Flux.just("{\"questions\":[", "{\"question\":\"Q1\"}").concatWith(Flux.never());
+        assertThat(resilience.executeStreaming("openai", stream).take(2).collectList().block(Duration.ofSeconds(5)))
+                .hasSize(2);
+
+        // Then
+        assertThat(resilience.getCircuitState("openai")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태의 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN")
+    void circuitBreaker_HalfOpenTrial() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, Duration.ZERO);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        // When & Then - 열림 시간이 지나면 시험 호출 하나만 허용
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static OpenAiResilience resilience(Supplier<CircuitBreaker> circuitBreakerFactory) {
+        return new OpenAiResilience(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5, Duration.ofSeconds(20),
+                false, 0.95, 20, circuitBreakerFactory);
+    }
+
+    /**
+     * 서비스 계층과 같이 RuntimeException으로 감싼 WebClient 응답 오류
+     */
+    private static RuntimeException wrapped(int status, HttpHeaders headers) {
+        return new RuntimeException("AI 서비스 호출에 실패했습니다.",
+                WebClientResponseException.create(status, "error", headers, null, null));
+    }
+}
@@ -0,0 +1,143 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.careercoach.careercoachapi.dto.response.LearningRecommendation;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OpenAiResponseDecoder 테스트")
+class OpenAiResponseDecoderTest {
+
+    private static final int RECOMMENDATION_COUNT = 6;  // 프롬프트 상한 (4-6개)
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final OpenAiResponseDecoder decoder = new OpenAiResponseDecoder(objectMapper);
+
+    @Test
+    @DisplayName("choices[0].message.content를 대상 타입으로 변환하고 usage를 전달")
+    void decodeCompletion_ReadsContentAndUsage() throws Exception {
+        // Given
+        byte[] body = completionBody(2);
+        AtomicReference<TokenUsage> usage = new AtomicReference<>();
+
+        // When
+        LearningPathResponse response = decoder.decodeCompletion(new ByteArrayInputStream(body),
+                decoder.readerFor(LearningPathResponse.class), usage::set);
+
+        // Then
+        assertThat(response.getRecommendations()).hasSize(2);
+        assertThat(response.getRecommendations().get(0).getTitle()).isEqualTo("학습 \"주제\" 0");
+        assertThat(usage.get().getPromptTokens()).isEqualTo(812);
+        assertThat(usage.get().getCachedTokens()).isEqualTo(512);
+    }
+
+    @Test
+    @DisplayName("content가 없으면 IllegalStateException")
+    void decodeCompletion_MissingContent_Throws() {
+        byte[] body = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> decoder.decodeCompletion(new ByteArrayInputStream(body),
+                decoder.readerFor(LearningPathResponse.class), usage -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("p99 크기 응답에서 String/Map 왕복 방식보다 할당량이 적음")
+    void decodeCompletion_AllocatesLessThanMapRoundTrip() throws Exception {
+        // Given - 최대 추천 항목 수와 긴 설명으로 구성한 p99 크기의 응답
+        byte[] body = completionBody(RECOMMENDATION_COUNT);
+
+        // 워밍업 (클래스 로딩, 역직렬화기 캐시)
+        for (int i = 0; i < ITERATIONS; i++) {
+            decodeWithMapRoundTrip(body);
+            decodeStreaming(body);
+        }
+
+        // When
+        long mapRoundTrip = allocatedBytesPerCall(() -> decodeWithMapRoundTrip(body));
+        long streaming = allocatedBytesPerCall(() -> decodeStreaming(body));
+        System.out.printf("응답 %d bytes - Map 왕복: %d bytes/op, 스트리밍 디코딩: %d bytes/op%n",
+                body.length, mapRoundTrip, streaming);
+
+        // Then
+        assertThat(streaming).isLessThan(mapRoundTrip);
+    }
+
+    /**
+     * 기존 방식: 본문 String → Map → content String → DTO
+     */
+    @SuppressWarnings("unchecked")
+    private LearningPathResponse decodeWithMapRoundTrip(byte[] body) throws Exception {
+        String result = new String(body, StandardCharsets.UTF_8);
+        Map<String, Object> responseMap = objectMapper.readValue(result, Map.class);
+        String content = (String) ((Map<String, Object>) ((Map<String, Object>)
+                ((List<?>) responseMap.get("choices")).get(0)).get("message")).get("content");
+        return objectMapper.readValue(content, LearningPathResponse.class);
+    }
+
+    private LearningPathResponse decodeStreaming(byte[] body) throws Exception {
+        return decoder.decodeCompletion(new ByteArrayInputStream(body),
+                decoder.readerFor(LearningPathResponse.class), usage -> { });
+    }
+
+    private long allocatedBytesPerCall(ThrowingRunnable call) throws Exception {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        return (threadBean.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    private byte[] completionBody(int recommendationCount) throws Exception {
+        List<LearningRecommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < recommendationCount; i++) {
+            recommendations.add(LearningRecommendation.builder()
+                    .category("기술스킬")
+                    .title("학습 \"주제\" " + i)
+                    .description("분산 시스템 설계와 대용량 트래픽 처리 경험을 쌓기 위한 심화 학습 과정입니다. ".repeat(7))
+                    .priority("HIGH")
+                    .estimatedDuration("2-3개월")
+                    .learningMethod("프로젝트")
+                    .reason("목표 직무에서 요구하는 핵심 역량이며 현재 경력에서 보완이 필요한 영역입니다. ".repeat(4))
+                    .build());
+        }
+        String content = objectMapper.writeValueAsString(Map.of(
+                "recommendations", recommendations,
+                "targetJobRole", "백엔드 개발자",
+                "currentTechSkills", List.of("Java", "Spring Boot", "MySQL", "Redis", "Kafka"),
+                "overallAssessment", "전반적으로 탄탄한 기본기를 갖추고 있으며 아키텍처 경험을 보완하면 좋습니다. ".repeat(8)));
+
+        return objectMapper.writeValueAsBytes(Map.of(
+                "id", "chatcmpl-test",
+                "object", "chat.completion",
+                "model", "gpt-4o-mini",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")),
+                "usage", Map.of(
+                        "prompt_tokens", 812,
+                        "completion_tokens", 2100,
+                        "prompt_tokens_details", Map.of("cached_tokens", 512))));
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,97 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.SessionInfo;
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 Redis 컨테이너를 대상으로 한 세션 저장소 테스트 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisSessionStore 테스트")
+class RedisSessionStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("한 노드가 기록한 세션 정보를 다른 노드의 저장소 인스턴스에서 조회")
+    void saveAndFind_SharedAcrossNodes() {
+        // Given
+        SessionStore nodeA = new RedisSessionStore(redisTemplate, objectMapper, Duration.ofMinutes(1), Duration.ofHours(1));
+        SessionStore nodeB = new RedisSessionStore(redisTemplate, objectMapper, Duration.ofMinutes(1), Duration.ofHours(1));
+        SessionInfo info = SessionInfo.builder()
+                .sessionId("stream-redis-1")
+                .status("PROCESSING")
+                .createdAt(1_000L)
+                .updatedAt(2_000L)
+                .tokenUsage(TokenUsage.builder().promptTokens(120).completionTokens(80).build())
+                .build();
+
+        // When
+        nodeA.save(new SessionRecord(info, "node-a", "http://node-a:8080"));
+        Optional<SessionRecord> found = nodeB.find("stream-redis-1");
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().ownerNode()).isEqualTo("node-a");
+        assertThat(found.get().ownerUrl()).isEqualTo("http://node-a:8080");
+        assertThat(found.get().info().getStatus()).isEqualTo("PROCESSING");
+        assertThat(found.get().info().getTokenUsage().getTotalTokens()).isEqualTo(200);
+        assertThat(redisTemplate.getExpire("career-coach:session:stream-redis-1")).isPositive();
+
+        nodeA.remove("stream-redis-1");
+        assertThat(nodeB.find("stream-redis-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성 결과를 저장한 노드는 세션 정보를 지운 뒤에도 다른 노드에서 조회")
+    void resultOwner_SharedAcrossNodes() {
+        // Given
+        SessionStore nodeA = new RedisSessionStore(redisTemplate, objectMapper, Duration.ofMinutes(1), Duration.ofHours(1));
+        SessionStore nodeB = new RedisSessionStore(redisTemplate, objectMapper, Duration.ofMinutes(1), Duration.ofHours(1));
+
+        // When
+        nodeA.saveResultOwner("session:stream-redis-2", new ResultOwner("node-a", "http://node-a:8080"));
+        nodeA.remove("stream-redis-2");
+
+        // Then
+        assertThat(nodeB.findResultOwner("session:stream-redis-2"))
+                .contains(new ResultOwner("node-a", "http://node-a:8080"));
+        assertThat(nodeB.findResultOwner("session:unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,110 @@
+package com.careercoach.careercoachapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SessionExpiryWheel 테스트")
+class SessionExpiryWheelTest {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> expired = new ArrayList<>();
+    private final List<Integer> perTick = new ArrayList<>();
+    private final SessionExpiryWheel<String> wheel = new SessionExpiryWheel<>(TICK, 8, expired::add, clock::get);
+
+    @Test
+    @DisplayName("만료 시각이 속한 tick에서 만료하고 tick별 만료 수를 알림")
+    void advance_ExpiresAtDeadlineTick() {
+        // Given
+        wheel.setTickListener(perTick::add);
+        wheel.schedule("a", Duration.ofSeconds(3));
+        wheel.schedule("b", Duration.ofSeconds(3));
+        wheel.schedule("c", Duration.ofSeconds(5));
+
+        // When & Then
+        advanceTo(2);
+        assertThat(expired).isEmpty();
+
+        advanceTo(3);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b");
+
+        advanceTo(5);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(perTick).containsExactly(0, 0, 2, 0, 1);
+        assertThat(wheel.getPendingCount()).isZero();
+        assertThat(wheel.getExpiredCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("활동으로 연장하면 원래 만료 시각을 지나도 유지되고, 앞당기면 새 시각에 만료")
+    void reschedule_ExtendsAndShortens() {
+        // Given
+        SessionExpiryWheel.Timeout<String> extended = wheel.schedule("extended", Duration.ofSeconds(3));
+        SessionExpiryWheel.Timeout<String> shortened = wheel.schedule("shortened", Duration.ofSeconds(30));
+
+        // When
+        advanceTo(2);
+        wheel.reschedule(extended, Duration.ofSeconds(3));   // 5초로 연장
+        wheel.reschedule(shortened, Duration.ofSeconds(1));  // 3초로 앞당김
+
+        // Then
+        advanceTo(3);
+        assertThat(expired).containsExactly("shortened");
+        assertThat(extended.isExpired(clock.get())).isFalse();
+
+        advanceTo(5);
+        assertThat(expired).containsExactly("shortened", "extended");
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 만료 시각은 다음 바퀴에 만료되고, 취소한 항목은 만료되지 않음")
+    void advance_MultipleRoundsAndCancel() {
+        // Given - 슬롯 8개 = 한 바퀴 8초
+        wheel.schedule("far", Duration.ofSeconds(20));
+        SessionExpiryWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Duration.ofSeconds(4));
+
+        // When
+        wheel.cancel(cancelled);
+        advanceTo(19);
+
+        // Then
+        assertThat(expired).isEmpty();
+        advanceTo(20);
+        assertThat(expired).containsExactly("far");
+        assertThat(cancelled.isExpired(clock.get())).isTrue();
+        assertThat(wheel.reschedule(cancelled, Duration.ofSeconds(10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료하면 tick 스레드가 멈춰 더 이상 만료 처리하지 않음")
+    void close_StopsWorker() throws Exception {
+        // Given
+        List<String> expiredByWorker = new CopyOnWriteArrayList<>();
+        SessionExpiryWheel<String> running = new SessionExpiryWheel<>(Duration.ofMillis(10), 8, expiredByWorker::add);
+        running.schedule("a", Duration.ofMillis(50));
+
+        // When
+        running.close();
+        running.schedule("b", Duration.ofMillis(50));
+        Thread.sleep(200);
+
+        // Then
+        assertThat(expiredByWorker).isEmpty();
+        assertThat(running.getExpiredCount()).isZero();
+        assertThat(running.getPendingCount()).isEqualTo(2);
+    }
+
+    private void advanceTo(long seconds) {
+        clock.set(TICK.toNanos() * seconds);
+        wheel.advance();
+    }
+}
@@ -0,0 +1,35 @@
+package com.careercoach.careercoachapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SessionRelay 테스트")
+class SessionRelayTest {
+
+    @Test
+    @DisplayName("중계 헤더는 공유 비밀값과 같을 때만 신뢰")
+    void isTrustedRelay_RequiresSharedSecret() {
+        // Given
+        SessionRelay relay = new SessionRelay(WebClient.builder(), "relay-secret");
+
+        // When & Then
+        assertThat(relay.isTrustedRelay("relay-secret")).isTrue();
+        assertThat(relay.isTrustedRelay("true")).isFalse();
+        assertThat(relay.isTrustedRelay("")).isFalse();
+        assertThat(relay.isTrustedRelay(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("공유 비밀값이 없으면 어떤 헤더도 신뢰하지 않음")
+    void isTrustedRelay_NoSecret_NeverTrusted() {
+        // Given
+        SessionRelay relay = new SessionRelay(WebClient.builder(), "");
+
+        // When & Then
+        assertThat(relay.isTrustedRelay("")).isFalse();
+        assertThat(relay.isTrustedRelay("true")).isFalse();
+    }
+}
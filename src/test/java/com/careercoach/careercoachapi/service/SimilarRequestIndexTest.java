@@ -0,0 +1,148 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.request.ResumeInfoRequest;
+import com.careercoach.careercoachapi.config.SimilarityConfig;
+import com.careercoach.careercoachapi.dto.response.InterviewQuestionsResponse;
+import com.careercoach.careercoachapi.dto.response.LearningPathResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("SimilarRequestIndex 테스트")
+class SimilarRequestIndexTest {
+
+    private static final String SUMMARY = "5년차 Java/Spring 백엔드 개발자로 대규모 트래픽 커머스 서비스의 주문/결제 도메인을 담당했습니다.";
+    private static final String FEW_WORDS_CHANGED = "5년차 Java/Spring 백엔드 개발자로 대규모 커머스 서비스의 주문/결제 도메인을 담당했습니다.";
+
+    @Test
+    @DisplayName("기술 스킬의 다른 표기는 같은 정규화 키가 됨")
+    void canonicalKey_NormalizesSkillSynonyms() {
+        // When
+        CanonicalRequestKey key = key("백엔드 개발자", SUMMARY, "SpringBoot", "K8s", "Node.js");
+
+        // Then
+        assertThat(key).isEqualTo(key("백엔드 개발자", SUMMARY, "spring-boot", "Kubernetes", "node"));
+        assertThat(key.getTechSkills()).containsExactly("kubernetes", "nodejs", "springboot");
+    }
+
+    @Test
+    @DisplayName("표기만 다른 스킬은 합치고, 뜻이 다른 스킬과 모호한 약어는 합치지 않음")
+    void canonicalize_CollapsesSpellingsButKeepsDistinctSkills() {
+        // When & Then
+        assertThat(SkillSynonyms.canonicalize("SpringBoot")).isEqualTo("springboot");
+        assertThat(SkillSynonyms.canonicalize("Spring Boot")).isEqualTo("springboot");
+        assertThat(SkillSynonyms.canonicalize("spring-boot")).isEqualTo("springboot");
+
+        assertThat(SkillSynonyms.canonicalize("TensorFlow")).isEqualTo("tensorflow");
+        assertThat(SkillSynonyms.canonicalize("Terraform")).isEqualTo("terraform");
+        assertThat(SkillSynonyms.canonicalize("TF")).isEqualTo("tf");
+        assertThat(key("백엔드 개발자", SUMMARY, "TensorFlow"))
+                .isNotEqualTo(key("백엔드 개발자", SUMMARY, "Terraform"));
+    }
+
+    @Test
+    @DisplayName("직무/스킬이 같고 경력 요약이 조금 다른 요청은 찾고, 스킬이 다르거나 요약이 전혀 다르면 찾지 않음")
+    void findSimilar_MatchesNearDuplicatesOnly() {
+        // Given
+        SimilarRequestIndex index = new SimilarRequestIndex(true, 0.7, 100);
+        CanonicalRequestKey stored = key("백엔드 개발자", SUMMARY, "Java", "Spring Boot");
+        index.add(stored);
+
+        // When & Then
+        assertThat(index.findSimilar(key("백엔드 개발자", FEW_WORDS_CHANGED, "java", "SpringBoot")))
+                .singleElement()
+                .satisfies(match -> {
+                    assertThat(match.key()).isEqualTo(stored);
+                    assertThat(match.similarity()).isGreaterThanOrEqualTo(0.7);
+                });
+        assertThat(index.findSimilar(key("백엔드 개발자", FEW_WORDS_CHANGED, "Java", "Kafka"))).isEmpty();
+        assertThat(index.findSimilar(key("프론트엔드 개발자", FEW_WORDS_CHANGED, "Java", "Spring Boot"))).isEmpty();
+        assertThat(index.findSimilar(key("백엔드 개발자", "2년차 사내 어드민 화면 개발", "Java", "Spring Boot"))).isEmpty();
+        assertThat(index.findSimilar(stored)).isEmpty();  // 같은 키는 제외
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래된 항목부터 교체")
+    void add_EvictsOldestBeyondCapacity() {
+        // Given
+        SimilarRequestIndex index = new SimilarRequestIndex(true, 0.7, 2);
+
+        // When
+        index.add(key("백엔드 개발자", SUMMARY, "Java"));
+        index.add(key("데이터 엔지니어", SUMMARY, "Spark"));
+        index.add(key("DevOps 엔지니어", SUMMARY, "AWS"));
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findSimilar(key("백엔드 개발자", FEW_WORDS_CHANGED, "Java"))).isEmpty();
+        assertThat(index.findSimilar(key("DevOps 엔지니어", FEW_WORDS_CHANGED, "AWS"))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("사용 설정인데 최대 항목 수가 0 이하이면 생성 시 실패")
+    void constructor_RejectsNonPositiveCapacity() {
+        // When & Then
+        assertThatThrownBy(() -> new SimilarRequestIndex(true, 0.7, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("max-entries");
+        assertThat(new SimilarRequestIndex(false, 0.7, 0).findSimilar(key("백엔드 개발자", SUMMARY, "Java"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 캐시 두 곳에서 모두 제거된 키는 색인에서도 제거하고, 비워진 슬롯은 다시 채움")
+    void resultCacheEviction_RemovesKeyFromIndex() {
+        // Given
+        SimilarRequestIndex index = new SimilarRequestIndex(true, 0.7, 2);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS);
+        new SimilarityConfig().similarRequestIndexPruning("maximumSize=100", index).customize(cacheManager);
+        CoachingResultCache cache = new CoachingResultCache(cacheManager, index);
+        CanonicalRequestKey stored = key("백엔드 개발자", SUMMARY, "Java", "Spring Boot");
+        cache.putInterviewQuestions(stored, InterviewQuestionsResponse.builder().questions(List.of("질문")).build());
+        cache.putLearningPath(stored, LearningPathResponse.builder().build());
+
+        // When
+        cacheManager.getCache(CoachingResultCache.INTERVIEW_QUESTIONS).evict(stored);
+        cacheManager.getCache(CoachingResultCache.LEARNING_PATHS).evict(stored);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> index.size() == 0);
+        assertThat(index.findSimilar(key("백엔드 개발자", FEW_WORDS_CHANGED, "Java", "Spring Boot"))).isEmpty();
+
+        index.add(key("데이터 엔지니어", SUMMARY, "Spark"));
+        index.add(key("DevOps 엔지니어", SUMMARY, "AWS"));
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findSimilar(key("데이터 엔지니어", FEW_WORDS_CHANGED, "Spark"))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 키가 캐시에 없으면 비슷한 요청의 결과를 재사용")
+    void resultCache_ReusesSimilarResult() {
+        // Given
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CoachingResultCache.INTERVIEW_QUESTIONS, CoachingResultCache.LEARNING_PATHS);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100));
+        CoachingResultCache cache = new CoachingResultCache(cacheManager, new SimilarRequestIndex(true, 0.7, 100));
+        cache.putInterviewQuestions(key("백엔드 개발자", SUMMARY, "Java", "Spring Boot"),
+                InterviewQuestionsResponse.builder().questions(List.of("트랜잭션 격리 수준을 설명해주세요.")).build());
+
+        // When
+        InterviewQuestionsResponse reused = cache.getInterviewQuestions(key("백엔드 개발자", FEW_WORDS_CHANGED, "JAVA", "SpringBoot"));
+
+        // Then
+        assertThat(reused.getQuestions()).containsExactly("트랜잭션 격리 수준을 설명해주세요.");
+        assertThat(cache.getSimilarHitCount()).isEqualTo(1);
+        assertThat(cache.getLearningPath(key("백엔드 개발자", FEW_WORDS_CHANGED, "Java", "Spring Boot"))).isNull();
+    }
+
+    private static CanonicalRequestKey key(String jobRole, String summary, String... skills) {
+        return CanonicalRequestKey.from(new ResumeInfoRequest(summary, jobRole, List.of(skills)));
+    }
+}
@@ -0,0 +1,232 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.exception.SessionResumeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SseSessionManager 테스트")
+class SseSessionManagerTest {
+
+    private final SseSessionManager sessionManager = new SseSessionManager();
+
+    @AfterEach
+    void tearDown() {
+        sessionManager.shutdown();  // 세션 만료 tick 스레드 종료
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트만 재전송한 뒤 새 연결로 이어서 전송")
+    void resume_ReplaysMissedEventsThenContinuesLive() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        sessionManager.createSession("s1", first);
+        for (int i = 1; i <= 5; i++) {
+            sessionManager.send("s1", event("delta"));
+        }
+
+        // When - 클라이언트는 3번까지 받고 끊긴 뒤 재연결
+        RecordingEmitter second = new RecordingEmitter();
+        sessionManager.resume("s1", 3L, second);
+        sessionManager.send("s1", event("completed"));
+
+        // Then
+        assertThat(first.ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(second.ids).containsExactly(4L, 5L, 6L);
+        assertThat(sessionManager.getResumedCount()).isEqualTo(1);
+        assertThat(sessionManager.getReplayedEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료된 스트림에 재연결하면 남은 이벤트만 받고 바로 종료")
+    void resume_FinishedStreamCompletesAfterReplay() {
+        // Given
+        sessionManager.createSession("s1", new RecordingEmitter());
+        sessionManager.send("s1", event("interview_complete"));
+        sessionManager.send("s1", event("completed"));
+        sessionManager.complete("s1");
+
+        // When
+        RecordingEmitter resumed = new RecordingEmitter();
+        sessionManager.resume("s1", 1L, resumed);
+
+        // Then
+        assertThat(resumed.ids).containsExactly(2L);
+        assertThat(resumed.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("놓친 이벤트가 버퍼에서 밀려났으면 410으로 거절")
+    void resume_EvictedEventsRejectedWithGone() {
+        // Given
+        ReflectionTestUtils.setField(sessionManager, "replayBufferSize", 2);
+        sessionManager.createSession("s1", new RecordingEmitter());
+        for (int i = 1; i <= 5; i++) {
+            sessionManager.send("s1", event("delta"));
+        }
+
+        // When & Then - 버퍼에는 4, 5번만 남아 있음
+        assertThatThrownBy(() -> sessionManager.resume("s1", 2L, new RecordingEmitter()))
+                .isInstanceOf(SessionResumeException.class)
+                .extracting("status").isEqualTo(410);
+        assertThatCode(() -> sessionManager.resume("s1", 3L, new RecordingEmitter()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("없는 세션에 재연결하면 404로 거절")
+    void resume_UnknownSessionRejectedWithNotFound() {
+        assertThatThrownBy(() -> sessionManager.resume("missing", 1L, new RecordingEmitter()))
+                .isInstanceOf(SessionResumeException.class)
+                .extracting("status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("같은 ID로 세션을 만들면 기존 세션을 덮어쓰지 않고 거절")
+    void createSession_DuplicateIdRejected() {
+        // Given
+        RecordingEmitter original = new RecordingEmitter();
+        sessionManager.createSession("s1", original);
+
+        // When & Then
+        assertThatThrownBy(() -> sessionManager.createSession("s1", new RecordingEmitter()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("s1");
+        assertThat(sessionManager.getEmitter("s1")).isSameAs(original);
+        assertThat(sessionManager.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 밀리초에 세션을 몰아서 만들어도 유실/중복 없이 생성")
+    void createSession_ConcurrentBurst_NoLostSessions() throws Exception {
+        // Given
+        int threads = 8;
+        int sessionsPerThread = 5_000;
+        SessionIdGenerator idGenerator = new SessionIdGenerator();
+        Set<String> createdIds = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < sessionsPerThread; i++) {
+                    String sessionId = "stream-" + idGenerator.nextId();
+                    sessionManager.createSession(sessionId, new SseEmitter());
+                    createdIds.add(sessionId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(createdIds).hasSize(threads * sessionsPerThread);
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(threads * sessionsPerThread);
+        assertThat(sessionManager.getDuplicateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 ID는 39자이며 생성 시각을 담고 생성 순서대로 정렬되고, 뒤 13자는 추측할 수 없는 난수")
+    void sessionIdGenerator_TimeOrderedAndUnique() {
+        // Given
+        SessionIdGenerator idGenerator = new SessionIdGenerator(42);
+        long before = System.currentTimeMillis();
+
+        // When
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(idGenerator.nextId());
+        }
+
+        // Then
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(SessionIdGenerator.LENGTH));
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        assertThat(ids).isSorted();
+        assertThat(SessionIdGenerator.timestampOf(ids.get(0)))
+                .isBetween(before, System.currentTimeMillis());
+        assertThat(ids.stream().map(id -> id.substring(26)).distinct()).hasSize(ids.size());  // 이웃 ID로 짐작 불가
+    }
+
+    @Test
+    @DisplayName("세션 저장소를 공유하는 다른 노드에서 상태를 조회하고 소유 노드를 찾음")
+    void sessionStore_SharedAcrossNodes() {
+        // Given
+        SessionStore sharedStore = new InMemorySessionStore();
+        SseSessionManager nodeA = new SseSessionManager(sharedStore, "node-a", "http://node-a:8080");
+        SseSessionManager nodeB = new SseSessionManager(sharedStore, "node-b", "http://node-b:8080");
+        nodeA.createSession("s1", new RecordingEmitter());
+
+        // When
+        nodeA.updateSessionStatus("s1", "PROCESSING");
+
+        // Then
+        assertThat(nodeB.getSessionInfo("s1").getStatus()).isEqualTo("PROCESSING");
+        assertThat(nodeB.findRemoteOwner("s1")).get()
+                .extracting(SessionRecord::ownerUrl).isEqualTo("http://node-a:8080");
+        assertThat(nodeA.findRemoteOwner("s1")).isEmpty();
+
+        nodeA.removeSession("s1");
+        assertThat(nodeB.getSessionInfo("s1")).isNull();
+        assertThat(nodeB.findRemoteOwner("s1")).isEmpty();
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    private static ServerSentEvent<Object> event(String name) {
+        return ServerSentEvent.<Object>builder().event(name).data("data").build();
+    }
+
+    /**
+     * 전송된 이벤트의 id를 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID_LINE = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+        private final List<Long> ids = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            Matcher matcher = ID_LINE.matcher(text);
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.careercoach.careercoachapi.service;
+
+import com.careercoach.careercoachapi.dto.response.TokenUsage;
+import com.careercoach.careercoachapi.dto.response.UsageStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenUsageTracker 테스트")
+class TokenUsageTrackerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TokenUsageTracker tracker = new TokenUsageTracker(registry);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "inputPricePerMillion", 1.0);
+        ReflectionTestUtils.setField(tracker, "cachedInputPricePerMillion", 0.5);
+        ReflectionTestUtils.setField(tracker, "outputPricePerMillion", 4.0);
+    }
+
+    @Test
+    @DisplayName("캐시된 입력 토큰은 캐시 단가로 비용 계산")
+    void estimateCost_CachedTokensUseCachedPrice() {
+        // Given
+        TokenUsage usage = TokenUsage.builder()
+                .promptTokens(1_000_000)
+                .cachedTokens(400_000)
+                .completionTokens(500_000)
+                .build();
+
+        // When
+        double cost = tracker.estimateCost("unlisted-model", usage);
+
+        // Then - 600,000 * 1.0 + 400,000 * 0.5 + 500,000 * 4.0 (100만 토큰당)
+        assertThat(cost).isCloseTo(2.8, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("모델별 단가가 있으면 호출한 모델의 단가로, 없으면 기본 단가로 비용 계산")
+    void record_UsesModelPrice() {
+        // Given
+        tracker.setModelPricing("gpt-4o-mini=0.15/0.075/0.60, gpt-4o=2.50/1.25/10.00");
+        TokenUsage usage = TokenUsage.builder().promptTokens(1_000_000).completionTokens(1_000_000).build();
+
+        // When
+        tracker.record("interview", "gpt-4o-mini", usage);
+        tracker.record("learning", "gpt-4o", usage);
+        tracker.record("learning", "unlisted-model", usage);
+
+        // Then
+        UsageStatsResponse stats = tracker.summarize(60);
+        assertThat(stats.getBreakdown())
+                .extracting(UsageStatsResponse::getModel, UsageStatsResponse::getEstimatedCostUsd)
+                .containsExactly(tuple("gpt-4o", 12.5), tuple("unlisted-model", 5.0), tuple("gpt-4o-mini", 0.75));
+        assertThatThrownBy(() -> tracker.setModelPricing("gpt-4o=2.50"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("구간 집계는 작업/모델별 합계와 전체 합계를 함께 반환")
+    void summarize_AggregatesByEndpointAndModel() {
+        // Given
+        tracker.record("interview", "gpt-4o-mini", TokenUsage.builder().promptTokens(100).completionTokens(50).build());
+        tracker.record("interview", "gpt-4o-mini", TokenUsage.builder().promptTokens(100).completionTokens(30).build());
+        tracker.record("learning", "gpt-4o-mini", TokenUsage.builder().promptTokens(200).completionTokens(300).build());
+
+        // When
+        UsageStatsResponse stats = tracker.summarize(60);
+
+        // Then
+        assertThat(stats.getRequestCount()).isEqualTo(3);
+        assertThat(stats.getPromptTokens()).isEqualTo(400);
+        assertThat(stats.getCompletionTokens()).isEqualTo(380);
+        assertThat(stats.getBreakdown()).hasSize(2);
+        assertThat(stats.getBreakdown())
+                .filteredOn(item -> item.getEndpoint().equals("interview"))
+                .singleElement()
+                .satisfies(item -> assertThat(item.getRequestCount()).isEqualTo(2));
+        assertThat(registry.get("coaching.openai.tokens").tag("type", "completion").counters()).isNotEmpty();
+    }
+}